@@ -4,6 +4,7 @@ import java.io.Serializable;
 import javax.faces.bean.ManagedBean;
 import javax.faces.bean.ViewScoped;
 import javax.faces.context.FacesContext;
+import model.AtualizadorAgregados;
 import model.Jogador;
 import model.JogadorDAO;
 
@@ -236,6 +237,8 @@ public class BeanJogador implements Serializable{
      * Método para pegar o jogador da sessão
      * <p>
      * Se existir um jogador na sessão, será consultado o jogador atualizado do banco.
+     * Antes da consulta, caso existam jogos do jogador aguardando a atualização assíncrona dos recordes, 
+     * será aguardada a sua conclusão (AtualizadorAgregados.aguardar), exibindo os recordes de seus próprios jogos.
      * Senão, um jogador vazio será instanciado.
      * </p>
      * @author Thiago Alexandre Buerger
@@ -249,6 +252,9 @@ public class BeanJogador implements Serializable{
             login = "";
             nome = "";
         } else{
+            if (AtualizadorAgregados.LEITURA_PROPRIA) {
+                AtualizadorAgregados.aguardar(jogador.getId());
+            }
             jogador = dao.buscarPorId(jogador.getId());
             login = jogador.getLogin();
             nome = jogador.getNome();
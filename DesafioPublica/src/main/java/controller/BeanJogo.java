@@ -4,6 +4,7 @@ import java.io.Serializable;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.List;
 import javax.faces.bean.ManagedBean;
 import javax.faces.bean.ViewScoped;
 import javax.faces.context.FacesContext;
@@ -12,8 +13,13 @@ import model.Jogo;
 import model.JogoDAO;
 import model.JogoFilter;
 import model.JogoPaginator;
+import model.LinhaJogo;
+import model.OpcaoTemporada;
+import model.Temporada;
 import model.TemporadaDAO;
 import org.primefaces.model.LazyDataModel;
+import util.Configuracao;
+import util.Memorizador;
 
 /**
  * Classe bean para objetos do tipo Jogo
@@ -28,6 +34,13 @@ import org.primefaces.model.LazyDataModel;
 @ViewScoped
 public class BeanJogo implements Serializable{
     
+    /**
+     * Quantidade máxima de sugestões exibidas pelo campo de seleção de temporada a cada tecla digitada
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private static final int LIMITE_SUGESTOES = Math.max(Configuracao.getInteiro("temporadas.sugestoes.limite", 10), 1);
+    
     /**
      * Objeto do tipo Jogo que será manipulado pelo bean
      * @author Thiago Alexandre Buerger
@@ -47,7 +60,7 @@ public class BeanJogo implements Serializable{
       * @author Thiago Alexandre Buerger
       * @version 1.0
       */
-    private LazyDataModel<Jogo> jogos;
+    private LazyDataModel<LinhaJogo> jogos;
     
     /**
       * Filtro para objeto Jogo utilizado para pesquisas e paginação
@@ -57,11 +70,11 @@ public class BeanJogo implements Serializable{
     private JogoFilter filtro;
     
     /**
-      * Valor retornado pelo selectOneMenu indicando qual a temporada selecionada pelo usuário
+      * Valor retornado pelo autoComplete indicando qual a temporada selecionada pelo usuário
       * @author Thiago Alexandre Buerger
       * @version 1.0
       */
-    private Integer idTemporada;
+    private OpcaoTemporada temporadaSelecionada;
     
     /**
       * Construtor do bean
@@ -70,7 +83,7 @@ public class BeanJogo implements Serializable{
       * O filtro de temporada deverá ser iniciado como null, retornando todos os jogos do jogador.<br>
       * O filtro de jogador deverá ser iniciado com o jogador da sessão.<br>
       * A lista de jogos deverá ser carregada utilizando o filtro configurado.<br>
-      * O jogo e o idTemporada deverão ser iniciados com valores vazios.
+      * O jogo e a temporadaSelecionada deverão ser iniciados com valores vazios.
       * </p>
       * @author Thiago Alexandre Buerger
       * @version 1.0
@@ -80,7 +93,7 @@ public class BeanJogo implements Serializable{
         filtro = new JogoFilter();
         filtro.setTemporada(null);
         filtro.setJogador(pegarJogadorSessao());
-        idTemporada = 0;
+        temporadaSelecionada = null;
         jogos = new JogoPaginator(filtro);
         jogo = new Jogo();
     }
@@ -98,13 +111,10 @@ public class BeanJogo implements Serializable{
      */
     public String salvar(){
         jogo.setId(null);
-        if (idTemporada > 0) {
-            TemporadaDAO temporadaDAO = new TemporadaDAO();
-            jogo.setTemporada(temporadaDAO.buscarPorId(idTemporada));    
-        } else{
-            jogo.setTemporada(null);
-        }
+        jogo.setTemporada(buscarTemporadaSelecionada());
         mostrarMensagem(dao.adicionar(jogo));
+        Memorizador.invalidar("jogos:");
+        descartarPreCarregamento();
         return "index?faces-redirect=true";
     }
     
@@ -121,13 +131,62 @@ public class BeanJogo implements Serializable{
      */
     public void pesquisar(){
         removerMensagem();
+        filtro.setTemporada(buscarTemporadaSelecionada());
+        descartarPreCarregamento();
+        jogos = new JogoPaginator(filtro);
+    }
+    
+    /**
+     * Método para descartar a próxima página pré-carregada da tabela atual
+     * <p>
+     * Chamado antes de substituir o paginador, cancelando o pré-carregamento em andamento.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private void descartarPreCarregamento(){
+        if (jogos instanceof JogoPaginator) {
+            ((JogoPaginator) jogos).descartarPreCarregamento();
+        }
+    }
+    
+    /**
+     * Método chamado pelo campo de seleção de temporada (autoComplete) a cada tecla digitada
+     * <p>
+     * Retorna no máximo LIMITE_SUGESTOES temporadas do jogador com o nome iniciado pelo texto digitado, 
+     * ao invés de enviar todas as temporadas do jogador para a página.<br>
+     * As sugestões de cada texto são memorizadas durante a requisição (Memorizador).
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param texto String: texto digitado pelo usuário
+     * @return Lista OpcaoTemporada: temporadas sugeridas
+     */
+    public List<OpcaoTemporada> sugerirTemporadas(String texto){
         TemporadaDAO temporadaDAO = new TemporadaDAO();
-        if (idTemporada > 0) {
-            filtro.setTemporada(temporadaDAO.buscarPorId(idTemporada));
-        } else{
-            filtro.setTemporada(null);
+        return Memorizador.obter("temporadas:sugestoes:" + texto, () -> temporadaDAO.sugestoes(filtro.getJogador(), texto, LIMITE_SUGESTOES));
+    }
+    
+    /**
+     * Método para buscar no banco a temporada selecionada pelo usuário
+     * <p>
+     * Como o valor do autoComplete é enviado pela página, a temporada só é utilizada 
+     * caso pertença ao jogador da sessão.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @return Temporada: temporada selecionada ou nulo caso nenhuma temporada do jogador seja selecionada
+     */
+    private Temporada buscarTemporadaSelecionada(){
+        if (temporadaSelecionada == null || temporadaSelecionada.getId() == null || filtro.getJogador() == null) {
+            return null;
         }
-        jogos = new JogoPaginator(filtro);
+        TemporadaDAO temporadaDAO = new TemporadaDAO();
+        Temporada temporada = temporadaDAO.buscarPorId(temporadaSelecionada.getId());
+        if (temporada == null || temporada.getJogador() == null || !filtro.getJogador().getId().equals(temporada.getJogador().getId())) {
+            return null;
+        }
+        return temporada;
     }
     
     /**
@@ -200,11 +259,11 @@ public class BeanJogo implements Serializable{
         this.jogo = jogo;
     }
 
-    public LazyDataModel<Jogo> getJogos() {
+    public LazyDataModel<LinhaJogo> getJogos() {
         return jogos;
     }
 
-    public void setJogos(LazyDataModel<Jogo> jogos) {
+    public void setJogos(LazyDataModel<LinhaJogo> jogos) {
         this.jogos = jogos;
     }
 
@@ -216,11 +275,11 @@ public class BeanJogo implements Serializable{
         this.filtro = filtro;
     }
 
-    public Integer getIdTemporada() {
-        return idTemporada;
+    public OpcaoTemporada getTemporadaSelecionada() {
+        return temporadaSelecionada;
     }
 
-    public void setIdTemporada(Integer idTemporada) {
-        this.idTemporada = idTemporada;
+    public void setTemporadaSelecionada(OpcaoTemporada temporadaSelecionada) {
+        this.temporadaSelecionada = temporadaSelecionada;
     }
 }
\ No newline at end of file
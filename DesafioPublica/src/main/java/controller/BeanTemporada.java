@@ -1,16 +1,17 @@
 package controller;
 
 import java.io.Serializable;
-import java.util.List;
 import javax.faces.bean.ManagedBean;
 import javax.faces.bean.ViewScoped;
 import javax.faces.context.FacesContext;
+import model.AtualizadorAgregados;
 import model.Jogador;
 import model.Temporada;
 import model.TemporadaDAO;
 import model.TemporadaFilter;
 import model.TemporadaPaginator;
 import org.primefaces.model.LazyDataModel;
+import util.Memorizador;
 
 /**
  * Classe bean para objetos do tipo Temporada
@@ -72,6 +73,7 @@ public class BeanTemporada implements Serializable{
       * <p>
       * Deverá instanciar o DAO e o Filtro.<br>
       * O filtro de jogador deverá ser iniciado com o jogador da sessão.<br>
+      * Caso existam jogos do jogador aguardando a atualização assíncrona da pontuação, será aguardada a sua conclusão.<br>
       * A lista de temporadas deverá ser carregada utilizando o filtro configurado.<br>
       * a temporada, o nome e o id da Temporada deverão ser iniciados com valores vazios.
       * </p>
@@ -82,6 +84,9 @@ public class BeanTemporada implements Serializable{
         dao = new TemporadaDAO();
         filtro = new TemporadaFilter();
         jogador = pegarJogadorSessao();
+        if (jogador != null && AtualizadorAgregados.LEITURA_PROPRIA) {
+            AtualizadorAgregados.aguardar(jogador.getId());
+        }
         filtro.setJogador(jogador);
         temporadas = new TemporadaPaginator(filtro);
         nome = "";
@@ -97,6 +102,8 @@ public class BeanTemporada implements Serializable{
      * Somente o campo nome deverá ser definido pelo usuário e a temporada deverá ser adicionada no banco.<br>
      * Caso já exista um id de temporada, somente o campo nome deverá ser definido pelo usuário 
      * e a temporada deverá ser atualizada no banco.<br>
+     * As temporadas memorizadas na requisição (Memorizador) são descartadas, 
+     * para que a tabela atualizada na mesma requisição consulte novamente o banco.<br>
      * Uma mensagem será exibida ao usuário e ele será redirecionado para a página de temporada.
      * </p>
      * @author Thiago Alexandre Buerger
@@ -112,6 +119,8 @@ public class BeanTemporada implements Serializable{
             mostrarMensagem(dao.atualizar(temporada));
         }
         nome = "";
+        Memorizador.invalidar("temporadas:");
+        descartarPreCarregamento();
         temporadas = new TemporadaPaginator(filtro);
         return "temporada?faces-redirect=true";
     }
@@ -127,6 +136,7 @@ public class BeanTemporada implements Serializable{
      */
     public void pesquisar(){
         removerMensagem();
+        descartarPreCarregamento();
         temporadas = new TemporadaPaginator(filtro);
     }
     
@@ -191,19 +201,6 @@ public class BeanTemporada implements Serializable{
         nome = temporadaSelecionada.getNome();
     }
     
-    /**
-     * Método para buscar todas as temporadas do jogador
-     * <p>
-     * Utilizado para carregar o selectOneMenu.
-     * </p>
-     * @author Thiago Alexandre Buerger
-     * @version 1.0
-     * @return List Temporada: retorna a lista de todas as temporadas do jogador
-     */
-    public List<Temporada> todasTemporadas(){
-        return dao.listar(jogador);
-    }
-    
     /**
      * Método para adicionar uma mensagem na sessão e possibilitar ser exibida para o usuário
      * @author Thiago Alexandre Buerger
@@ -225,6 +222,20 @@ public class BeanTemporada implements Serializable{
         context.getExternalContext().getSessionMap().remove("mensagem");
     }
     
+    /**
+     * Método para descartar a próxima página pré-carregada da tabela atual
+     * <p>
+     * Chamado antes de substituir o paginador, cancelando o pré-carregamento em andamento.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private void descartarPreCarregamento(){
+        if (temporadas instanceof TemporadaPaginator) {
+            ((TemporadaPaginator) temporadas).descartarPreCarregamento();
+        }
+    }
+    
     /**
      * Método para pegar o jogador da sessão
      * @author Thiago Alexandre Buerger
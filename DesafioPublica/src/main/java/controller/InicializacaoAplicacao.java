@@ -0,0 +1,42 @@
+package controller;
+
+import javax.servlet.ServletContextEvent;
+import javax.servlet.ServletContextListener;
+import javax.servlet.annotation.WebListener;
+import model.CicloAplicacao;
+
+/**
+ * Classe responsável por inicializar e encerrar a aplicação junto com o servidor
+ * <p>
+ * Anotação @WebListener: objeto notificado pelo servidor na inicialização e no encerramento da aplicação.<br>
+ * A inicialização (CicloAplicacao.iniciar) é realizada antes da primeira requisição, 
+ * evitando que o primeiro usuário aguarde a criação do EntityManagerFactory, do pool de conexões e das consultas.
+ * </p>
+ * @author Thiago Alexandre Buerger
+ * @version 1.0
+ */
+@WebListener
+public class InicializacaoAplicacao implements ServletContextListener {
+
+    /**
+     * Método chamado pelo servidor na inicialização da aplicação
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param sce ServletContextEvent: evento de inicialização
+     */
+    @Override
+    public void contextInitialized(ServletContextEvent sce) {
+        CicloAplicacao.iniciar();
+    }
+
+    /**
+     * Método chamado pelo servidor no encerramento da aplicação
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param sce ServletContextEvent: evento de encerramento
+     */
+    @Override
+    public void contextDestroyed(ServletContextEvent sce) {
+        CicloAplicacao.encerrar();
+    }
+}
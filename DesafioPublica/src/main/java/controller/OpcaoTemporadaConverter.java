@@ -0,0 +1,64 @@
+package controller;
+
+import javax.faces.component.UIComponent;
+import javax.faces.context.FacesContext;
+import javax.faces.convert.Converter;
+import javax.faces.convert.FacesConverter;
+import model.OpcaoTemporada;
+
+/**
+ * Classe de conversão das opções do campo de seleção de temporada (autoComplete)
+ * <p>
+ * Anotação @FacesConverter("opcaoTemporada"): conversor utilizado pelas páginas com o atributo converter="opcaoTemporada".<br>
+ * A opção é enviada para a página no formato id:nome, permitindo exibir o nome da temporada selecionada 
+ * sem consultar o banco. A temporada selecionada é verificada pelo bean, que busca a temporada do jogador pelo id.
+ * </p>
+ * @author Thiago Alexandre Buerger
+ * @version 1.0
+ */
+@FacesConverter("opcaoTemporada")
+public class OpcaoTemporadaConverter implements Converter {
+
+    /**
+     * Método para converter o valor enviado pela página em uma opção de temporada
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param context FacesContext: contexto da requisição
+     * @param component UIComponent: campo de seleção
+     * @param value String: valor no formato id:nome
+     * @return Object: opção de temporada ou nulo caso o valor seja vazio ou inválido
+     */
+    @Override
+    public Object getAsObject(FacesContext context, UIComponent component, String value) {
+        if (value == null || value.isEmpty()) {
+            return null;
+        }
+        int separador = value.indexOf(':');
+        try {
+            if (separador < 0) {
+                return new OpcaoTemporada(Integer.valueOf(value), value);
+            }
+            return new OpcaoTemporada(Integer.valueOf(value.substring(0, separador)), value.substring(separador + 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Método para converter uma opção de temporada no valor enviado para a página
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param context FacesContext: contexto da requisição
+     * @param component UIComponent: campo de seleção
+     * @param value Object: opção de temporada
+     * @return String: valor no formato id:nome ou vazio caso não seja uma opção de temporada
+     */
+    @Override
+    public String getAsString(FacesContext context, UIComponent component, Object value) {
+        if (!(value instanceof OpcaoTemporada) || ((OpcaoTemporada) value).getId() == null) {
+            return "";
+        }
+        OpcaoTemporada opcao = (OpcaoTemporada) value;
+        return opcao.getId() + ":" + opcao.getNome();
+    }
+}
@@ -0,0 +1,41 @@
+package controller;
+
+import java.io.IOException;
+import javax.servlet.annotation.WebServlet;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import model.CicloAplicacao;
+
+/**
+ * Classe que informa se a aplicação está pronta para receber requisições
+ * <p>
+ * Anotação @WebServlet("/pronto"): endereço consultado pelo balanceador de carga ou pelo orquestrador antes de enviar requisições.<br>
+ * Retorna o código 200 após a inicialização (CicloAplicacao.isPronto) ou 503 caso contrário,
+ * com a descrição da situação da aplicação.
+ * Caso o banco esteja indisponível na implantação, o código 503 é retornado até uma das novas tentativas
+ * de inicialização (CicloAplicacao.iniciar) ser concluída com sucesso.
+ * </p>
+ * @author Thiago Alexandre Buerger
+ * @version 1.0
+ */
+@WebServlet("/pronto")
+public class ProntidaoServlet extends HttpServlet {
+
+    /**
+     * Método chamado a cada requisição GET
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param request HttpServletRequest: requisição
+     * @param response HttpServletResponse: resposta com o código e a situação da aplicação
+     * @throws IOException caso ocorra erro na escrita da resposta
+     */
+    @Override
+    protected void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setStatus(CicloAplicacao.isPronto() ? HttpServletResponse.SC_OK : HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        response.setContentType("text/plain");
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader("Cache-Control", "no-store");
+        response.getWriter().print(CicloAplicacao.getSituacao());
+    }
+}
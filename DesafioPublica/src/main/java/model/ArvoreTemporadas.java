@@ -0,0 +1,149 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Classe da árvore de prefixos (trie) dos nomes das temporadas de um jogador, utilizada pelas sugestões do campo de seleção de temporada
+ * <p>
+ * Cada caractere do nome (em letras minúsculas) é um nó da árvore, e as temporadas ficam no nó do último caractere do nome.
+ * As sugestões de um prefixo são obtidas percorrendo apenas os nós abaixo do prefixo, em ordem alfabética, 
+ * até encontrar a quantidade de sugestões solicitada, independente da quantidade de temporadas do jogador.<br>
+ * Assim como o filtro do campo de seleção (filterMatchMode startsWith), não diferencia maiúsculas e minúsculas.<br>
+ * Não é thread-safe: os acessos são realizados com o bloqueio do índice do jogador (IndiceTemporadas).
+ * </p>
+ * @author Thiago Alexandre Buerger
+ * @version 1.0
+ */
+final class ArvoreTemporadas {
+
+    /**
+     * Nó inicial da árvore (prefixo vazio)
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private final No raiz = new No();
+
+    /**
+     * Método para adicionar uma temporada na árvore
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param id Integer: identificação da temporada
+     * @param nome String: nome da temporada
+     */
+    void adicionar(Integer id, String nome) {
+        String chave = chave(nome);
+        No no = raiz;
+        no.quantidade++;
+        for (int i = 0; i < chave.length(); i++) {
+            no = no.filhos.computeIfAbsent(chave.charAt(i), c -> new No());
+            no.quantidade++;
+        }
+        no.temporadas.put(id, nome);
+    }
+
+    /**
+     * Método para remover uma temporada da árvore
+     * <p>
+     * Utilizado na alteração do nome da temporada. Os nós sem temporadas são removidos.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param id Integer: identificação da temporada
+     * @param nome String: nome da temporada na árvore
+     */
+    void remover(Integer id, String nome) {
+        String chave = chave(nome);
+        List<No> caminho = new ArrayList<>();
+        No no = raiz;
+        caminho.add(no);
+        for (int i = 0; i < chave.length() && no != null; i++) {
+            no = no.filhos.get(chave.charAt(i));
+            caminho.add(no);
+        }
+        if (no == null || no.temporadas.remove(id) == null) {
+            return;
+        }
+        for (int i = caminho.size() - 1; i >= 0; i--) {
+            No atual = caminho.get(i);
+            atual.quantidade--;
+            if (i > 0 && atual.quantidade == 0) {
+                caminho.get(i - 1).filhos.remove(chave.charAt(i - 1));
+            }
+        }
+    }
+
+    /**
+     * Método para obter as primeiras temporadas, em ordem alfabética, com o nome iniciado pelo prefixo
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param prefixo String: texto digitado pelo jogador
+     * @param limite int: quantidade máxima de sugestões
+     * @return Lista OpcaoTemporada: temporadas encontradas
+     */
+    List<OpcaoTemporada> sugerir(String prefixo, int limite) {
+        List<OpcaoTemporada> sugestoes = new ArrayList<>();
+        String chave = chave(prefixo);
+        No no = raiz;
+        for (int i = 0; i < chave.length() && no != null; i++) {
+            no = no.filhos.get(chave.charAt(i));
+        }
+        if (no != null) {
+            percorrer(no, limite, sugestoes);
+        }
+        return sugestoes;
+    }
+
+    /**
+     * Método para percorrer um nó e os nós abaixo dele em ordem alfabética até atingir o limite de sugestões
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param no No: nó percorrido
+     * @param limite int: quantidade máxima de sugestões
+     * @param sugestoes Lista OpcaoTemporada: sugestões encontradas
+     */
+    private static void percorrer(No no, int limite, List<OpcaoTemporada> sugestoes) {
+        for (Map.Entry<Integer, String> temporada : no.temporadas.entrySet()) {
+            if (sugestoes.size() >= limite) {
+                return;
+            }
+            sugestoes.add(new OpcaoTemporada(temporada.getKey(), temporada.getValue()));
+        }
+        for (No filho : no.filhos.values()) {
+            if (sugestoes.size() >= limite) {
+                return;
+            }
+            percorrer(filho, limite, sugestoes);
+        }
+    }
+
+    /**
+     * Método para obter a chave de um nome na árvore
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param nome String: nome ou prefixo
+     * @return String: nome em letras minúsculas
+     */
+    private static String chave(String nome) {
+        return nome == null ? "" : nome.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Classe do nó da árvore
+     * <p>
+     * filhos: próximos caracteres, em ordem alfabética.<br>
+     * temporadas: temporadas com o nome terminado neste nó, em ordem de identificação.<br>
+     * quantidade: temporadas deste nó e dos nós abaixo dele, utilizada para remover nós vazios.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private static final class No {
+        private final TreeMap<Character, No> filhos = new TreeMap<>();
+        private final TreeMap<Integer, String> temporadas = new TreeMap<>();
+        private int quantidade;
+    }
+}
@@ -0,0 +1,649 @@
+package model;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.persistence.EntityManager;
+import org.hibernate.Session;
+import util.Configuracao;
+import util.JPAConnectionFactory;
+
+/**
+ * Classe responsável pela atualização assíncrona dos recordes e dados agregados dos jogadores e das temporadas
+ * <p>
+ * Utilizada quando a configuração "agregados.atualizacao.assincrona" for true.
+ * Neste caso, a inserção de um jogo (JogoDAO.adicionar) realiza apenas o INSERT e, após o commit,
+ * o jogo é enviado para uma fila limitada (enfileirar).<br>
+ * Uma única thread em segundo plano esvazia a fila a cada "agregados.intervalo.ms" milissegundos,
+ * acumula os jogos por jogador e por temporada (ResumoJogos) e aplica um único comando UPDATE condicional
+ * para cada jogador e temporada do lote, em uma única transação.<br>
+ * Caso a fila estiver cheia, a atualização do jogo é realizada imediatamente pela thread da requisição (aplicarAgora).<br>
+ * Caso a atualização falhar (ex: espera por bloqueio ou deadlock com RecalculoAgregados e ReconstrutorAgregados), 
+ * o lote é aplicado novamente, e os jogos dos jogadores que continuarem falhando são retidos para as próximas atualizações (aplicar).
+ * Os jogadores que excederem "agregados.tentativas" atualizações com falha são registrados como divergentes (divergentes), 
+ * devendo ser corrigidos por ReconstrutorAgregados.reconstruir(id).<br>
+ * Para que o jogador veja seus próprios jogos na próxima página, o método aguardar pode ser chamado antes da consulta do jogador,
+ * forçando a atualização dos jogos pendentes (configuração "agregados.leitura.propria").
+ * </p>
+ * @author Thiago Alexandre Buerger
+ * @version 1.0
+ */
+public final class AtualizadorAgregados {
+
+    /**
+     * Indica se a atualização assíncrona está habilitada
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    public static final boolean HABILITADO = Configuracao.getBooleano("agregados.atualizacao.assincrona", false);
+
+    /**
+     * Indica se a página do jogador deverá aguardar a atualização de seus jogos pendentes
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    public static final boolean LEITURA_PROPRIA = Configuracao.getBooleano("agregados.leitura.propria", true);
+
+    /**
+     * Quantidade máxima de jogos aguardando atualização
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private static final int CAPACIDADE = Configuracao.getInteiro("agregados.fila.capacidade", 10000);
+
+    /**
+     * Intervalo, em milissegundos, entre as atualizações
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private static final long INTERVALO = Configuracao.getInteiro("agregados.intervalo.ms", 200);
+
+    /**
+     * Tempo máximo, em milissegundos, de espera pela atualização dos jogos pendentes de um jogador
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private static final long ESPERA = Configuracao.getInteiro("agregados.leitura.espera.ms", 2000);
+
+    /**
+     * Quantidade máxima de tentativas de aplicação de um lote e de atualizações com falha de um jogador
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private static final int TENTATIVAS = Math.max(Configuracao.getInteiro("agregados.tentativas", 3), 1);
+
+    /**
+     * Fila de jogos inseridos aguardando a atualização dos dados agregados
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private static final BlockingQueue<Jogo> FILA = new ArrayBlockingQueue<>(CAPACIDADE);
+
+    /**
+     * Quantidade de jogos pendentes de cada jogador, identificado pelo id
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private static final ConcurrentHashMap<Integer, Integer> PENDENTES = new ConcurrentHashMap<>();
+
+    /**
+     * Jogos cuja atualização falhou, aplicados novamente no início da próxima atualização (descarregar)
+     * <p>
+     * Os jogos continuam pendentes: as threads em espera (aguardar) não são notificadas.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private static final ConcurrentLinkedQueue<Jogo> RETIDOS = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Quantidade de atualizações seguidas com falha de cada jogador, identificado pelo id
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private static final ConcurrentHashMap<Integer, Integer> FALHAS = new ConcurrentHashMap<>();
+
+    /**
+     * Jogadores cujos dados agregados não foram atualizados após TENTATIVAS atualizações com falha
+     * <p>
+     * Removidos após a reconstrução do jogador (ReconstrutorAgregados.reconstruir).
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private static final Set<Integer> DIVERGENTES = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Objeto utilizado para notificar as threads que aguardam a atualização de jogos pendentes
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private static final Object MONITOR = new Object();
+
+    /**
+     * Objeto utilizado para impedir que duas atualizações sejam aplicadas ao mesmo tempo (thread em segundo plano e encerramento)
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private static final Object DESCARGA = new Object();
+
+    /**
+     * Thread em segundo plano responsável pelas atualizações
+     * <p>
+     * Criada no primeiro jogo enfileirado (executor()), como daemon, não impedindo o encerramento da aplicação.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private static ScheduledExecutorService executor;
+
+    /**
+     * Construtor privado, pois a classe possui apenas métodos estáticos
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private AtualizadorAgregados() {}
+
+    /**
+     * Método para obter a thread de atualização, criando-a e agendando as atualizações na primeira chamada
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @return ScheduledExecutorService: thread de atualização
+     */
+    private static synchronized ScheduledExecutorService executor(){
+        if (executor == null) {
+            executor = Executors.newSingleThreadScheduledExecutor(tarefa -> {
+                Thread thread = new Thread(tarefa, "atualizador-agregados");
+                thread.setDaemon(true);
+                return thread;
+            });
+            executor.scheduleWithFixedDelay(AtualizadorAgregados::descarregar, INTERVALO, INTERVALO, TimeUnit.MILLISECONDS);
+        }
+        return executor;
+    }
+
+    /**
+     * Método para enviar um jogo inserido para a fila de atualização
+     * <p>
+     * Deve ser chamado após o commit da inserção.<br>
+     * Caso a fila estiver cheia, a atualização será realizada imediatamente (aplicarAgora).
+     * Neste caso, o jogo pode ser aplicado antes de jogos do mesmo jogador que ainda estão na fila.
+     * Caso a atualização imediata falhar, o jogo é retido para a próxima atualização da thread em segundo plano (reter).
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param jogo Jogo: jogo inserido, com temporada e jogador identificados
+     */
+    public static void enfileirar(Jogo jogo){
+        Integer idJogador = idJogador(jogo);
+        PENDENTES.merge(idJogador, 1, Integer::sum);
+        if (executor().isShutdown() || !FILA.offer(jogo)) {
+            List<Jogo> jogos = Collections.singletonList(jogo);
+            try {
+                aplicarAgora(jogos);
+                concluir(jogos);
+            } catch (RuntimeException e) {
+                System.out.println("Erro! " + e);
+                reter(idJogador, jogos);
+            }
+        }
+    }
+
+    /**
+     * Método para aguardar a atualização dos jogos pendentes de um jogador
+     * <p>
+     * Caso o jogador possua jogos pendentes, uma atualização é solicitada imediatamente
+     * e a thread aguarda no máximo "agregados.leitura.espera.ms" milissegundos.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param idJogador Integer: identificação do jogador
+     */
+    public static void aguardar(Integer idJogador){
+        if (idJogador == null || !PENDENTES.containsKey(idJogador)) {
+            return;
+        }
+        try {
+            executor().execute(AtualizadorAgregados::descarregar);
+        } catch (RejectedExecutionException e) {
+            return;
+        }
+        long limite = System.currentTimeMillis() + ESPERA;
+        synchronized (MONITOR) {
+            long restante;
+            while (PENDENTES.containsKey(idJogador) && (restante = limite - System.currentTimeMillis()) > 0) {
+                try {
+                    MONITOR.wait(restante);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Método para encerrar a thread de atualização, aplicando os jogos pendentes
+     * <p>
+     * Os jogadores dos jogos que continuarem retidos após a última atualização são registrados como divergentes.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    public static void encerrar(){
+        ScheduledExecutorService atual;
+        synchronized (AtualizadorAgregados.class) {
+            atual = executor;
+        }
+        if (atual == null) {
+            return;
+        }
+        atual.shutdown();
+        try {
+            atual.awaitTermination(ESPERA, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        descarregar();
+        synchronized (DESCARGA) {
+            Map<Integer, List<Jogo>> jogadores = new LinkedHashMap<>();
+            for (Jogo jogo; (jogo = RETIDOS.poll()) != null; ) {
+                jogadores.computeIfAbsent(idJogador(jogo), id -> new ArrayList<>()).add(jogo);
+            }
+            for (Map.Entry<Integer, List<Jogo>> item : jogadores.entrySet()) {
+                registrarDivergente(item.getKey(), item.getValue());
+            }
+        }
+    }
+
+    /**
+     * Método executado pela thread em segundo plano para esvaziar a fila e aplicar as atualizações
+     * <p>
+     * Os jogos retidos por falhas anteriores são aplicados junto com o primeiro lote da fila, antes dos jogos mais recentes.
+     * Caso um jogador continue com jogos retidos, os seus jogos dos lotes seguintes também são retidos (reterPosteriores), 
+     * mantendo a ordem de inserção dos jogos de cada jogador na contagem das quebras de recorde.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private static void descarregar(){
+        synchronized (DESCARGA) {
+            List<Jogo> jogos = new ArrayList<>();
+            for (Jogo jogo; (jogo = RETIDOS.poll()) != null; ) {
+                jogos.add(jogo);
+            }
+            FILA.drainTo(jogos, CAPACIDADE);
+            while (!jogos.isEmpty()) {
+                aplicar(jogos);
+                jogos = new ArrayList<>();
+                if (FILA.drainTo(jogos, CAPACIDADE) > 0 && !RETIDOS.isEmpty()) {
+                    reterPosteriores(jogos);
+                }
+            }
+        }
+    }
+
+    /**
+     * Método para aplicar um lote de jogos, com novas tentativas em caso de falha
+     * <p>
+     * O lote é aplicado em uma única transação (aplicarAgora) até TENTATIVAS vezes, aguardando INTERVALO milissegundos 
+     * a mais a cada tentativa. Como a transação com falha é desfeita, uma nova tentativa não aplica os jogos duas vezes.<br>
+     * Caso todas as tentativas falharem, os jogos de cada jogador são aplicados em transações separadas, 
+     * para que a falha de um jogador não impeça a atualização dos demais. 
+     * Os jogos dos jogadores que continuarem falhando são retidos (reter), sem notificar as threads em espera.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param jogos Lista Jogo: jogos inseridos, na ordem de inserção
+     */
+    private static void aplicar(List<Jogo> jogos){
+        for (int tentativa = 1; tentativa <= TENTATIVAS; tentativa++) {
+            try {
+                aplicarAgora(jogos);
+                concluir(jogos);
+                return;
+            } catch (RuntimeException e) {
+                System.out.println("Erro! Tentativa " + tentativa + " de " + TENTATIVAS + ": " + e);
+            }
+            if (tentativa < TENTATIVAS && !esperar(INTERVALO * tentativa)) {
+                break;
+            }
+        }
+        Map<Integer, List<Jogo>> jogadores = new LinkedHashMap<>();
+        for (Jogo jogo : jogos) {
+            jogadores.computeIfAbsent(idJogador(jogo), id -> new ArrayList<>()).add(jogo);
+        }
+        for (Map.Entry<Integer, List<Jogo>> item : jogadores.entrySet()) {
+            try {
+                aplicarAgora(item.getValue());
+                concluir(item.getValue());
+            } catch (RuntimeException e) {
+                System.out.println("Erro! Jogador " + item.getKey() + ": " + e);
+                reter(item.getKey(), item.getValue());
+            }
+        }
+    }
+
+    /**
+     * Método para aguardar antes de uma nova tentativa
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param milissegundos long: tempo de espera
+     * @return boolean: true caso a espera seja concluída ou false caso a thread seja interrompida (encerramento)
+     */
+    private static boolean esperar(long milissegundos){
+        try {
+            Thread.sleep(milissegundos);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Método para reter os jogos de um jogador cuja atualização falhou
+     * <p>
+     * Os jogos são aplicados novamente na próxima atualização (descarregar) e continuam pendentes.
+     * Caso o jogador exceda TENTATIVAS atualizações seguidas com falha, é registrado como divergente (registrarDivergente).
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param idJogador Integer: identificação do jogador
+     * @param jogos Lista Jogo: jogos do jogador cuja atualização falhou
+     */
+    private static void reter(Integer idJogador, List<Jogo> jogos){
+        if (FALHAS.merge(idJogador, 1, Integer::sum) > TENTATIVAS) {
+            registrarDivergente(idJogador, jogos);
+        } else {
+            RETIDOS.addAll(jogos);
+        }
+    }
+
+    /**
+     * Método para reter os jogos de um lote cujos jogadores possuem jogos retidos
+     * <p>
+     * Os jogos retidos são removidos da lista informada, sendo aplicados após os jogos anteriores do mesmo jogador.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param jogos Lista Jogo: lote obtido da fila
+     */
+    private static void reterPosteriores(List<Jogo> jogos){
+        Set<Integer> jogadores = new HashSet<>();
+        for (Jogo jogo : RETIDOS) {
+            jogadores.add(idJogador(jogo));
+        }
+        Iterator<Jogo> itens = jogos.iterator();
+        while (itens.hasNext()) {
+            Jogo jogo = itens.next();
+            if (jogadores.contains(idJogador(jogo))) {
+                RETIDOS.add(jogo);
+                itens.remove();
+            }
+        }
+    }
+
+    /**
+     * Método para registrar um jogador cujos dados agregados não foram atualizados
+     * <p>
+     * Os jogos do jogador deixam de ser pendentes sem notificar as threads em espera, que aguardam até o tempo limite.
+     * Os jogos continuam salvos, e os dados agregados do jogador deverão ser corrigidos por ReconstrutorAgregados.reconstruir(id).
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param idJogador Integer: identificação do jogador
+     * @param jogos Lista Jogo: jogos do jogador não aplicados
+     */
+    private static void registrarDivergente(Integer idJogador, List<Jogo> jogos){
+        FALHAS.remove(idJogador);
+        DIVERGENTES.add(idJogador);
+        for (int i = 0; i < jogos.size(); i++) {
+            PENDENTES.computeIfPresent(idJogador, (id, qtd) -> qtd > 1 ? qtd - 1 : null);
+        }
+        System.out.println("Erro! Dados agregados do jogador " + idJogador + " não atualizados (" + jogos.size() 
+                + " jogos). Executar ReconstrutorAgregados.reconstruir(" + idJogador + ").");
+    }
+
+    /**
+     * Método para reduzir a quantidade de jogos pendentes dos jogadores e notificar as threads em espera
+     * <p>
+     * Chamado apenas após a atualização com sucesso. Também reinicia a quantidade de falhas dos jogadores.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param jogos Lista Jogo: jogos cuja atualização foi concluída
+     */
+    private static void concluir(List<Jogo> jogos){
+        for (Jogo jogo : jogos) {
+            Integer idJogador = idJogador(jogo);
+            PENDENTES.computeIfPresent(idJogador, (id, qtd) -> qtd > 1 ? qtd - 1 : null);
+            FALHAS.remove(idJogador);
+        }
+        synchronized (MONITOR) {
+            MONITOR.notifyAll();
+        }
+    }
+
+    /**
+     * Método para obter a identificação do jogador de um jogo
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param jogo Jogo: jogo com temporada e jogador identificados
+     * @return Integer: identificação do jogador
+     */
+    private static Integer idJogador(Jogo jogo){
+        return jogo.getTemporada().getJogador().getId();
+    }
+
+    /**
+     * Método para obter os jogadores com dados agregados divergentes dos jogos salvos
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @return Set Integer: identificação dos jogadores que deverão ser reconstruídos (ReconstrutorAgregados.reconstruir)
+     */
+    public static Set<Integer> divergentes(){
+        return Collections.unmodifiableSet(new HashSet<>(DIVERGENTES));
+    }
+
+    /**
+     * Método para remover um jogador dos divergentes após a sua reconstrução
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param idJogador Integer: identificação do jogador reconstruído
+     */
+    static void reconstruido(Integer idJogador){
+        DIVERGENTES.remove(idJogador);
+    }
+
+    /**
+     * Método para aplicar a atualização dos dados agregados de uma lista de jogos em uma única transação
+     * <p>
+     * Os jogos são acumulados por jogador e por temporada (ResumoJogos), na ordem da lista.<br>
+     * Os jogadores são atualizados antes das temporadas, ambos em ordem crescente de identificação,
+     * mantendo a mesma ordem de bloqueio entre transações.<br>
+     * Após o commit, os jogadores e as temporadas atualizados são descartados do cache de segundo nível (CacheEntidades) 
+     * e os resultados de consultas dos jogadores são invalidados (CacheConsultas).
+     * Falhas nos descartes são apenas registradas, pois a exceção indicaria uma atualização não aplicada,
+     * e uma nova tentativa aplicaria os jogos duas vezes.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param jogos Lista Jogo: jogos inseridos
+     */
+    static void aplicarAgora(List<Jogo> jogos){
+        Map<Integer, ResumoJogos> jogadores = new TreeMap<>();
+        Map<Integer, ResumoJogos> temporadas = new TreeMap<>();
+        for (Jogo jogo : jogos) {
+            jogadores.computeIfAbsent(jogo.getTemporada().getJogador().getId(), id -> new ResumoJogos()).adicionar(jogo);
+            temporadas.computeIfAbsent(jogo.getTemporada().getId(), id -> new ResumoJogos()).adicionar(jogo);
+        }
+        EntityManager em = JPAConnectionFactory.getEntityManager();
+        try {
+            em.getTransaction().begin();
+            em.unwrap(Session.class).doWork(conexao -> {
+                for (Map.Entry<Integer, ResumoJogos> item : jogadores.entrySet()) {
+                    atualizarJogador(conexao, item.getKey(), item.getValue());
+                }
+                for (Map.Entry<Integer, ResumoJogos> item : temporadas.entrySet()) {
+                    atualizarTemporada(conexao, item.getKey(), item.getValue());
+                }
+            });
+            em.getTransaction().commit();
+        } catch (RuntimeException e) {
+            if (em.getTransaction().isActive()) {
+                em.getTransaction().rollback();
+            }
+            throw e;
+        } finally{
+            em.close();
+        }
+        try {
+            CacheEntidades.descartar(jogadores.keySet(), temporadas.keySet());
+            for (Integer idJogador : jogadores.keySet()) {
+                CacheConsultas.invalidar(idJogador);
+            }
+        } catch (RuntimeException e) {
+            System.out.println("Erro! " + e);
+        }
+    }
+
+    /**
+     * Método para gerar o comando de atualização de um jogador a partir de um resumo
+     * <p>
+     * Para cada pontuação de recordesMinimo (ou recordesMaximo) é gerada uma comparação com o mínimo (ou máximo) salvo,
+     * somando uma quebra de recorde para cada pontuação menor (ou maior).<br>
+     * Caso seja o primeiro jogo do jogador (qtd_jogos_jogador = 0), a primeira pontuação do resumo não é considerada quebra de recorde.<br>
+     * As quantidades de quebra de recorde são atribuídas antes do mínimo e do máximo, e a quantidade de jogos por último.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param resumo ResumoJogos: jogos acumulados do jogador
+     * @return String: comando SQL com parâmetros
+     */
+    static String comandoJogador(ResumoJogos resumo){
+        return "update jogador set "
+                + "quebra_recorde_min_jogador = quebra_recorde_min_jogador + (case when qtd_jogos_jogador = 0 then ? else "
+                + comparacoes("min_jogador", "<", resumo.getRecordesMinimo().size()) + " end), "
+                + "quebra_recorde_max_jogador = quebra_recorde_max_jogador + (case when qtd_jogos_jogador = 0 then ? else "
+                + comparacoes("max_jogador", ">", resumo.getRecordesMaximo().size()) + " end), "
+                + "min_jogador = (case when qtd_jogos_jogador = 0 or ? < min_jogador then ? else min_jogador end), "
+                + "max_jogador = (case when qtd_jogos_jogador = 0 or ? > max_jogador then ? else max_jogador end), "
+                + "soma_pontuacao_jogador = soma_pontuacao_jogador + ?, "
+                + "ultimo_jogo_jogador = (case when ultimo_jogo_jogador is null or ? > ultimo_jogo_jogador then ? else ultimo_jogo_jogador end), "
+                + "qtd_jogos_jogador = qtd_jogos_jogador + ? "
+                + "where id_jogador = ?";
+    }
+
+    /**
+     * Método para gerar a soma das comparações de pontuações com o recorde salvo
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param coluna String: coluna do recorde (min_jogador ou max_jogador)
+     * @param operador String: operador de comparação (menor ou maior)
+     * @param quantidade int: quantidade de pontuações comparadas
+     * @return String: expressão SQL no formato "(case when ? < coluna then 1 else 0 end) + ..."
+     */
+    private static String comparacoes(String coluna, String operador, int quantidade){
+        StringBuilder expressao = new StringBuilder();
+        for (int i = 0; i < quantidade; i++) {
+            if (i > 0) {
+                expressao.append(" + ");
+            }
+            expressao.append("(case when ? ").append(operador).append(' ').append(coluna).append(" then 1 else 0 end)");
+        }
+        return expressao.toString();
+    }
+
+    /**
+     * Método para executar a atualização de um jogador a partir de um resumo
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param conexao Connection: conexão JDBC da transação em andamento
+     * @param id Integer: identificação do jogador
+     * @param resumo ResumoJogos: jogos acumulados do jogador
+     * @throws SQLException caso o comando falhar
+     */
+    private static void atualizarJogador(Connection conexao, Integer id, ResumoJogos resumo) throws SQLException{
+        try (PreparedStatement ps = conexao.prepareStatement(comandoJogador(resumo))) {
+            int i = 1;
+            ps.setInt(i++, resumo.getRecordesMinimo().size() - 1);
+            for (Integer placar : resumo.getRecordesMinimo()) {
+                ps.setInt(i++, placar);
+            }
+            ps.setInt(i++, resumo.getRecordesMaximo().size() - 1);
+            for (Integer placar : resumo.getRecordesMaximo()) {
+                ps.setInt(i++, placar);
+            }
+            i = parametrosComuns(ps, i, resumo);
+            ps.setInt(i, id);
+            ps.executeUpdate();
+        }
+    }
+
+    /**
+     * Método para executar a atualização de uma temporada a partir de um resumo
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param conexao Connection: conexão JDBC da transação em andamento
+     * @param id Integer: identificação da temporada
+     * @param resumo ResumoJogos: jogos acumulados da temporada
+     * @throws SQLException caso o comando falhar
+     */
+    private static void atualizarTemporada(Connection conexao, Integer id, ResumoJogos resumo) throws SQLException{
+        String sql = "update temporada set "
+                + "min_temporada = (case when qtd_jogos_temporada = 0 or ? < min_temporada then ? else min_temporada end), "
+                + "max_temporada = (case when qtd_jogos_temporada = 0 or ? > max_temporada then ? else max_temporada end), "
+                + "soma_pontuacao_temporada = soma_pontuacao_temporada + ?, "
+                + "ultimo_jogo_temporada = (case when ultimo_jogo_temporada is null or ? > ultimo_jogo_temporada then ? else ultimo_jogo_temporada end), "
+                + "qtd_jogos_temporada = qtd_jogos_temporada + ? "
+                + "where id_temporada = ?";
+        try (PreparedStatement ps = conexao.prepareStatement(sql)) {
+            int i = parametrosComuns(ps, 1, resumo);
+            ps.setInt(i, id);
+            ps.executeUpdate();
+        }
+    }
+
+    /**
+     * Método para definir os parâmetros de mínimo, máximo, soma, data do último jogo e quantidade de jogos
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param ps PreparedStatement: comando de atualização
+     * @param inicio int: posição do primeiro parâmetro
+     * @param resumo ResumoJogos: jogos acumulados
+     * @return int: posição do próximo parâmetro
+     * @throws SQLException caso algum parâmetro seja inválido
+     */
+    private static int parametrosComuns(PreparedStatement ps, int inicio, ResumoJogos resumo) throws SQLException{
+        int i = inicio;
+        Timestamp data = new Timestamp(resumo.getUltimaData().getTime());
+        ps.setInt(i++, resumo.getMinimo());
+        ps.setInt(i++, resumo.getMinimo());
+        ps.setInt(i++, resumo.getMaximo());
+        ps.setInt(i++, resumo.getMaximo());
+        ps.setLong(i++, resumo.getSoma());
+        ps.setTimestamp(i++, data);
+        ps.setTimestamp(i++, data);
+        ps.setInt(i++, resumo.getQuantidade());
+        return i;
+    }
+}
@@ -0,0 +1,233 @@
+package model;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import util.Configuracao;
+
+/**
+ * Classe responsável pelo cache de resultados de consultas, separado por jogador
+ * <p>
+ * Utilizado para evitar consultas repetidas na paginação, como as páginas e a contagem de jogos e temporadas de um filtro, 
+ * que são exibidas novamente pelo jogador entre as inserções.<br>
+ * Os resultados de cada jogador são mantidos em uma partição com um número de versão.
+ * Toda inserção ou alteração de dados do jogador deverá chamar o método invalidar após o commit,
+ * que descarta os resultados e incrementa a versão da partição.<br>
+ * Um resultado só é guardado se a versão não foi alterada durante a consulta,
+ * evitando que um resultado obtido antes de uma inserção seja mantido após a invalidação.<br>
+ * A invalidação só ocorre para alterações realizadas por este servidor. Alterações de outros processos 
+ * (ex: ImportadorJogos, RecalculoAgregados) ou servidores não invalidam o cache, portanto cada resultado expira 
+ * EXPIRACAO_NANOS após ser guardado (cache.consultas.expiracao.ms no configuracao.properties), 
+ * limitando o tempo em que um resultado desatualizado pode ser exibido.<br>
+ * São mantidos no máximo LIMITE_JOGADORES jogadores. Ao exceder o limite, partições são descartadas.
+ * </p>
+ * @author Thiago Alexandre Buerger
+ * @version 1.0
+ */
+public final class CacheConsultas {
+
+    /**
+     * Quantidade máxima de jogadores mantidos no cache
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private static final int LIMITE_JOGADORES = 5000;
+
+    /**
+     * Quantidade máxima de resultados mantidos para cada jogador
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private static final int LIMITE_RESULTADOS = 64;
+
+    /**
+     * Tempo máximo que um resultado é mantido após ser guardado, em nanossegundos (0 desabilita o cache)
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    static final long EXPIRACAO_NANOS = TimeUnit.MILLISECONDS.toNanos(Configuracao.getInteiro("cache.consultas.expiracao.ms", 30000));
+
+    /**
+     * Partições do cache, identificadas pelo id do jogador
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private static final ConcurrentHashMap<Integer, Particao> JOGADORES = new ConcurrentHashMap<>();
+
+    /**
+     * Sequência das versões das partições
+     * <p>
+     * As versões são únicas entre todas as partições, evitando que uma partição descartada e criada novamente 
+     * repita uma versão já utilizada.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private static final AtomicLong VERSOES = new AtomicLong();
+
+    /**
+     * Construtor privado, pois a classe possui apenas métodos estáticos
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private CacheConsultas() {}
+
+    /**
+     * Método para obter um resultado do cache ou realizar a consulta
+     * <p>
+     * Caso o resultado não esteja no cache ou tenha expirado, a consulta é realizada e o resultado é guardado,
+     * se a versão da partição não foi alterada durante a consulta.<br>
+     * Caso o jogador não seja informado, a consulta é sempre realizada.<br>
+     * Exceções lançadas pela consulta são repassadas e nenhum resultado é guardado.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param <T> tipo do resultado
+     * @param idJogador Integer: identificação do jogador dono dos dados consultados
+     * @param chave String: identificação da consulta e de seus filtros
+     * @param consulta Supplier: consulta realizada caso o resultado não esteja no cache
+     * @return T: resultado da consulta
+     */
+    public static <T> T consultar(Integer idJogador, String chave, Supplier<T> consulta) {
+        return consultar(idJogador, chave, consulta, System.nanoTime());
+    }
+
+    /**
+     * Método para obter um resultado do cache ou realizar a consulta em um instante informado
+     * <p>
+     * Utilizado pelo método consultar e pelos testes da expiração.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param <T> tipo do resultado
+     * @param idJogador Integer: identificação do jogador dono dos dados consultados
+     * @param chave String: identificação da consulta e de seus filtros
+     * @param consulta Supplier: consulta realizada caso o resultado não esteja no cache
+     * @param agora long: instante atual (System.nanoTime())
+     * @return T: resultado da consulta
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T consultar(Integer idJogador, String chave, Supplier<T> consulta, long agora) {
+        if (idJogador == null || EXPIRACAO_NANOS <= 0) {
+            return consulta.get();
+        }
+        Particao particao = JOGADORES.computeIfAbsent(idJogador, id -> new Particao());
+        long versao;
+        synchronized (particao) {
+            Entrada entrada = particao.valores.get(chave);
+            if (entrada != null) {
+                if (agora - entrada.gravado < EXPIRACAO_NANOS) {
+                    return (T) entrada.valor;
+                }
+                particao.valores.remove(chave);
+            }
+            versao = particao.versao;
+        }
+        T resultado = consulta.get();
+        if (resultado != null) {
+            synchronized (particao) {
+                if (particao.versao == versao) {
+                    if (particao.valores.size() >= LIMITE_RESULTADOS) {
+                        particao.valores.clear();
+                    }
+                    particao.valores.put(chave, new Entrada(resultado, agora));
+                }
+            }
+        }
+        limitar();
+        return resultado;
+    }
+
+    /**
+     * Método para obter a versão dos dados de um jogador
+     * <p>
+     * A versão é incrementada a cada invalidação (inserção ou alteração de dados do jogador).
+     * Utilizada para verificar se um resultado obtido fora do cache, como uma página pré-carregada (PreCarregamento), 
+     * ainda é válido: o resultado só poderá ser utilizado se a versão não foi alterada desde o início da consulta.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param idJogador Integer: identificação do jogador
+     * @return long: versão dos dados do jogador ou -1 caso o jogador não seja informado
+     */
+    public static long versao(Integer idJogador) {
+        if (idJogador == null) {
+            return -1;
+        }
+        Particao particao = JOGADORES.computeIfAbsent(idJogador, id -> new Particao());
+        synchronized (particao) {
+            return particao.versao;
+        }
+    }
+
+    /**
+     * Método para invalidar os resultados de um jogador
+     * <p>
+     * Deve ser chamado após o commit de qualquer inserção ou alteração de dados do jogador.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param idJogador Integer: identificação do jogador
+     */
+    public static void invalidar(Integer idJogador) {
+        if (idJogador == null) {
+            return;
+        }
+        Particao particao = JOGADORES.get(idJogador);
+        if (particao != null) {
+            synchronized (particao) {
+                particao.versao = VERSOES.incrementAndGet();
+                particao.valores.clear();
+            }
+        }
+    }
+
+    /**
+     * Método para descartar partições ao exceder LIMITE_JOGADORES jogadores
+     * <p>
+     * Partições descartadas não afetam consultas em andamento, pois seus resultados não serão mais encontrados.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private static void limitar() {
+        Iterator<Integer> ids = JOGADORES.keySet().iterator();
+        while (JOGADORES.size() > LIMITE_JOGADORES && ids.hasNext()) {
+            Integer id = ids.next();
+            invalidar(id);
+            ids.remove();
+        }
+    }
+
+    /**
+     * Classe da partição de resultados de um jogador
+     * <p>
+     * Os atributos são acessados somente com o bloqueio da própria partição (synchronized).
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private static final class Particao {
+        private long versao = VERSOES.incrementAndGet();
+        private final Map<String, Entrada> valores = new HashMap<>();
+    }
+
+    /**
+     * Classe de um resultado guardado, com o instante em que foi guardado (System.nanoTime())
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private static final class Entrada {
+        private final Object valor;
+        private final long gravado;
+
+        Entrada(Object valor, long gravado) {
+            this.valor = valor;
+            this.gravado = gravado;
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package model;
+
+import java.util.Collection;
+import javax.persistence.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import util.CacheAplicacao;
+import util.Configuracao;
+import util.JPAConnectionFactory;
+
+/**
+ * Classe responsável pelo descarte de entidades do cache de segundo nível do Hibernate (regiões Jogador e Temporada)
+ * <p>
+ * As alterações realizadas pelas entidades (persist, merge e alteração de entidades gerenciadas) atualizam o cache automaticamente.
+ * Já os dados agregados do jogador e da temporada são alterados diretamente por comandos JDBC (session.doWork), 
+ * que não são informados ao cache. Após o commit desses comandos, as entidades alteradas deverão ser descartadas,
+ * para que a próxima busca pelo id consulte novamente o banco.<br>
+ * Também disponibiliza as estatísticas de acertos e falhas de cada região (estatisticas).<br>
+ * Antes do cache de segundo nível, as buscas pelo id (JogadorDAO.buscarPorId e TemporadaDAO.buscarPorId) utilizam 
+ * os caches da aplicação JOGADORES e TEMPORADAS (CacheAplicacao), com capacidade limitada e política W-TinyLFU (Caffeine), 
+ * que mantém em memória os jogadores e temporadas acessados com frequência mesmo durante a leitura de todos os registros.
+ * Os descartes também removem as entidades desses caches. As alterações realizadas fora da aplicação (ex: RecalculoAgregados 
+ * pela linha de comando) não são descartadas, por isso os valores expiram após cache.aplicacao.expiracao.ms desde a inserção.
+ * </p>
+ * @author Thiago Alexandre Buerger
+ * @version 1.0
+ */
+public final class CacheEntidades {
+
+    /**
+     * Indica se os caches da aplicação (JOGADORES e TEMPORADAS) estão habilitados
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private static final boolean HABILITADO = Configuracao.getBooleano("cache.aplicacao", true);
+
+    /**
+     * Tempo em milissegundos após a inserção em que os valores dos caches da aplicação são descartados
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private static final long EXPIRACAO_MS = Configuracao.getInteiro("cache.aplicacao.expiracao.ms", 60000);
+
+    /**
+     * Cache da aplicação dos jogadores, identificados pelo id
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    static final CacheAplicacao<Integer, Jogador> JOGADORES = new CacheAplicacao<>("jogadores", 
+            HABILITADO ? Configuracao.getInteiro("cache.aplicacao.jogadores", 5000) : 0, EXPIRACAO_MS);
+
+    /**
+     * Cache da aplicação das temporadas, identificadas pelo id
+     * <p>
+     * Cada temporada em cache possui uma cópia própria do jogador (Temporada.copia), 
+     * que não é compartilhada com o jogador do cache de segundo nível nem com quem obtém a temporada.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    static final CacheAplicacao<Integer, Temporada> TEMPORADAS = new CacheAplicacao<>("temporadas", 
+            HABILITADO ? Configuracao.getInteiro("cache.aplicacao.temporadas", 20000) : 0, EXPIRACAO_MS);
+
+    /**
+     * Construtor privado, pois a classe possui apenas métodos estáticos
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private CacheEntidades() {}
+
+    /**
+     * Método para descartar o jogador e a temporada de cada jogo
+     * <p>
+     * Deve ser chamado após o commit da atualização dos dados agregados dos jogos.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param jogos Collection Jogo: jogos inseridos
+     */
+    static void descartar(Collection<Jogo> jogos) {
+        Cache cache = JPAConnectionFactory.getEntityManagerFactory().getCache();
+        for (Jogo jogo : jogos) {
+            Temporada temporada = jogo.getTemporada();
+            if (temporada != null) {
+                cache.evict(Temporada.class, temporada.getId());
+                TEMPORADAS.invalidar(temporada.getId());
+                if (temporada.getJogador() != null) {
+                    cache.evict(Jogador.class, temporada.getJogador().getId());
+                    JOGADORES.invalidar(temporada.getJogador().getId());
+                }
+            }
+        }
+    }
+
+    /**
+     * Método para descartar jogadores e temporadas pela identificação
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param jogadores Collection Integer: identificação dos jogadores alterados
+     * @param temporadas Collection Integer: identificação das temporadas alteradas
+     */
+    static void descartar(Collection<Integer> jogadores, Collection<Integer> temporadas) {
+        Cache cache = JPAConnectionFactory.getEntityManagerFactory().getCache();
+        for (Integer id : jogadores) {
+            cache.evict(Jogador.class, id);
+            JOGADORES.invalidar(id);
+        }
+        for (Integer id : temporadas) {
+            cache.evict(Temporada.class, id);
+            TEMPORADAS.invalidar(id);
+        }
+    }
+
+    /**
+     * Método para descartar jogadores e todas as temporadas
+     * <p>
+     * Utilizado pela reconstrução e pelo recálculo dos dados agregados, que também alteram temporadas sem jogos (zeradas).
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param jogadores Collection Integer: identificação dos jogadores alterados
+     */
+    static void descartarComTemporadas(Collection<Integer> jogadores) {
+        Cache cache = JPAConnectionFactory.getEntityManagerFactory().getCache();
+        for (Integer id : jogadores) {
+            cache.evict(Jogador.class, id);
+            JOGADORES.invalidar(id);
+        }
+        cache.evict(Temporada.class);
+        TEMPORADAS.limpar();
+    }
+
+    /**
+     * Método para obter as estatísticas dos caches da aplicação e das regiões do cache de segundo nível
+     * <p>
+     * As estatísticas das regiões requerem hibernate.generate_statistics no persistence.xml.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @return String: estatísticas dos caches da aplicação (CacheAplicacao.estatisticas) 
+     * e acertos, falhas, inserções e quantidade de entidades em memória de cada região
+     */
+    public static String estatisticas() {
+        Statistics estatisticas = JPAConnectionFactory.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        StringBuilder texto = new StringBuilder();
+        texto.append(JOGADORES.estatisticas()).append(" ").append(TEMPORADAS.estatisticas()).append(" ");
+        for (String regiao : new String[]{Jogador.REGIAO_CACHE, Temporada.REGIAO_CACHE}) {
+            CacheRegionStatistics estatisticasRegiao = estatisticas.getDomainDataRegionStatistics(regiao);
+            if (estatisticasRegiao != null) {
+                texto.append(regiao).append(": ").append(estatisticasRegiao.getHitCount()).append(" acertos, ")
+                        .append(estatisticasRegiao.getMissCount()).append(" falhas, ").append(estatisticasRegiao.getPutCount()).append(" inserções, ")
+                        .append(estatisticasRegiao.getElementCountInMemory()).append(" em memória. ");
+            }
+        }
+        return texto.toString().trim();
+    }
+}
@@ -0,0 +1,80 @@
+package model;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Classe responsável pelo cálculo dos dados agregados de um jogador a partir dos eventos do diário de jogos
+ * <p>
+ * Os eventos devem ser aplicados na ordem do diário (identificação crescente):
+ * </p>
+ * <ul>
+ *      <li>INCLUSAO: adiciona o jogo;</li>
+ *      <li>ALTERACAO: substitui os dados do jogo, mantendo a sua posição na ordem de inserção;</li>
+ *      <li>EXCLUSAO: remove o jogo.</li>
+ * </ul>
+ * <p>
+ * Os dados agregados são calculados registrando os jogos restantes na ordem de inserção (id_jogo crescente), 
+ * com as mesmas regras dos métodos registrarJogo do Jogador e da Temporada. 
+ * A ordem dos eventos não é utilizada, pois os eventos dos jogos anteriores ao diário foram incluídos em ordem de data 
+ * (Desafio_Publica_atualizacao.sql). Assim, o resultado é o mesmo do recálculo a partir da tabela jogo (RecalculoAgregados).<br>
+ * Dessa forma, o resultado é determinístico e depende apenas dos eventos, sem acesso ao banco.
+ * </p>
+ * @author Thiago Alexandre Buerger
+ * @version 1.0
+ */
+class CalculoAgregados {
+    
+    /**
+     * Estado atual dos jogos, identificados pelo id do jogo, na ordem de inserção (id_jogo crescente)
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private final Map<Integer, JogoEvento> jogos = new TreeMap<>();
+    
+    /**
+     * Método para aplicar um evento do diário
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param evento JogoEvento: próximo evento do diário
+     */
+    void aplicar(JogoEvento evento){
+        switch (evento.getTipo()) {
+            case INCLUSAO:
+            case ALTERACAO:
+                jogos.put(evento.getIdJogo(), evento);
+                break;
+            case EXCLUSAO:
+                jogos.remove(evento.getIdJogo());
+                break;
+        }
+    }
+    
+    /**
+     * Método para calcular o resumo de todos os jogos do jogador
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @return ResumoJogos: resumo dos jogos do jogador
+     */
+    ResumoJogos jogador(){
+        ResumoJogos resumo = new ResumoJogos();
+        for (JogoEvento jogo : jogos.values()) {
+            resumo.adicionar(jogo.getPlacar(), jogo.getData());
+        }
+        return resumo;
+    }
+    
+    /**
+     * Método para calcular o resumo dos jogos de cada temporada
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @return Map Integer,ResumoJogos: resumos identificados pelo id da temporada, em ordem crescente
+     */
+    Map<Integer, ResumoJogos> temporadas(){
+        Map<Integer, ResumoJogos> resumos = new TreeMap<>();
+        for (JogoEvento jogo : jogos.values()) {
+            resumos.computeIfAbsent(jogo.getIdTemporada(), id -> new ResumoJogos()).adicionar(jogo.getPlacar(), jogo.getData());
+        }
+        return resumos;
+    }
+}
@@ -0,0 +1,298 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import util.Configuracao;
+import util.JPAConnectionFactory;
+import util.MetricasPool;
+
+/**
+ * Classe responsável pela inicialização e pelo encerramento da aplicação
+ * <p>
+ * Na inicialização (iniciar), chamada pelo InicializacaoAplicacao antes da primeira requisição, são realizados:
+ * </p>
+ * <ul>
+ *      <li>a criação do EntityManagerFactory (JPAConnectionFactory), com a leitura dos metadados das entidades e a criação do pool de conexões;</li>
+ *      <li>a abertura de aquecimento.conexoes conexões do pool ao mesmo tempo, que permanecem abertas no pool;</li>
+ *      <li>o registro de todas as consultas JPQL e SQL dos DAOs (RegistroConsultas.registrar), interpretadas pelo Hibernate uma única vez;</li>
+ *      <li>opcionalmente, uma simulação de aquecimento.iteracoes requisições de leitura das telas para o jogador aquecimento.jogador,
+ *      fazendo com que o JIT compile os métodos mais utilizados antes da primeira requisição.</li>
+ * </ul>
+ * <p>
+ * Somente após a inicialização a aplicação é informada como pronta (isPronto, utilizado pelo ProntidaoServlet).
+ * Caso o banco esteja indisponível, a inicialização é tentada novamente em segundo plano até a criação do EntityManagerFactory.<br>
+ * No encerramento (encerrar), os jogos pendentes de atualização dos dados agregados são aplicados,
+ * as threads em segundo plano são encerradas, as estatísticas dos caches e do pool são informadas no log
+ * e o EntityManagerFactory é fechado, fechando as conexões do pool.
+ * </p>
+ * @author Thiago Alexandre Buerger
+ * @version 1.0
+ */
+public final class CicloAplicacao {
+
+    /**
+     * Indica se o aquecimento (conexões, consultas e simulação) está habilitado
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private static final boolean AQUECIMENTO = Configuracao.getBooleano("aquecimento", true);
+
+    /**
+     * Quantidade de conexões abertas ao mesmo tempo no aquecimento, que não deverá exceder hibernate.hikari.maximumPoolSize
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private static final int CONEXOES = Configuracao.getInteiro("aquecimento.conexoes", 5);
+
+    /**
+     * Identificação do jogador utilizado na simulação de requisições (0 desabilita a simulação)
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private static final int JOGADOR = Configuracao.getInteiro("aquecimento.jogador", 0);
+
+    /**
+     * Quantidade de iterações da simulação de requisições
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private static final int ITERACOES = Configuracao.getInteiro("aquecimento.iteracoes", 50);
+
+    /**
+     * Indica se o EntityManagerFactory foi criado com sucesso
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private static volatile boolean iniciada;
+
+    /**
+     * Indica se a aplicação está pronta para receber requisições
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private static volatile boolean pronto;
+
+    /**
+     * Descrição da situação da aplicação, informada pelo ProntidaoServlet
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private static volatile String situacao = "Aplicação em inicialização.";
+
+    /**
+     * Indica se a aplicação foi encerrada (encerrar), impedindo novas tentativas de inicialização
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private static boolean encerrada;
+
+    /**
+     * Thread em segundo plano responsável pelas novas tentativas de inicialização
+     * <p>
+     * Criada na primeira falha da inicialização (agendarTentativas), como daemon, e encerrada após a inicialização com sucesso.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private static ScheduledExecutorService tentativas;
+
+    /**
+     * Construtor privado, pois a classe possui apenas métodos estáticos
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private CicloAplicacao() {}
+
+    /**
+     * Método para inicializar a aplicação
+     * <p>
+     * Caso a criação do EntityManagerFactory falhe (ex: banco indisponível), a aplicação não é informada como pronta
+     * e uma nova tentativa é agendada a cada JPAConnectionFactory.INTERVALO_TENTATIVAS (agendarTentativas), 
+     * até a inicialização com sucesso ou o encerramento da aplicação.
+     * Falhas no aquecimento apenas são informadas no log, e a aplicação é informada como pronta.<br>
+     * Chamadas seguintes à inicialização com sucesso não possuem efeito.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @return boolean: true caso a aplicação esteja pronta ou false caso contrário
+     */
+    public static synchronized boolean iniciar() {
+        if (pronto || encerrada) {
+            return pronto;
+        }
+        long inicio = System.currentTimeMillis();
+        EntityManagerFactory emf;
+        try {
+            emf = JPAConnectionFactory.getEntityManagerFactory();
+            iniciada = true;
+        } catch (RuntimeException e) {
+            situacao = "Falha na inicialização (nova tentativa em " + JPAConnectionFactory.INTERVALO_TENTATIVAS / 1000 + " s): " + e;
+            System.out.println("Erro! " + e);
+            agendarTentativas();
+            return false;
+        }
+        if (AQUECIMENTO) {
+            try {
+                abrirConexoes(emf);
+                RegistroConsultas.registrar(emf);
+                if (JOGADOR > 0) {
+                    simular(JOGADOR);
+                }
+            } catch (RuntimeException e) {
+                System.out.println("Erro! " + e);
+            }
+        }
+        situacao = "Pronta em " + (System.currentTimeMillis() - inicio) + " ms. " + MetricasPool.estatisticas();
+        pronto = true;
+        System.out.println(situacao);
+        if (tentativas != null) {
+            tentativas.shutdown();
+            tentativas = null;
+        }
+        return true;
+    }
+
+    /**
+     * Método para agendar as novas tentativas de inicialização, criando a thread na primeira falha
+     * <p>
+     * Cada tentativa chama iniciar, que encerra a thread após a inicialização com sucesso.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private static void agendarTentativas() {
+        if (tentativas == null) {
+            tentativas = Executors.newSingleThreadScheduledExecutor(tarefa -> {
+                Thread thread = new Thread(tarefa, "inicializacao-aplicacao");
+                thread.setDaemon(true);
+                return thread;
+            });
+            tentativas.scheduleWithFixedDelay(CicloAplicacao::iniciar, 
+                    JPAConnectionFactory.INTERVALO_TENTATIVAS, JPAConnectionFactory.INTERVALO_TENTATIVAS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Método para abrir CONEXOES conexões do pool ao mesmo tempo
+     * <p>
+     * Cada EntityManager obtém uma conexão no início da transação (em.getTransaction().begin()) e a mantém até o seu término.
+     * Como todas as transações são iniciadas antes de qualquer término, o pool cria as conexões que ainda não existirem.
+     * Após o rollback e o em.close(), as conexões permanecem abertas no pool.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param emf EntityManagerFactory: fábrica de conexões da aplicação
+     */
+    private static void abrirConexoes(EntityManagerFactory emf) {
+        List<EntityManager> ems = new ArrayList<>();
+        try {
+            for (int i = 0; i < CONEXOES; i++) {
+                EntityManager em = emf.createEntityManager();
+                ems.add(em);
+                em.getTransaction().begin();
+            }
+        } finally {
+            for (EntityManager em : ems) {
+                if (em.getTransaction().isActive()) {
+                    em.getTransaction().rollback();
+                }
+                em.close();
+            }
+        }
+    }
+
+    /**
+     * Método para simular as requisições de leitura das telas de jogos e temporadas de um jogador
+     * <p>
+     * A cada iteração são realizadas as pesquisas, páginas e contagens de jogos e temporadas,
+     * alternando a ordenação e a direção, e as sugestões do campo de seleção de temporada.<br>
+     * Os resultados em cache do jogador (CacheConsultas) são invalidados a cada iteração,
+     * para que as consultas ao banco também sejam executadas, e após a simulação. Nenhum dado é alterado.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param idJogador int: identificação do jogador
+     */
+    private static void simular(int idJogador) {
+        Jogador jogador = new JogadorDAO().buscarPorId(idJogador);
+        if (jogador == null) {
+            return;
+        }
+        JogoDAO jogoDAO = new JogoDAO();
+        TemporadaDAO temporadaDAO = new TemporadaDAO();
+        String[] ordenacoesJogos = {"data", "placar", "nomeTemporada"};
+        String[] ordenacoesTemporadas = {"nome", "minimo", "maximo"};
+        for (int i = 0; i < ITERACOES; i++) {
+            CacheConsultas.invalidar(jogador.getId());
+            JogoFilter filtroJogos = new JogoFilter();
+            filtroJogos.setJogador(jogador);
+            filtroJogos.setQuantidadeRegistros(10);
+            filtroJogos.setPropriedadeOrdenacao(ordenacoesJogos[i % ordenacoesJogos.length]);
+            filtroJogos.setAscendente(i % 2 == 0);
+            jogoDAO.filtrados(filtroJogos);
+            jogoDAO.pagina(filtroJogos);
+            jogoDAO.quantidadeFiltrados(filtroJogos);
+            TemporadaFilter filtroTemporadas = new TemporadaFilter();
+            filtroTemporadas.setJogador(jogador);
+            filtroTemporadas.setQuantidadeRegistros(10);
+            filtroTemporadas.setPropriedadeOrdenacao(ordenacoesTemporadas[i % ordenacoesTemporadas.length]);
+            filtroTemporadas.setAscendente(i % 2 == 0);
+            temporadaDAO.filtrados(filtroTemporadas);
+            temporadaDAO.pagina(filtroTemporadas);
+            temporadaDAO.quantidadeFiltrados(filtroTemporadas);
+            temporadaDAO.sugestoes(jogador, "", 10);
+        }
+        CacheConsultas.invalidar(jogador.getId());
+    }
+
+    /**
+     * Método para encerrar a aplicação
+     * <p>
+     * Encerra as novas tentativas de inicialização, 
+     * aplica os jogos pendentes (AtualizadorAgregados.encerrar), encerra o pré-carregamento de páginas (PreCarregamento.encerrar),
+     * informa as estatísticas dos caches e do pool no log e fecha o EntityManagerFactory.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    public static synchronized void encerrar() {
+        pronto = false;
+        encerrada = true;
+        situacao = "Aplicação encerrada.";
+        if (tentativas != null) {
+            tentativas.shutdownNow();
+            tentativas = null;
+        }
+        PreCarregamento.encerrar();
+        if (!iniciada) {
+            return;
+        }
+        try {
+            AtualizadorAgregados.encerrar();
+            System.out.println(CacheEntidades.estatisticas() + " " + MetricasPool.estatisticas());
+        } catch (RuntimeException e) {
+            System.out.println("Erro! " + e);
+        }
+        JPAConnectionFactory.fechar();
+        iniciada = false;
+    }
+
+    /**
+     * Método para verificar se a aplicação está pronta para receber requisições
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @return boolean: true caso a inicialização tenha sido concluída ou false caso contrário
+     */
+    public static boolean isPronto() {
+        return pronto;
+    }
+
+    public static String getSituacao() {
+        return situacao;
+    }
+}
@@ -0,0 +1,590 @@
+package model;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.validation.Validation;
+import javax.validation.Validator;
+
+/**
+ * Classe responsável pela importação de históricos de jogos a partir de arquivos
+ * <p>
+ * Aceita arquivos CSV (login,temporada,data,placar,descricao) ou JSON com um objeto por linha
+ * ({"login": "...", "temporada": "...", "data": "...", "placar": 0, "descricao": "..."}),
+ * com a data no formato yyyy-MM-dd HH:mm:ss.<br>
+ * O arquivo é lido linha a linha, sem nunca ser carregado inteiro na memória, e processado em três etapas:
+ * </p>
+ * <ul>
+ *      <li>leitura: a thread chamadora agrupa as linhas em lotes de tamanhoLote linhas;</li>
+ *      <li>interpretação: um conjunto de threads converte e valida os lotes em paralelo.
+ *      A fila de lotes em andamento é limitada, bloqueando a leitura enquanto a gravação estiver atrasada;</li>
+ *      <li>gravação: uma única thread grava os lotes na ordem do arquivo, com um commit por lote (JogoDAO.importarLote).</li>
+ * </ul>
+ * <p>
+ * As restrições de validação são as mesmas das entidades Jogo, Temporada e Jogador.
+ * Os recordes são atualizados com a mesma regra de Jogador.registrarJogo, em ordem cronológica dentro de cada lote.
+ * Portanto, arquivos ordenados por data mantêm a ordem exata de quebra de recordes.<br>
+ * Temporadas ainda não cadastradas para o jogador são criadas durante a importação.
+ * Jogos de logins não cadastrados, inválidos ou com data e hora repetida são rejeitados.
+ * </p>
+ * @author Thiago Alexandre Buerger
+ * @version 1.0
+ */
+public class ImportadorJogos {
+
+    /**
+     * Formatos de arquivo aceitos pela importação
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    public enum Formato {CSV, JSON}
+
+    /**
+     * Formato da data e hora dos jogos no arquivo
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private static final DateTimeFormatter FORMATO_DATA = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    /**
+     * Quantidade máxima de jogadores e temporadas mantidos em memória durante a importação
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private static final int LIMITE_CACHE = 10000;
+
+    /**
+     * Marcador de fim do arquivo enviado para a etapa de gravação
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private static final Future<List<Jogo>> FIM = CompletableFuture.completedFuture(null);
+
+    private final int tamanhoLote;
+    private final int threads;
+    private final Validator validator;
+    private final JogoDAO jogoDAO;
+    private final JogadorDAO jogadorDAO;
+    private final TemporadaDAO temporadaDAO;
+    private final Map<String, Jogador> jogadores;
+    private final Map<String, Temporada> temporadas;
+    private final AtomicLong lidas;
+    private final AtomicLong importados;
+    private final AtomicLong rejeitados;
+    private volatile long inicio;
+
+    /**
+     * Construtor da classe ImportadorJogos com lotes de 1000 linhas e uma thread de interpretação por processador
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    public ImportadorJogos() {
+        this(1000, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Construtor da classe ImportadorJogos
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param tamanhoLote int: quantidade de linhas gravadas em cada transação
+     * @param threads int: quantidade de threads utilizadas na interpretação das linhas
+     */
+    public ImportadorJogos(int tamanhoLote, int threads) {
+        this.tamanhoLote = Math.max(1, tamanhoLote);
+        this.threads = Math.max(1, threads);
+        validator = Validation.buildDefaultValidatorFactory().getValidator();
+        jogoDAO = new JogoDAO();
+        jogadorDAO = new JogadorDAO();
+        temporadaDAO = new TemporadaDAO();
+        jogadores = cacheLimitado();
+        temporadas = cacheLimitado();
+        lidas = new AtomicLong();
+        importados = new AtomicLong();
+        rejeitados = new AtomicLong();
+    }
+
+    /**
+     * Método para importar um arquivo, identificando o formato pela extensão (.csv ou JSON para as demais)
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param arquivo Path: arquivo que será importado
+     * @return String: resumo da importação ou mensagem de falha
+     */
+    public String importar(Path arquivo) {
+        Formato formato = arquivo.toString().toLowerCase().endsWith(".csv") ? Formato.CSV : Formato.JSON;
+        return importar(arquivo, formato);
+    }
+
+    /**
+     * Método para importar um arquivo
+     * <p>
+     * BlockingQueue fila: lotes em interpretação, na ordem do arquivo.
+     * Possui capacidade limitada (duas vezes a quantidade de threads), garantindo memória constante.<br>
+     * Thread gravacao: grava os lotes na ordem em que foram lidos.<br>
+     * Ao final da leitura, é enviado o marcador FIM e aguardado o término da gravação.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param arquivo Path: arquivo que será importado
+     * @param formato Formato: formato das linhas do arquivo
+     * @return String: resumo da importação ou mensagem de falha
+     */
+    public String importar(Path arquivo, Formato formato) {
+        String mensagem = "";
+        inicio = System.nanoTime();
+        ExecutorService interpretacao = Executors.newFixedThreadPool(threads);
+        BlockingQueue<Future<List<Jogo>>> fila = new ArrayBlockingQueue<>(threads * 2);
+        Thread gravacao = new Thread(() -> gravar(fila), "importador-jogos-gravacao");
+        gravacao.start();
+        try {
+            try (BufferedReader leitor = Files.newBufferedReader(arquivo, StandardCharsets.UTF_8)) {
+                List<String> lote = new ArrayList<>(tamanhoLote);
+                String linha;
+                boolean primeira = true;
+                while ((linha = leitor.readLine()) != null) {
+                    if (primeira && formato == Formato.CSV && linha.trim().toLowerCase().startsWith("login")) {
+                        primeira = false;
+                        continue;
+                    }
+                    primeira = false;
+                    if (linha.trim().isEmpty()) {
+                        continue;
+                    }
+                    lidas.incrementAndGet();
+                    lote.add(linha);
+                    if (lote.size() == tamanhoLote) {
+                        List<String> enviado = lote;
+                        fila.put(interpretacao.submit(() -> interpretar(enviado, formato)));
+                        lote = new ArrayList<>(tamanhoLote);
+                    }
+                }
+                if (!lote.isEmpty()) {
+                    List<String> enviado = lote;
+                    fila.put(interpretacao.submit(() -> interpretar(enviado, formato)));
+                }
+            } catch (IOException e) {
+                mensagem = "Erro ao ler o arquivo!";
+                System.out.println("Erro! " + e);
+            } finally {
+                fila.put(FIM);
+                gravacao.join();
+                interpretacao.shutdown();
+            }
+            if (mensagem.isEmpty()) {
+                mensagem = "Importação concluída! " + getProgresso();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            mensagem = "Importação interrompida! " + getProgresso();
+            System.out.println("Erro! " + e);
+        }
+        return mensagem;
+    }
+
+    /**
+     * Método executado pela thread de gravação
+     * <p>
+     * Aguarda cada lote interpretado na ordem do arquivo, identifica o jogador e a temporada de cada jogo
+     * e grava o lote em uma única transação (JogoDAO.importarLote).<br>
+     * Caso a gravação de um lote falhar, apenas aquele lote será desfeito e contabilizado como rejeitado.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param fila BlockingQueue: lotes em interpretação, na ordem do arquivo
+     */
+    private void gravar(BlockingQueue<Future<List<Jogo>>> fila) {
+        try {
+            Future<List<Jogo>> proximo;
+            while ((proximo = fila.take()) != FIM) {
+                List<Jogo> lote = new ArrayList<>();
+                int total = 0;
+                try {
+                    List<Jogo> interpretados = proximo.get();
+                    total = interpretados.size();
+                    for (Jogo jogo : interpretados) {
+                        if (identificar(jogo)) {
+                            lote.add(jogo);
+                        }
+                    }
+                    int gravados = lote.isEmpty() ? 0 : jogoDAO.importarLote(lote);
+                    importados.addAndGet(gravados);
+                    rejeitados.addAndGet(total - gravados);
+                } catch (Exception e) {
+                    rejeitados.addAndGet(total);
+                    System.out.println("Erro! " + e);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Método para substituir o jogador e a temporada informados no arquivo pelos cadastrados no banco
+     * <p>
+     * Os jogadores são pesquisados pelo login (JogadorDAO.buscarPorLogin) e as temporadas pelo nome
+     * (TemporadaDAO.buscarPorNome). Caso a temporada não exista, será cadastrada.<br>
+     * Os resultados são mantidos em caches limitados, evitando novas consultas para as próximas linhas.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param jogo Jogo: jogo interpretado do arquivo
+     * @return boolean: true caso o jogador e a temporada forem identificados ou false caso contrário
+     */
+    private boolean identificar(Jogo jogo) {
+        String login = jogo.getTemporada().getJogador().getLogin();
+        String nome = jogo.getTemporada().getNome();
+        Jogador jogador = jogadores.get(login);
+        if (jogador == null) {
+            jogador = jogadorDAO.buscarPorLogin(login);
+            if (jogador == null) {
+                return false;
+            }
+            jogadores.put(login, jogador);
+        }
+        String chave = login + "\u0000" + nome;
+        Temporada temporada = temporadas.get(chave);
+        if (temporada == null) {
+            temporada = temporadaDAO.buscarPorNome(jogador, nome);
+            if (temporada == null) {
+                temporada = new Temporada(null, nome, 0, 0, jogador);
+                temporadaDAO.adicionar(temporada);
+                if (temporada.getId() == null) {
+                    return false;
+                }
+            }
+            temporadas.put(chave, temporada);
+        }
+        jogo.setTemporada(temporada);
+        return true;
+    }
+
+    /**
+     * Método executado pelas threads de interpretação para converter e validar um lote de linhas
+     * <p>
+     * Linhas que não puderem ser convertidas ou que não atenderem às validações das entidades são rejeitadas.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param linhas Lista String: linhas do lote
+     * @param formato Formato: formato das linhas
+     * @return Lista Jogo: jogos válidos do lote, com temporada e jogador ainda não identificados no banco
+     */
+    private List<Jogo> interpretar(List<String> linhas, Formato formato) {
+        List<Jogo> jogos = new ArrayList<>(linhas.size());
+        for (String linha : linhas) {
+            try {
+                Jogo jogo = interpretar(linha, formato);
+                if (validator.validate(jogo).isEmpty()
+                        && validator.validateProperty(jogo.getTemporada(), "nome").isEmpty()
+                        && validator.validateProperty(jogo.getTemporada().getJogador(), "login").isEmpty()) {
+                    jogos.add(jogo);
+                } else{
+                    rejeitados.incrementAndGet();
+                }
+            } catch (RuntimeException e) {
+                rejeitados.incrementAndGet();
+            }
+        }
+        return jogos;
+    }
+
+    /**
+     * Método para converter uma linha do arquivo em um jogo
+     * <p>
+     * O login e o nome da temporada são mantidos em objetos provisórios de Jogador e Temporada,
+     * identificados no banco apenas na etapa de gravação.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param linha String: linha do arquivo
+     * @param formato Formato: formato da linha
+     * @return Jogo: jogo convertido
+     * @throws IllegalArgumentException caso a linha não estiver no formato esperado
+     */
+    static Jogo interpretar(String linha, Formato formato) {
+        Map<String, String> campos;
+        if (formato == Formato.CSV) {
+            List<String> valores = lerCsv(linha);
+            if (valores.size() < 5) {
+                throw new IllegalArgumentException("Quantidade de campos inválida: " + linha);
+            }
+            campos = new HashMap<>();
+            campos.put("login", valores.get(0));
+            campos.put("temporada", valores.get(1));
+            campos.put("data", valores.get(2));
+            campos.put("placar", valores.get(3));
+            campos.put("descricao", valores.get(4));
+        } else{
+            campos = lerJson(linha);
+        }
+        Jogador jogador = new Jogador();
+        jogador.setLogin(texto(campos.get("login")));
+        Temporada temporada = new Temporada(null, texto(campos.get("temporada")), 0, 0, jogador);
+        LocalDateTime data = LocalDateTime.parse(texto(campos.get("data")), FORMATO_DATA);
+        Integer placar = Integer.valueOf(texto(campos.get("placar")));
+        return new Jogo(null, Date.from(data.atZone(ZoneId.systemDefault()).toInstant()),
+                campos.get("descricao"), placar, temporada);
+    }
+
+    /**
+     * Método para obter um campo obrigatório sem espaços nas extremidades
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param valor String: valor do campo
+     * @return String: valor sem espaços nas extremidades
+     * @throws IllegalArgumentException caso o campo não for informado
+     */
+    private static String texto(String valor) {
+        if (valor == null) {
+            throw new IllegalArgumentException("Campo obrigatório não informado");
+        }
+        return valor.trim();
+    }
+
+    /**
+     * Método para separar os campos de uma linha CSV
+     * <p>
+     * Os campos são separados por vírgula. Campos entre aspas podem conter vírgulas,
+     * e aspas dentro deles são representadas por aspas duplicadas.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param linha String: linha CSV
+     * @return Lista String: campos da linha
+     */
+    static List<String> lerCsv(String linha) {
+        List<String> campos = new ArrayList<>();
+        StringBuilder atual = new StringBuilder();
+        boolean aspas = false;
+        for (int i = 0; i < linha.length(); i++) {
+            char c = linha.charAt(i);
+            if (aspas) {
+                if (c == '"' && i + 1 < linha.length() && linha.charAt(i + 1) == '"') {
+                    atual.append('"');
+                    i++;
+                } else if (c == '"') {
+                    aspas = false;
+                } else{
+                    atual.append(c);
+                }
+            } else if (c == '"') {
+                aspas = true;
+            } else if (c == ',') {
+                campos.add(atual.toString());
+                atual.setLength(0);
+            } else{
+                atual.append(c);
+            }
+        }
+        campos.add(atual.toString());
+        return campos;
+    }
+
+    /**
+     * Método para ler os campos de um objeto JSON simples (sem objetos ou listas aninhados) escrito em uma linha
+     * <p>
+     * Textos, números, true, false e null são retornados como texto (null como objeto nulo).
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param linha String: linha contendo o objeto JSON
+     * @return Map String, String: campos do objeto
+     * @throws IllegalArgumentException caso a linha não for um objeto JSON simples
+     */
+    static Map<String, String> lerJson(String linha) {
+        Map<String, String> campos = new HashMap<>();
+        int[] posicao = {pularEspacos(linha, 0)};
+        esperar(linha, posicao, '{');
+        if (linha.charAt(pularEspacos(linha, posicao[0])) == '}') {
+            return campos;
+        }
+        while (true) {
+            posicao[0] = pularEspacos(linha, posicao[0]);
+            String chave = lerTextoJson(linha, posicao);
+            esperar(linha, posicao, ':');
+            posicao[0] = pularEspacos(linha, posicao[0]);
+            String valor;
+            if (linha.charAt(posicao[0]) == '"') {
+                valor = lerTextoJson(linha, posicao);
+            } else{
+                int fim = posicao[0];
+                while (fim < linha.length() && ",} \t".indexOf(linha.charAt(fim)) < 0) {
+                    fim++;
+                }
+                valor = linha.substring(posicao[0], fim);
+                if (valor.isEmpty()) {
+                    throw new IllegalArgumentException("Valor inválido na posição " + posicao[0]);
+                }
+                if (valor.equals("null")) {
+                    valor = null;
+                }
+                posicao[0] = fim;
+            }
+            campos.put(chave, valor);
+            posicao[0] = pularEspacos(linha, posicao[0]);
+            if (posicao[0] < linha.length() && linha.charAt(posicao[0]) == ',') {
+                posicao[0]++;
+            } else{
+                esperar(linha, posicao, '}');
+                return campos;
+            }
+        }
+    }
+
+    /**
+     * Método para ler um texto JSON entre aspas a partir da posição atual, tratando os caracteres de escape
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param linha String: linha contendo o objeto JSON
+     * @param posicao int[]: posição atual da leitura, atualizada para depois das aspas de fechamento
+     * @return String: texto lido
+     */
+    private static String lerTextoJson(String linha, int[] posicao) {
+        esperar(linha, posicao, '"');
+        StringBuilder texto = new StringBuilder();
+        int i = posicao[0];
+        while (i < linha.length() && linha.charAt(i) != '"') {
+            char c = linha.charAt(i);
+            if (c == '\\') {
+                char escape = linha.charAt(++i);
+                switch (escape) {
+                    case 'n': texto.append('\n'); break;
+                    case 't': texto.append('\t'); break;
+                    case 'r': texto.append('\r'); break;
+                    case 'b': texto.append('\b'); break;
+                    case 'f': texto.append('\f'); break;
+                    case 'u':
+                        texto.append((char) Integer.parseInt(linha.substring(i + 1, i + 5), 16));
+                        i += 4;
+                        break;
+                    default: texto.append(escape);
+                }
+            } else{
+                texto.append(c);
+            }
+            i++;
+        }
+        if (i >= linha.length()) {
+            throw new IllegalArgumentException("Texto sem aspas de fechamento");
+        }
+        posicao[0] = i + 1;
+        return texto.toString();
+    }
+
+    /**
+     * Método para verificar se o próximo caractere (ignorando espaços) é o esperado e avançar a posição
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param linha String: linha contendo o objeto JSON
+     * @param posicao int[]: posição atual da leitura
+     * @param esperado char: caractere esperado
+     * @throws IllegalArgumentException caso o caractere não for o esperado
+     */
+    private static void esperar(String linha, int[] posicao, char esperado) {
+        posicao[0] = pularEspacos(linha, posicao[0]);
+        if (posicao[0] >= linha.length() || linha.charAt(posicao[0]) != esperado) {
+            throw new IllegalArgumentException("Esperado '" + esperado + "' na posição " + posicao[0]);
+        }
+        posicao[0]++;
+    }
+
+    /**
+     * Método para obter a posição do próximo caractere que não seja espaço
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param linha String: linha lida
+     * @param posicao int: posição inicial
+     * @return int: posição do próximo caractere que não seja espaço
+     */
+    private static int pularEspacos(String linha, int posicao) {
+        while (posicao < linha.length() && Character.isWhitespace(linha.charAt(posicao))) {
+            posicao++;
+        }
+        return posicao;
+    }
+
+    /**
+     * Método para criar um mapa sincronizado que descarta o item acessado há mais tempo ao atingir LIMITE_CACHE itens
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param <T> tipo dos valores do mapa
+     * @return Map String, T: mapa limitado
+     */
+    private static <T> Map<String, T> cacheLimitado() {
+        return Collections.synchronizedMap(new LinkedHashMap<String, T>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, T> maisAntigo) {
+                return size() > LIMITE_CACHE;
+            }
+        });
+    }
+
+    /**
+     * Método para obter o progresso da importação
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @return String: linhas lidas, jogos importados, linhas rejeitadas e jogos importados por segundo
+     */
+    public String getProgresso() {
+        double segundos = Math.max((System.nanoTime() - inicio) / 1e9, 0.001);
+        return String.format("%d linhas lidas, %d jogos importados, %d linhas rejeitadas (%.1f jogos/s)",
+                lidas.get(), importados.get(), rejeitados.get(), importados.get() / segundos);
+    }
+
+    /**
+     * Método para executar a importação pela linha de comando
+     * <p>
+     * Parâmetros: caminho do arquivo e, opcionalmente, o formato (CSV ou JSON).<br>
+     * Durante a importação, o progresso (getProgresso) é informado a cada 5 segundos.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param args String[]: parâmetros da linha de comando
+     */
+    public static void main(String[] args) {
+        if (args.length == 0) {
+            System.out.println("Uso: ImportadorJogos arquivo [CSV|JSON]");
+            return;
+        }
+        ImportadorJogos importador = new ImportadorJogos();
+        Path arquivo = Paths.get(args[0]);
+        ScheduledExecutorService progresso = Executors.newSingleThreadScheduledExecutor(tarefa -> {
+            Thread thread = new Thread(tarefa, "importador-jogos-progresso");
+            thread.setDaemon(true);
+            return thread;
+        });
+        progresso.scheduleAtFixedRate(() -> System.out.println(importador.getProgresso()), 5, 5, TimeUnit.SECONDS);
+        try {
+            if (args.length > 1) {
+                System.out.println(importador.importar(arquivo, Formato.valueOf(args[1].toUpperCase())));
+            } else{
+                System.out.println(importador.importar(arquivo));
+            }
+        } finally {
+            progresso.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,291 @@
+package model;
+
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import javax.persistence.EntityManager;
+import javax.persistence.TypedQuery;
+import util.ConjuntoLongOrdenado;
+import util.FiltroBloom;
+import util.JPAConnectionFactory;
+
+/**
+ * Classe responsável pelo índice em memória das datas e horas ocupadas por jogos de cada jogador
+ * <p>
+ * Evita a consulta ao banco na verificação de jogos com a mesma data e hora, caso mais comum da inserção.<br>
+ * Para cada jogador, as datas dos jogos (em segundos, precisão do campo data_jogo) são mantidas em um conjunto ordenado
+ * de valores primitivos (ConjuntoLongOrdenado), precedido por um filtro de Bloom (FiltroBloom):
+ * </p>
+ * <ul>
+ *      <li>se o filtro indicar que a data certamente não existe, não há conflito e o banco não é consultado;</li>
+ *      <li>se o filtro indicar que a data talvez exista, o conjunto ordenado é consultado;</li>
+ *      <li>somente se a data existir no conjunto, o banco será consultado para confirmar o conflito.</li>
+ * </ul>
+ * <p>
+ * O índice de cada jogador é carregado na primeira verificação, com uma consulta apenas das datas de seus jogos,
+ * e mantido atualizado após cada inserção confirmada (registrar).<br>
+ * O índice conhece apenas os jogos inseridos por este servidor após o carregamento. Jogos inseridos por outros processos 
+ * (ex: ImportadorJogos) ou servidores não são registrados, portanto o resultado "sem conflito" não é definitivo: 
+ * a chave única (jogador_jogo, data_jogo) do banco impede a inserção, e o JogoDAO descarta o índice do jogador.<br>
+ * O carregamento é realizado fora do mapa de índices, sem bloquear outros jogadores durante a consulta ao banco. 
+ * Cada faixa de jogadores possui uma versão, incrementada a cada registro ou descarte. O índice carregado só é incluído no mapa 
+ * caso a versão da faixa do jogador não tenha sido alterada durante o carregamento, evitando incluir um índice sem um jogo registrado 
+ * durante a consulta.<br>
+ * São mantidos no máximo LIMITE_JOGADORES jogadores. Ao exceder o limite, outros índices são descartados e serão recarregados quando necessário.
+ * </p>
+ * @author Thiago Alexandre Buerger
+ * @version 1.0
+ */
+public final class IndiceOcupacao {
+
+    /**
+     * Quantidade máxima de jogadores mantidos no índice
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private static final int LIMITE_JOGADORES = 5000;
+
+    /**
+     * Taxa de falso positivo dos filtros de Bloom
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private static final double TAXA_FALSO_POSITIVO = 0.01;
+
+    /**
+     * Índices carregados, identificados pelo id do jogador
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private static final ConcurrentHashMap<Integer, Ocupacao> JOGADORES = new ConcurrentHashMap<>();
+
+    /**
+     * Quantidade de faixas de versão dos jogadores
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private static final int FAIXAS = 64;
+
+    /**
+     * Versões das faixas de jogadores, incrementadas a cada registro ou descarte de um jogador da faixa
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private static final AtomicLongArray VERSOES = new AtomicLongArray(FAIXAS);
+
+    /**
+     * Construtor privado, pois a classe possui apenas métodos estáticos
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private IndiceOcupacao() {}
+
+    /**
+     * Método para verificar se o jogador talvez possua um jogo na data e hora informada
+     * <p>
+     * Caso o índice do jogador não possa ser carregado, retorna true, mantendo a verificação no banco.
+     * Caso o índice tenha sido alterado durante o carregamento, o índice carregado é utilizado apenas nesta verificação.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param idJogador Integer: identificação do jogador
+     * @param data Date: data e hora do jogo
+     * @return boolean: false caso o índice não possua jogo do jogador na data ou true caso seja necessário consultar o banco
+     */
+    public static boolean possivelConflito(Integer idJogador, Date data) {
+        if (idJogador == null || data == null) {
+            return true;
+        }
+        Ocupacao ocupacao = JOGADORES.get(idJogador);
+        if (ocupacao == null) {
+            long versao = VERSOES.get(faixa(idJogador));
+            try {
+                ocupacao = carregar(idJogador);
+            } catch (RuntimeException e) {
+                System.out.println("Erro! " + e);
+                return true;
+            }
+            Ocupacao carregada = ocupacao;
+            Ocupacao incluida = JOGADORES.compute(idJogador, (id, atual) -> {
+                if (atual != null) {
+                    return atual;
+                }
+                return VERSOES.get(faixa(id)) == versao ? carregada : null;
+            });
+            if (incluida != null) {
+                ocupacao = incluida;
+                limitar(idJogador);
+            }
+        }
+        return ocupacao.contem(segundos(data));
+    }
+
+    /**
+     * Método para registrar a data de um jogo inserido no índice do jogador
+     * <p>
+     * Deve ser chamado após o commit da inserção. Caso o índice do jogador não esteja carregado, apenas a versão da faixa é incrementada,
+     * pois o jogo será obtido no carregamento. A versão é incrementada dentro do JOGADORES.compute, 
+     * na mesma seção exclusiva da chave utilizada pela inclusão de um índice carregado (possivelConflito).
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param idJogador Integer: identificação do jogador
+     * @param data Date: data e hora do jogo inserido
+     */
+    public static void registrar(Integer idJogador, Date data) {
+        if (idJogador != null && data != null) {
+            JOGADORES.compute(idJogador, (id, ocupacao) -> {
+                VERSOES.incrementAndGet(faixa(id));
+                if (ocupacao != null) {
+                    ocupacao.adicionar(segundos(data));
+                }
+                return ocupacao;
+            });
+        }
+    }
+
+    /**
+     * Método para descartar o índice de um jogador, que será recarregado na próxima verificação
+     * <p>
+     * Também impede a inclusão de um índice em carregamento para o jogador (versão da faixa).
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param idJogador Integer: identificação do jogador
+     */
+    public static void descartar(Integer idJogador) {
+        if (idJogador != null) {
+            JOGADORES.compute(idJogador, (id, ocupacao) -> {
+                VERSOES.incrementAndGet(faixa(id));
+                return null;
+            });
+        }
+    }
+
+    /**
+     * Método para carregar o índice de um jogador
+     * <p>
+     * Utiliza um objeto de conexão próprio, garantindo que todos os jogos confirmados até o momento sejam obtidos.<br>
+     * A consulta registrada (RegistroConsultas.DATAS_JOGADOR) retorna apenas as datas dos jogos, sem carregar as entidades, 
+     * utilizando a chave única (jogador_jogo, data_jogo).
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param idJogador Integer: identificação do jogador
+     * @return Ocupacao: índice do jogador
+     */
+    private static Ocupacao carregar(Integer idJogador) {
+        EntityManager em = JPAConnectionFactory.getEntityManager();
+        try {
+            TypedQuery<Date> query = RegistroConsultas.consulta(em, RegistroConsultas.DATAS_JOGADOR, Date.class);
+            query.setParameter("pJogador", idJogador);
+            List<Date> datas = query.getResultList();
+            Ocupacao ocupacao = new Ocupacao(datas.size());
+            for (Date data : datas) {
+                ocupacao.adicionar(segundos(data));
+            }
+            return ocupacao;
+        } finally {
+            em.close();
+        }
+    }
+
+    /**
+     * Método para descartar índices ao exceder LIMITE_JOGADORES jogadores
+     * <p>
+     * O índice do jogador recém carregado não é descartado.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param manter Integer: identificação do jogador recém carregado
+     */
+    private static void limitar(Integer manter) {
+        Iterator<Integer> ids = JOGADORES.keySet().iterator();
+        while (JOGADORES.size() > LIMITE_JOGADORES && ids.hasNext()) {
+            if (!ids.next().equals(manter)) {
+                ids.remove();
+            }
+        }
+    }
+
+    /**
+     * Método para obter a faixa de versão de um jogador
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param idJogador Integer: identificação do jogador
+     * @return int: faixa do jogador, entre 0 e FAIXAS - 1
+     */
+    private static int faixa(Integer idJogador) {
+        return Math.floorMod(idJogador, FAIXAS);
+    }
+
+    /**
+     * Método para converter uma data para segundos, precisão utilizada pelo campo data_jogo no banco
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param data Date: data e hora
+     * @return long: segundos desde 01/01/1970
+     */
+    private static long segundos(Date data) {
+        return Math.floorDiv(data.getTime(), 1000L);
+    }
+
+    /**
+     * Classe do índice de datas ocupadas de um jogador
+     * <p>
+     * Os métodos são sincronizados, pois o mesmo jogador pode inserir jogos em requisições simultâneas.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private static final class Ocupacao {
+
+        private final ConjuntoLongOrdenado datas;
+        private FiltroBloom filtro;
+
+        /**
+         * Construtor da classe Ocupacao
+         * @author Thiago Alexandre Buerger
+         * @version 1.0
+         * @param quantidade int: quantidade inicial de jogos do jogador
+         */
+        Ocupacao(int quantidade) {
+            datas = new ConjuntoLongOrdenado(quantidade + 16);
+            filtro = new FiltroBloom(Math.max(quantidade * 2, 1024), TAXA_FALSO_POSITIVO);
+        }
+
+        /**
+         * Método para adicionar uma data ao índice
+         * <p>
+         * Caso o filtro de Bloom exceda sua capacidade, ele será recriado com o dobro da capacidade a partir do conjunto ordenado.
+         * </p>
+         * @author Thiago Alexandre Buerger
+         * @version 1.0
+         * @param segundos long: data em segundos
+         */
+        synchronized void adicionar(long segundos) {
+            if (datas.adicionar(segundos)) {
+                filtro.adicionar(segundos);
+                if (filtro.excedido()) {
+                    filtro = new FiltroBloom(datas.tamanho() * 2, TAXA_FALSO_POSITIVO);
+                    for (int i = 0; i < datas.tamanho(); i++) {
+                        filtro.adicionar(datas.valor(i));
+                    }
+                }
+            }
+        }
+
+        /**
+         * Método para verificar se uma data existe no índice
+         * @author Thiago Alexandre Buerger
+         * @version 1.0
+         * @param segundos long: data em segundos
+         * @return boolean: true caso a data exista no índice ou false caso contrário
+         */
+        synchronized boolean contem(long segundos) {
+            return filtro.talvezContem(segundos) && datas.contem(segundos);
+        }
+    }
+}
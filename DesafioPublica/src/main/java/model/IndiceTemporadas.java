@@ -0,0 +1,324 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.persistence.EntityManager;
+import javax.persistence.TypedQuery;
+import util.Configuracao;
+import util.JPAConnectionFactory;
+
+/**
+ * Classe responsável pelo índice em memória dos nomes das temporadas de um jogador, utilizado na pesquisa por parte do nome
+ * <p>
+ * A pesquisa por nome da tela de temporadas (like '%nome%') não pode utilizar os índices do banco
+ * e percorre todas as temporadas do jogador.<br>
+ * Cada nome é dividido em trigramas (todas as sequências de 3 caracteres), e cada trigrama aponta para as temporadas
+ * que o possuem (índice invertido). A pesquisa obtém as temporadas que possuem todos os trigramas do texto pesquisado (candidatas),
+ * e cada candidata é verificada comparando o nome (contains), pois os trigramas podem estar em posições diferentes.
+ * Textos com menos de 3 caracteres são verificados em todos os nomes do jogador, sem consultar o banco.<br>
+ * Assim como a pesquisa do banco (collation latin1_general_cs), a comparação diferencia maiúsculas e minúsculas.
+ * Os caracteres % e _ são pesquisados no nome, e não utilizados como curingas.<br>
+ * O índice também possui a árvore de prefixos dos nomes (ArvoreTemporadas), utilizada pelas sugestões do campo de seleção de temporada (sugerir).<br>
+ * O índice de cada jogador é criado na primeira pesquisa, com uma única consulta dos nomes (Temporada.nomes),
+ * e mantido pelo TemporadaDAO a cada inserção ou alteração (registrar).
+ * São mantidos no máximo temporadas.indice.jogadores jogadores, descartando o jogador pesquisado há mais tempo.
+ * </p>
+ * @author Thiago Alexandre Buerger
+ * @version 1.0
+ */
+final class IndiceTemporadas {
+
+    /**
+     * Indica se a pesquisa por nome utiliza o índice em memória
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    static final boolean HABILITADO = Configuracao.getBooleano("temporadas.indice", true);
+
+    /**
+     * Quantidade máxima de temporadas encontradas pelo índice
+     * <p>
+     * Acima do limite, a pesquisa é realizada pelo banco (like), evitando consultas com listas de identificação muito grandes.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    static final int LIMITE_RESULTADOS = Math.max(Configuracao.getInteiro("temporadas.indice.resultados", 1000), 1);
+
+    /**
+     * Quantidade máxima de jogadores mantidos em memória
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private static final int LIMITE_JOGADORES = Math.max(Configuracao.getInteiro("temporadas.indice.jogadores", 1000), 1);
+
+    /**
+     * Quantidade de caracteres de cada trigrama
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private static final int TAMANHO = 3;
+
+    /**
+     * Índices de cada jogador, em ordem de utilização (LinkedHashMap com accessOrder)
+     * <p>
+     * Acessado somente com o bloqueio do próprio mapa (synchronized).
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private static final Map<Integer, IndiceTemporadas> JOGADORES = new LinkedHashMap<Integer, IndiceTemporadas>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, IndiceTemporadas> maisAntigo) {
+            return size() > LIMITE_JOGADORES;
+        }
+    };
+
+    /**
+     * Nome de cada temporada do jogador, identificada pelo id
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private final Map<Integer, String> nomes = new HashMap<>();
+
+    /**
+     * Temporadas de cada trigrama (índice invertido)
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private final Map<String, Set<Integer>> trigramas = new HashMap<>();
+
+    /**
+     * Árvore de prefixos dos nomes, utilizada pelas sugestões
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private final ArvoreTemporadas arvore = new ArvoreTemporadas();
+
+    /**
+     * Método para adicionar ou substituir o nome de uma temporada no índice
+     * <p>
+     * Caso a temporada já esteja no índice (alteração), os trigramas do nome anterior são removidos, 
+     * assim como o nome anterior na árvore de prefixos.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param id Integer: identificação da temporada
+     * @param nome String: nome da temporada
+     */
+    synchronized void adicionar(Integer id, String nome) {
+        if (id == null || nome == null) {
+            return;
+        }
+        String anterior = nomes.put(id, nome);
+        if (anterior != null) {
+            arvore.remover(id, anterior);
+            for (String trigrama : trigramas(anterior)) {
+                Set<Integer> ids = trigramas.get(trigrama);
+                ids.remove(id);
+                if (ids.isEmpty()) {
+                    trigramas.remove(trigrama);
+                }
+            }
+        }
+        for (String trigrama : trigramas(nome)) {
+            trigramas.computeIfAbsent(trigrama, t -> new HashSet<>()).add(id);
+        }
+        arvore.adicionar(id, nome);
+    }
+
+    /**
+     * Método para obter as sugestões de temporadas com o nome iniciado pelo prefixo
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param prefixo String: texto digitado pelo jogador
+     * @param limite int: quantidade máxima de sugestões
+     * @return Lista OpcaoTemporada: temporadas encontradas, em ordem alfabética
+     */
+    synchronized List<OpcaoTemporada> sugerir(String prefixo, int limite) {
+        return arvore.sugerir(prefixo, limite);
+    }
+
+    /**
+     * Método para pesquisar as temporadas que possuem o texto no nome
+     * <p>
+     * As candidatas são obtidas a partir do trigrama com menos temporadas,
+     * mantendo somente as temporadas que também possuem os demais trigramas.
+     * Cada candidata é verificada pelo nome (contains).
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param texto String: texto pesquisado
+     * @return Lista Integer: identificação das temporadas encontradas
+     */
+    synchronized List<Integer> pesquisar(String texto) {
+        List<Integer> encontradas = new ArrayList<>();
+        Set<Integer> candidatas = nomes.keySet();
+        if (texto.length() >= TAMANHO) {
+            List<Set<Integer>> listas = new ArrayList<>();
+            for (String trigrama : trigramas(texto)) {
+                Set<Integer> ids = trigramas.get(trigrama);
+                if (ids == null) {
+                    return encontradas;
+                }
+                listas.add(ids);
+            }
+            listas.sort((a, b) -> Integer.compare(a.size(), b.size()));
+            candidatas = new HashSet<>(listas.get(0));
+            for (int i = 1; i < listas.size() && !candidatas.isEmpty(); i++) {
+                candidatas.retainAll(listas.get(i));
+            }
+        }
+        for (Integer id : candidatas) {
+            if (nomes.get(id).contains(texto)) {
+                encontradas.add(id);
+            }
+        }
+        return encontradas;
+    }
+
+    /**
+     * Método para obter os trigramas de um texto
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param texto String: nome ou texto pesquisado
+     * @return Set String: trigramas distintos do texto (vazio para textos com menos de 3 caracteres)
+     */
+    static Set<String> trigramas(String texto) {
+        Set<String> lista = new HashSet<>();
+        for (int i = 0; i + TAMANHO <= texto.length(); i++) {
+            lista.add(texto.substring(i, i + TAMANHO));
+        }
+        return lista;
+    }
+
+    /**
+     * Método para pesquisar as temporadas de um jogador que possuem o texto no nome
+     * <p>
+     * Caso o índice do jogador não esteja em memória, é criado com os nomes das temporadas do banco (carregar).<br>
+     * Retorna nulo caso o índice esteja desabilitado, caso o índice não possa ser criado ou caso sejam encontradas
+     * mais que LIMITE_RESULTADOS temporadas. Nesses casos, a pesquisa deverá ser realizada pelo banco.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param idJogador Integer: identificação do jogador
+     * @param texto String: texto pesquisado
+     * @return Lista Integer: identificação das temporadas encontradas ou nulo
+     */
+    static List<Integer> pesquisar(Integer idJogador, String texto) {
+        if (texto == null) {
+            return null;
+        }
+        IndiceTemporadas indice = indice(idJogador);
+        if (indice == null) {
+            return null;
+        }
+        List<Integer> encontradas = indice.pesquisar(texto);
+        return encontradas.size() > LIMITE_RESULTADOS ? null : encontradas;
+    }
+
+    /**
+     * Método para obter as sugestões de temporadas de um jogador com o nome iniciado pelo prefixo
+     * <p>
+     * Caso o índice do jogador não esteja em memória, é criado com os nomes das temporadas do banco (carregar).<br>
+     * Retorna nulo caso o índice esteja desabilitado ou não possa ser criado. 
+     * Nesse caso, as sugestões deverão ser obtidas pelo banco.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param idJogador Integer: identificação do jogador
+     * @param prefixo String: texto digitado pelo jogador
+     * @param limite int: quantidade máxima de sugestões
+     * @return Lista OpcaoTemporada: temporadas encontradas, em ordem alfabética, ou nulo
+     */
+    static List<OpcaoTemporada> sugerir(Integer idJogador, String prefixo, int limite) {
+        IndiceTemporadas indice = indice(idJogador);
+        return indice == null ? null : indice.sugerir(prefixo, limite);
+    }
+
+    /**
+     * Método para obter o índice de um jogador, criando-o caso não esteja em memória
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param idJogador Integer: identificação do jogador
+     * @return IndiceTemporadas: índice do jogador ou nulo caso o índice esteja desabilitado ou não possa ser criado
+     */
+    private static IndiceTemporadas indice(Integer idJogador) {
+        if (!HABILITADO || idJogador == null) {
+            return null;
+        }
+        IndiceTemporadas indice;
+        synchronized (JOGADORES) {
+            indice = JOGADORES.get(idJogador);
+        }
+        return indice == null ? carregar(idJogador) : indice;
+    }
+
+    /**
+     * Método para registrar a inserção ou alteração de uma temporada no índice do jogador
+     * <p>
+     * Deve ser chamado após o commit e após a invalidação das consultas do jogador (CacheConsultas.invalidar).
+     * Caso o índice do jogador não esteja em memória, nada é feito, pois a temporada será obtida na criação do índice.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param idJogador Integer: identificação do jogador
+     * @param id Integer: identificação da temporada
+     * @param nome String: nome da temporada
+     */
+    static void registrar(Integer idJogador, Integer id, String nome) {
+        synchronized (JOGADORES) {
+            IndiceTemporadas indice = JOGADORES.get(idJogador);
+            if (indice != null) {
+                indice.adicionar(id, nome);
+            }
+        }
+    }
+
+    /**
+     * Método para criar o índice de um jogador com os nomes das temporadas do banco
+     * <p>
+     * EntityManager em = JPAConnectionFactory.getEntityManager(): objeto de conexão com o banco.<br>
+     * RegistroConsultas.consulta(): consulta registrada (Temporada.nomes), obtendo apenas a identificação e o nome.<br>
+     * O índice só é mantido em memória se a versão dos dados do jogador (CacheConsultas.versao) não foi alterada durante a consulta,
+     * evitando manter um índice sem uma temporada inserida durante a sua criação.
+     * O índice criado é utilizado pela pesquisa atual em qualquer caso.<br>
+     * Caso alguma exceção seja lançada, retorna um objeto nulo.
+     * A conexão criada deverá ser fechada (em.close()).
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param idJogador Integer: identificação do jogador
+     * @return IndiceTemporadas: índice do jogador ou nulo
+     */
+    private static IndiceTemporadas carregar(Integer idJogador) {
+        long versao = CacheConsultas.versao(idJogador);
+        IndiceTemporadas indice = new IndiceTemporadas();
+        try {
+            EntityManager em = JPAConnectionFactory.getEntityManager();
+            try {
+                TypedQuery<Object[]> query = RegistroConsultas.consulta(em, RegistroConsultas.NOMES_TEMPORADAS, Object[].class);
+                query.setParameter("jogador", idJogador);
+                for (Object[] linha : query.getResultList()) {
+                    indice.adicionar((Integer) linha[0], (String) linha[1]);
+                }
+            } finally{
+                em.close();
+            }
+        } catch (Exception e) {
+            System.out.println("Erro! " + e);
+            return null;
+        }
+        synchronized (JOGADORES) {
+            if (CacheConsultas.versao(idJogador) == versao) {
+                JOGADORES.put(idJogador, indice);
+            }
+        }
+        return indice;
+    }
+}
@@ -1,14 +1,19 @@
 package model;
 
 import java.io.Serializable;
+import java.util.Date;
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.Table;
+import javax.persistence.Temporal;
 import javax.validation.constraints.NotNull;
 import javax.validation.constraints.Size;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.validator.constraints.NotEmpty;
 import org.hibernate.validator.constraints.Range;
 
@@ -16,15 +21,26 @@ import org.hibernate.validator.constraints.Range;
  * Classe para objetos do tipo Jogador
  * <p>
  * Anotação @Entity: classe referenciada como entidade no banco de dados.<br>
- * Anotação @Table: fornece a ligação da classe "Jogador" com a entidade "jogador".
+ * Anotação @Table: fornece a ligação da classe "Jogador" com a entidade "jogador".<br>
+ * Anotação @Cacheable e @Cache: os jogadores obtidos pelo id (em.find) são mantidos no cache de segundo nível 
+ * (região REGIAO_CACHE, configurada no ehcache.xml), com atualização pelo Hibernate nas alterações das entidades (READ_WRITE).
  * </p>
  * @author Thiago Alexandre Buerger
  * @version 1.0
  */
 @Entity
 @Table(name="jogador")
+@Cacheable
+@Cache(usage=CacheConcurrencyStrategy.READ_WRITE, region=Jogador.REGIAO_CACHE)
 public class Jogador implements Serializable{
     
+    /**
+     * Nome da região do cache de segundo nível dos jogadores
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    public static final String REGIAO_CACHE = "model.Jogador";
+    
     /**
      * Identificação do jogador
      * <p>
@@ -119,6 +135,52 @@ public class Jogador implements Serializable{
     @Range(min=0)
     private Integer qtdQuebraRecordeMax;
     
+    /**
+     * Quantidade de jogos realizados pelo jogador
+     * <p>
+     * Mantida a cada novo jogo, evitando a contagem dos jogos do jogador no banco.<br>
+     * Anotação @Column: fornece a ligação entre o atributo "qtdJogos" e o campo "qtd_jogos_jogador" da entidade definida no banco.<br>
+     * Anotação @NotNull: impede que um valor nulo seja definido ao campo.<br>
+     * Anotação @Range: impede que seja definido um valor negativo.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    @Column(name="qtd_jogos_jogador")
+    @NotNull()
+    @Range(min=0)
+    private Integer qtdJogos = 0;
+    
+    /**
+     * Soma das pontuações obtidas pelo jogador
+     * <p>
+     * Mantida a cada novo jogo, permitindo obter a média de pontos sem consultar os jogos do jogador.<br>
+     * Anotação @Column: fornece a ligação entre o atributo "somaPontuacao" e o campo "soma_pontuacao_jogador" da entidade definida no banco.<br>
+     * Anotação @NotNull: impede que um valor nulo seja definido ao campo.<br>
+     * Anotação @Range: impede que seja definido um valor negativo.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    @Column(name="soma_pontuacao_jogador")
+    @NotNull()
+    @Range(min=0)
+    private Long somaPontuacao = 0L;
+    
+    /**
+     * Data e hora do jogo mais recente do jogador
+     * <p>
+     * Anotação @Column: fornece a ligação entre o atributo "dataUltimoJogo" e o campo "ultimo_jogo_jogador" da entidade definida no banco.<br>
+     * Anotação @Temporal: define que o campo apresenta data e hora.<br>
+     * Permanece nulo enquanto o jogador não possuir jogos.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    @Column(name="ultimo_jogo_jogador")
+    @Temporal(javax.persistence.TemporalType.TIMESTAMP)
+    private Date dataUltimoJogo;
+    
     /**
      * Login do jogador
      * <p>
@@ -185,6 +247,25 @@ public class Jogador implements Serializable{
         this.senha = senha;
     }
 
+    /**
+     * Método para obter uma cópia do jogador
+     * <p>
+     * Copia a identificação, o nome, o login, a senha, os recordes e os dados agregados.<br>
+     * Utilizado pelo cache de jogadores (CacheEntidades.JOGADORES), evitando que a alteração de um jogador pela tela 
+     * altere o jogador mantido em cache.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @return Jogador: novo jogador com os mesmos valores
+     */
+    public Jogador copia() {
+        Jogador copia = new Jogador(id, nome, minimo, maximo, qtdQuebraRecordeMin, qtdQuebraRecordeMax, login, senha);
+        copia.qtdJogos = qtdJogos;
+        copia.somaPontuacao = somaPontuacao;
+        copia.dataUltimoJogo = dataUltimoJogo == null ? null : new Date(dataUltimoJogo.getTime());
+        return copia;
+    }
+
     public Integer getId() {
         return id;
     }
@@ -233,6 +314,30 @@ public class Jogador implements Serializable{
         this.qtdQuebraRecordeMax = qtdQuebraRecordeMax;
     }
 
+    public Integer getQtdJogos() {
+        return qtdJogos;
+    }
+
+    public void setQtdJogos(Integer qtdJogos) {
+        this.qtdJogos = qtdJogos;
+    }
+
+    public Long getSomaPontuacao() {
+        return somaPontuacao;
+    }
+
+    public void setSomaPontuacao(Long somaPontuacao) {
+        this.somaPontuacao = somaPontuacao;
+    }
+
+    public Date getDataUltimoJogo() {
+        return dataUltimoJogo;
+    }
+
+    public void setDataUltimoJogo(Date dataUltimoJogo) {
+        this.dataUltimoJogo = dataUltimoJogo;
+    }
+
     public String getLogin() {
         return login;
     }
@@ -292,4 +397,30 @@ public class Jogador implements Serializable{
         }
         return false;
     }
+
+    /**
+     * Método para registrar um novo jogo nos dados agregados do jogador
+     * <p>
+     * Deve ser chamado toda vez que um novo jogo for adicionado.<br>
+     * Se for o primeiro jogo do jogador (qtdJogos igual a 0), será chamado o método primeiroJogo. 
+     * Senão, será chamado o método atualizarRecordes.<br>
+     * Em seguida, a quantidade de jogos, a soma das pontuações e a data do último jogo serão atualizadas.<br>
+     * Dessa forma, a atualização é feita em tempo constante, sem consultar os jogos já realizados pelo jogador.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param jogo Jogo: novo jogo realizado pelo jogador
+     */
+    public void registrarJogo(Jogo jogo){
+        if (qtdJogos == 0) {
+            primeiroJogo(jogo);
+        } else{
+            atualizarRecordes(jogo);
+        }
+        qtdJogos++;
+        somaPontuacao += jogo.getPlacar();
+        if (dataUltimoJogo == null || (jogo.getData() != null && jogo.getData().after(dataUltimoJogo))) {
+            dataUltimoJogo = jogo.getData();
+        }
+    }
 }
\ No newline at end of file
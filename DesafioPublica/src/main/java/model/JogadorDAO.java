@@ -79,16 +79,21 @@ public class JogadorDAO implements Serializable{
      * Deverá ser realizada a validação dos dados do Jogador e, 
      * caso não for encontrado erros (validacao.getErros().isEmpty()), 
      * o jogador poderá ser alterado. Senão, será impedido de realizar a alteração.<br>
-     * Deverá ser realizada a consulta se o jogador já está inserido no banco, pois o processo de merge 
-     * pode tanto alterar quanto inserir.
+     * Deverá ser realizada a consulta se o jogador já está inserido no banco.
      * Caso nenhum jogador seja encontrado, o processo será finalizado.<br>
      * Caso o login do jogador não foi alterado, a alteração poderá ser realizada.
      * Senão, deverá ser realizada a verificação do jogador, que impedirá que dois jogadores apresentem o mesmo login.
      * Caso a verificação for false, significa que não foi encontrado outro jogador com o mesmo login e, 
      * assim, o novo jogador poderá ser alterado. Senão, será impedido de realizar a alteração.<br>
      * EntityManager em = JPAConnectionFactory.getEntityManager(): objeto de conexão com o banco.<br>
-     * A alteração (em.merge()) deverá ser realizada após o início de uma transação (em.getTransaction().begin()).<br>
+     * A alteração deverá ser realizada após o início de uma transação (em.getTransaction().begin()).<br>
+     * Jogador gerenciado = em.find(Jogador.class, jogador.getId()): obtém o jogador gerenciado pela transação, 
+     * onde são copiados apenas os dados editáveis (nome, login e senha).
+     * Os recordes e dados agregados não são copiados, pois são atualizados diretamente no banco a cada novo jogo 
+     * e o objeto informado pode estar desatualizado.<br>
      * Esse método só será efetuado no banco após o comando de commit (em.getTransaction().commit()).<br>
+     * Após o commit, uma cópia do jogador alterado substitui o jogador no cache da aplicação (CacheEntidades.JOGADORES), 
+     * caso os dados agregados do jogador não tenham sido invalidados durante a alteração.<br>
      * A conexão criada deverá ser fechada (em.close()).
      * </p>
      * @author Thiago Alexandre Buerger
@@ -110,9 +115,14 @@ public class JogadorDAO implements Serializable{
                 try{
                     EntityManager em = JPAConnectionFactory.getEntityManager();
                     try{
+                        long geracao = CacheEntidades.JOGADORES.geracao(jogador.getId());
                         em.getTransaction().begin();
-                        em.merge(jogador);
+                        Jogador gerenciado = em.find(Jogador.class, jogador.getId());
+                        gerenciado.setNome(jogador.getNome());
+                        gerenciado.setLogin(jogador.getLogin());
+                        gerenciado.setSenha(jogador.getSenha());
                         em.getTransaction().commit();
+                        CacheEntidades.JOGADORES.colocar(gerenciado.getId(), gerenciado.copia(), geracao);
                         mensagem = "Jogador alterado com sucesso!";
                     } catch(Exception e){
                         mensagem = "Erro ao alterar o jogador!";
@@ -183,12 +193,13 @@ public class JogadorDAO implements Serializable{
     /**
      * Método para realizar a pesquisa de dados de um jogador específico no banco com base no Id
      * <p>
+     * CacheEntidades.JOGADORES.obter(id): caso o jogador esteja no cache da aplicação, retorna uma cópia sem acessar o banco.<br>
      * EntityManager em = JPAConnectionFactory.getEntityManager(): objeto de conexão com o banco.<br>
-     * TypedQuery Jogador query = em.createQuery(jpql, Jogador.class): cria uma consulta JPQL<br>
-     * query.setParameter("pId", id): adiciona parâmetro (id) na consulta, evitando assim SQL Injection.<br>
-     * jogador = typed.getSingleResult(): pega um possível resultado da consulta.<br>
-     * Caso nenhum resultado for encontrado, será lançada uma exceção, finalizando o processo e retornando um objeto nulo. 
-     * Caso for encontrado algum resultado, finaliza o processo e retorna o jogador encontrado.<br>
+     * jogador = em.find(Jogador.class, id): busca o jogador pela chave primária, 
+     * obtendo-o do cache de segundo nível (região Jogador.REGIAO_CACHE) quando disponível, sem consultar o banco.<br>
+     * Caso nenhum jogador for encontrado, finaliza o processo e retorna um objeto nulo. 
+     * Caso for encontrado, uma cópia é inserida no cache da aplicação, finaliza o processo e retorna o jogador encontrado.
+     * A cópia só é inserida se o jogador não foi invalidado durante a busca (geracao).<br>
      * A conexão criada deverá ser fechada (em.close()).
      * </p>
      * @author Thiago Alexandre Buerger
@@ -198,12 +209,53 @@ public class JogadorDAO implements Serializable{
      * ou um objeto nulo caso não for encontrado nenhum jogador com o Id informado.
      */
     public Jogador buscarPorId(Integer id) {
+        Jogador jogador = CacheEntidades.JOGADORES.obter(id);
+        if (jogador != null) {
+            return jogador.copia();
+        }
+        long geracao = CacheEntidades.JOGADORES.geracao(id);
+        try {
+            EntityManager em = JPAConnectionFactory.getEntityManager();
+            try {
+                jogador = em.find(Jogador.class, id);
+                if (jogador != null) {
+                    CacheEntidades.JOGADORES.colocar(id, jogador.copia(), geracao);
+                }
+            } catch (Exception e) {
+                System.out.println("Erro! " + e);
+            } finally{
+                em.close();
+            }
+        } catch(Exception e){
+            System.out.println("Erro! " + e);
+        }
+        return jogador;
+    }
+    
+    /**
+     * Método para realizar a pesquisa de dados de um jogador específico no banco com base no login
+     * <p>
+     * Utilizado pela importação de jogos, onde os jogos são identificados pelo login do jogador.<br>
+     * EntityManager em = JPAConnectionFactory.getEntityManager(): objeto de conexão com o banco.<br>
+     * TypedQuery Jogador query = RegistroConsultas.consulta(em, JOGADOR_POR_LOGIN, Jogador.class): consulta registrada pelo login<br>
+     * query.setParameter("pLogin", login): adiciona parâmetro (login) na consulta, evitando assim SQL Injection.<br>
+     * jogador = typed.getSingleResult(): pega um possível resultado da consulta.<br>
+     * Caso nenhum resultado for encontrado, será lançada uma exceção, finalizando o processo e retornando um objeto nulo. 
+     * Caso for encontrado algum resultado, finaliza o processo e retorna o jogador encontrado.<br>
+     * A conexão criada deverá ser fechada (em.close()).
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param login String: login do jogador que será pesquisado no banco.
+     * @return Jogador: retorna o objeto do tipo jogador com os dados caso for encontrado
+     * ou um objeto nulo caso não for encontrado nenhum jogador com o login informado.
+     */
+    public Jogador buscarPorLogin(String login) {
         Jogador jogador = null;
         try {
             EntityManager em = JPAConnectionFactory.getEntityManager();
-            String jpql = "select j from Jogador j where j.id = :pId";
-            TypedQuery<Jogador> query = em.createQuery(jpql, Jogador.class);
-            query.setParameter("pId", id);
+            TypedQuery<Jogador> query = RegistroConsultas.consulta(em, RegistroConsultas.JOGADOR_POR_LOGIN, Jogador.class);
+            query.setParameter("pLogin", login);
             try {
                 jogador =  query.getSingleResult();
             } catch (Exception e) {
@@ -4,11 +4,13 @@ import java.io.Serializable;
 import java.util.Date;
 import javax.persistence.Column;
 import javax.persistence.Entity;
+import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.PrePersist;
 import javax.persistence.Table;
 import javax.persistence.Temporal;
 import javax.validation.constraints.NotNull;
@@ -103,6 +105,8 @@ public class Jogo implements Serializable, Comparable<Jogo>{
      * <p>
      * Anotação @ManyToOne: referencia a ligação entre as entidades "Jogo" e "Temporada".
      * Neste caso, a temporada poderá conter muitos jogos e cada jogo será exclusivo de uma temporada.<br>
+     * FetchType.LAZY: a temporada só é obtida quando solicitada, evitando uma consulta adicional para cada temporada 
+     * e jogador distintos dos jogos obtidos. A tabela de jogos utiliza LinhaJogo, que obtém os dados da temporada na mesma consulta.<br>
      * Anotação @JoinColumn: fornece a ligação entre o atributo "temporada" e o campo "temporada_jogo" da entidade.
      * Neste caso, referencia uma chave estrangeira que irá retornar um objeto da classe "Temporada".<br>
      * Anotação @NotNull: impede que um valor nulo seja definido ao campo.
@@ -110,11 +114,26 @@ public class Jogo implements Serializable, Comparable<Jogo>{
      * @author Thiago Alexandre Buerger
      * @version 1.0
      */
-    @ManyToOne
+    @ManyToOne(fetch=FetchType.LAZY)
     @JoinColumn(name="temporada_jogo")
     @NotNull()
     private Temporada temporada;
 
+    /**
+     * Identificação do jogador da temporada do jogo
+     * <p>
+     * Anotação @Column: fornece a ligação entre o atributo "idJogador" e o campo "jogador_jogo" da entidade definida no banco.
+     * O campo não é alterado após a inserção (updatable=false).<br>
+     * Mantido no jogo para a chave única (jogador_jogo, data_jogo) do banco, que impede dois jogos do mesmo jogador 
+     * com a mesma data e hora, inclusive quando inseridos por outros processos (ex: ImportadorJogos) ou outros servidores.<br>
+     * Definido a partir da temporada antes da inserção (definirJogador).
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    @Column(name="jogador_jogo", updatable=false)
+    private Integer idJogador;
+
     /** 
      * Construtor Vazio para objetos Jogo
      * <p>
@@ -183,6 +202,30 @@ public class Jogo implements Serializable, Comparable<Jogo>{
         this.temporada = temporada;
     }
 
+    public Integer getIdJogador() {
+        return idJogador;
+    }
+
+    public void setIdJogador(Integer idJogador) {
+        this.idJogador = idJogador;
+    }
+
+    /**
+     * Método para definir a identificação do jogador a partir da temporada do jogo
+     * <p>
+     * Anotação @PrePersist: executado antes da inserção do jogo (em.persist()). 
+     * Também utilizado pela inserção em lote JDBC (JogoDAO.inserirLote).
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    @PrePersist
+    public void definirJogador() {
+        if (idJogador == null && temporada != null && temporada.getJogador() != null) {
+            idJogador = temporada.getJogador().getId();
+        }
+    }
+
     /**
      * Método compareTo sobrescrito
      * <p>
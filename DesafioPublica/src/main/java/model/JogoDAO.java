@@ -1,16 +1,27 @@
 package model;
 
 import java.io.Serializable;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import javax.persistence.EntityManager;
+import javax.persistence.Query;
 import javax.persistence.TypedQuery;
-import javax.persistence.criteria.CriteriaQuery;
-import javax.persistence.criteria.Join;
-import javax.persistence.criteria.Path;
-import javax.persistence.criteria.Predicate;
-import javax.persistence.criteria.Root;
-import org.hibernate.query.criteria.internal.OrderImpl;
+import org.hibernate.Session;
+import util.Configuracao;
 import util.JPAConnectionFactory;
 
 /**
@@ -20,6 +31,89 @@ import util.JPAConnectionFactory;
  */
 public class JogoDAO implements Serializable{
     
+    /**
+     * Quantidade de jogos enviados ao banco em cada lote JDBC
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private static final int TAMANHO_LOTE_JDBC = 500;
+    
+    /**
+     * Quantidade máxima de valores utilizados em uma única condição "in" das consultas em lote
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private static final int TAMANHO_LOTE_CONSULTA = 1000;
+    
+    /**
+     * Nome da chave única da tabela jogo que impede dois jogos do mesmo jogador com a mesma data e hora
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    static final String CHAVE_JOGADOR_DATA = "uk_jogo_jogador_data";
+    
+    /**
+     * Código de erro do MariaDB para a violação de uma chave única (ER_DUP_ENTRY)
+     * <p>
+     * A única chave única da tabela jogo, além da chave primária gerada pelo banco, é CHAVE_JOGADOR_DATA.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private static final int ERRO_CHAVE_DUPLICADA = 1062;
+    
+    /**
+     * Indica se os recordes e dados agregados do jogador e da temporada serão atualizados com comandos UPDATE condicionais 
+     * executados no banco (true) ou com a alteração das entidades em memória (false)
+     * <p>
+     * Definido pela configuração "agregados.atualizacao.atomica" do arquivo configuracao.properties.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private static final boolean ATUALIZACAO_ATOMICA = Configuracao.getBooleano("agregados.atualizacao.atomica", true);
+    
+    /**
+     * Comando de atualização dos recordes e dados agregados do jogador a partir de um novo jogo
+     * <p>
+     * As comparações com a pontuação mínima e máxima e os incrementos são avaliados pelo banco em um único comando, 
+     * sem consulta prévia do jogador.<br>
+     * A ordem das atribuições é necessária: as quantidades de quebra de recorde são calculadas antes da alteração 
+     * do mínimo e do máximo, e a quantidade de jogos é alterada por último, pois é utilizada para identificar o primeiro jogo.
+     * Assim, o resultado é o mesmo tanto com atribuições avaliadas da esquerda para a direita (padrão do MariaDB) 
+     * quanto com atribuições simultâneas.<br>
+     * Parâmetros: placar, placar, placar, placar, placar, placar, placar, data, data, id do jogador.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private static final String SQL_AGREGADOS_JOGADOR = "update jogador set "
+            + "quebra_recorde_min_jogador = quebra_recorde_min_jogador + (case when qtd_jogos_jogador > 0 and ? < min_jogador then 1 else 0 end), "
+            + "quebra_recorde_max_jogador = quebra_recorde_max_jogador + (case when qtd_jogos_jogador > 0 and ? > max_jogador then 1 else 0 end), "
+            + "min_jogador = (case when qtd_jogos_jogador = 0 or ? < min_jogador then ? else min_jogador end), "
+            + "max_jogador = (case when qtd_jogos_jogador = 0 or ? > max_jogador then ? else max_jogador end), "
+            + "soma_pontuacao_jogador = soma_pontuacao_jogador + ?, "
+            + "ultimo_jogo_jogador = (case when ultimo_jogo_jogador is null or ? > ultimo_jogo_jogador then ? else ultimo_jogo_jogador end), "
+            + "qtd_jogos_jogador = qtd_jogos_jogador + 1 "
+            + "where id_jogador = ?";
+    
+    /**
+     * Comando de atualização da pontuação e dados agregados da temporada a partir de um novo jogo
+     * <p>
+     * Segue as mesmas regras do comando SQL_AGREGADOS_JOGADOR, sem as quantidades de quebra de recorde.<br>
+     * Parâmetros: placar, placar, placar, placar, placar, data, data, id da temporada.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private static final String SQL_AGREGADOS_TEMPORADA = "update temporada set "
+            + "min_temporada = (case when qtd_jogos_temporada = 0 or ? < min_temporada then ? else min_temporada end), "
+            + "max_temporada = (case when qtd_jogos_temporada = 0 or ? > max_temporada then ? else max_temporada end), "
+            + "soma_pontuacao_temporada = soma_pontuacao_temporada + ?, "
+            + "ultimo_jogo_temporada = (case when ultimo_jogo_temporada is null or ? > ultimo_jogo_temporada then ? else ultimo_jogo_temporada end), "
+            + "qtd_jogos_temporada = qtd_jogos_temporada + 1 "
+            + "where id_temporada = ?";
+    
     /** 
      * Construtor Vazio para JogoDAO.
      * @author Thiago Alexandre Buerger
@@ -33,13 +127,29 @@ public class JogoDAO implements Serializable{
      * Deverá ser realizada a validação dos dados do Jogo e, 
      * caso não for encontrado erros (validacao.getErros().isEmpty()), 
      * o jogo poderá ser salvo. Senão, será impedido de realizar a inserção.<br>
-     * Deverá ser realizada a verificação do jogo, que impedirá que dois jogos apresentem a mesma data e hora.
-     * Caso a verificação for false, significa que não foi encontrado outro jogo salvo na mesma data e hora e, 
-     * assim, o novo jogo poderá ser salvo. Senão, será impedido de realizar a inserção.<br>
-     * EntityManager em = JPAConnectionFactory.getEntityManager(): objeto de conexão com o banco.<br>
-     * A inserção (em.persist()) deverá ser realizada após o início de uma transação (em.getTransaction().begin()).<br>
-     * Esse método só será efetuado no banco após o comando de commit (em.getTransaction().commit()).<br>
-     * Ao inserir um novo jogo, deverá ser realizado a atualização de recordes do jogador e a atualização da pontuação da temporada.<br>
+     * EntityManager em = JPAConnectionFactory.getEntityManager(): objeto de conexão com o banco, 
+     * utilizado por todas as etapas da inserção (unidade de trabalho).<br>
+     * Todas as etapas deverão ser realizadas após o início de uma única transação (em.getTransaction().begin()):
+     * <ul>
+     *      <li>verificação do jogo, que impedirá que dois jogos apresentem a mesma data e hora. 
+     *      O índice em memória (IndiceOcupacao) é consultado primeiro e o banco só é consultado quando o índice indicar um possível conflito;</li>
+     *      <li>inserção do jogo (em.persist()). O índice em memória conhece apenas os jogos inseridos por este servidor, 
+     *      portanto a chave única (jogador_jogo, data_jogo) do banco garante que jogos inseridos por outros processos 
+     *      (ex: ImportadorJogos) ou servidores também sejam considerados. 
+     *      Caso a inserção viole a chave única (jogoRepetido), o índice do jogador é descartado e a mesma mensagem de jogo repetido é retornada;</li>
+     *      <li>registro do evento de inclusão no diário de jogos (JogoEvento);</li>
+     *      <li>atualização de recordes do jogador;</li>
+     *      <li>atualização da pontuação da temporada.</li>
+     * </ul>
+     * Caso ATUALIZACAO_ATOMICA for true, as atualizações do jogador e da temporada são realizadas com comandos UPDATE 
+     * condicionais (atualizarAgregados), executados como últimos comandos da transação, 
+     * evitando a perda de atualizações em inserções simultâneas para o mesmo jogador.<br>
+     * Caso a atualização assíncrona estiver habilitada (AtualizadorAgregados.HABILITADO), a transação realiza apenas a inserção do jogo 
+     * e, após o commit, o jogo é enviado para a fila do AtualizadorAgregados.
+     * Esse método só será efetuado no banco após o comando de commit (em.getTransaction().commit()), 
+     * e então a data do jogo é registrada no índice em memória e as consultas em cache do jogador são invalidadas (registrarInclusao).
+     * Caso alguma etapa falhar, a transação será desfeita (em.getTransaction().rollback()), 
+     * impedindo que o jogo seja salvo sem a atualização dos recordes ou vice-versa.<br>
      * A conexão criada deverá ser fechada (em.close()).
      * </p>
      * @author Thiago Alexandre Buerger
@@ -51,28 +161,53 @@ public class JogoDAO implements Serializable{
         String mensagem = "";
         Validacao validacao = new Validacao(Jogo.class,jogo);
         if (validacao.getErros().isEmpty()){
-            if (!verificar(jogo)){
+            try{
+                EntityManager em = JPAConnectionFactory.getEntityManager();
                 try{
-                    EntityManager em = JPAConnectionFactory.getEntityManager();
-                    try{
-                        em.getTransaction().begin();
+                    em.getTransaction().begin();
+                    Integer idJogador = idJogador(jogo);
+                    if (!(IndiceOcupacao.possivelConflito(idJogador, jogo.getData()) && verificar(em, jogo))){
                         em.persist(jogo);
-                        em.getTransaction().commit();
+                        if (idJogador != null) {
+                            em.persist(new JogoEvento(JogoEvento.Tipo.INCLUSAO, jogo));
+                        }
+                        boolean assincrono = AtualizadorAgregados.HABILITADO && idJogador != null;
+                        if (assincrono) {
+                            em.getTransaction().commit();
+                            AtualizadorAgregados.enfileirar(jogo);
+                        } else{
+                            if (ATUALIZACAO_ATOMICA) {
+                                atualizarAgregados(em, Collections.singletonList(jogo));
+                            } else{
+                                atualizarRecordesJogador(em, jogo);
+                                atualizarTemporada(em, jogo);
+                            }
+                            em.getTransaction().commit();
+                        }
+                        registrarInclusao(Collections.singletonList(jogo));
                         mensagem = "Novo Jogo cadastrado com sucesso!";
-                        atualizarRecordesJogador(jogo);
-                        atualizarTemporada(jogo);
-                    } catch(Exception e){
+                    } else{
+                        em.getTransaction().rollback();
+                        mensagem = "Já existe um jogo salvo nesta data e hora!";
+                    }
+                } catch(Exception e){
+                    if (em.getTransaction().isActive()) {
+                        em.getTransaction().rollback();
+                    }
+                    if (jogoRepetido(e)) {
+                        IndiceOcupacao.descartar(idJogador(jogo));
+                        jogo.setId(null);
+                        mensagem = "Já existe um jogo salvo nesta data e hora!";
+                    } else{
                         mensagem = "Erro ao adicionar o novo jogo!";
                         System.out.println("Erro! " + e);
-                    } finally{
-                        em.close();
                     }
-                } catch(Exception e){
-                    mensagem = "Erro na conexão com o banco!";
-                    System.out.println("Erro! " + e);
-                }        
-            } else{
-                mensagem = "Já existe um jogo salvo nesta data e hora!";
+                } finally{
+                    em.close();
+                }
+            } catch(Exception e){
+                mensagem = "Erro na conexão com o banco!";
+                System.out.println("Erro! " + e);
             }
         } else{
             mensagem = "Valores Inválidos!";
@@ -81,189 +216,602 @@ public class JogoDAO implements Serializable{
     }
     
     /**
-     * Método para verificar se existe algum jogo com a mesma data e hora
+     * Método para realizar a inserção de um lote de jogos no banco
      * <p>
+     * Utilizado para importar jogos históricos de uma ou mais temporadas.<br>
+     * Deverá ser realizada a validação de todos os jogos do lote (new Validacao(Jogo.class, jogos)) e, 
+     * caso algum jogo apresentar erros, nenhum jogo será salvo.<br>
      * EntityManager em = JPAConnectionFactory.getEntityManager(): objeto de conexão com o banco.<br>
-     * CriteriaQuery Jogo query = em.getCriteriaBuilder().createQuery(Jogo.class): cria uma consulta para a entidade Jogo.<br>
-     * Root Jogo root = query.from(Jogo.class): define a raiz da consulta sendo a entidade Jogo.<br>
-     * Path Date  dataPath = root. Date get("data"): indica sobre qual atributo da entidade será realizada uma condicional. 
-     * Neste caso, será sobre a data.<br>
-     * Predicate verificaData = em.getCriteriaBuilder().equal(dataPath, jogo.getData()): cria uma condicional para a consulta. 
-     * Neste caso, será consultado os jogos que apresentarem a data igual a informada.<br>
-     * Join Jogo,Temporada  join = root.join("temporada"): realiza um join entre as entidades Jogo e Temporada com base 
-     * no atributo "temporada".<br>
-     * Path Jogador jogadorPath = join. Jogador get("jogador"): indica sobre qual atributo do join será realizada uma condicional. 
-     * Neste caso, será sobre o jogador.<br>
-     * Predicate verificaJogador = em.getCriteriaBuilder().equal(jogadorPath, jogo.getTemporada().getJogador()):
-     * cria uma condicional para a consulta. 
-     * Neste caso, será consultado todos os jogos do jogador.<br>
-     * query.where(verificaData,verificaJogador): adiciona as condicionais na consulta. 
-     * Neste caso, será consultado todos os jogos do jogador e verificado se algum deles apresenta a mesma data e hora<br>
-     * TypedQuery Jogo typed = em.createQuery(query): realiza a consulta e retorna uma lista com tipo Jogo.<br>
-     * Jogo teste = typed.getSingleResult(): pega um possível resultado da consulta.<br>
-     * Caso nenhum resultado for encontrado, será lançada uma exceção, finalizando o processo e retornando valor false. 
-     * Caso for encontrado algum resultado, finaliza o processo e retorna valor true.<br>
+     * Todas as etapas deverão ser realizadas em uma única transação:
+     * <ul>
+     *      <li>verificação de datas repetidas para todos os jogos com consultas em conjunto (buscarDuplicados);</li>
+     *      <li>inserção dos jogos com lotes JDBC (inserirLote);</li>
+     *      <li>atualização dos recordes dos jogadores e da pontuação das temporadas em memória, 
+     *      salvas no banco com um único flush no commit.</li>
+     * </ul>
+     * Caso algum jogo apresentar data e hora repetida para o jogador, nenhum jogo será salvo. 
+     * Jogos repetidos inseridos por outra transação após a verificação são impedidos pela chave única (jogador_jogo, data_jogo).<br>
      * A conexão criada deverá ser fechada (em.close()).
      * </p>
      * @author Thiago Alexandre Buerger
      * @version 1.0
-     * @param jogo Jogo: novo jogo que será inserido
-     * @return Boolean: retorna false caso não for encontrado outro jogo do jogador 
-     * com o mesma data do jogo informado ou retorna true caso contrário.
+     * @param jogos Lista Jogo: jogos que serão inseridos
+     * @return String: mensagem de sucesso ao inserir ou de falha caso algum erro seja encontrado.
      */
-    private Boolean verificar(Jogo jogo){
-        Boolean dataIgual = false;
-        try {
-            EntityManager em = JPAConnectionFactory.getEntityManager();
-            try {
-                CriteriaQuery<Jogo> query = em.getCriteriaBuilder().createQuery(Jogo.class);
-                Root<Jogo> root = query.from(Jogo.class);
-                Path<Date> dataPath = root.<Date>get("data");
-                Predicate verificaData = em.getCriteriaBuilder().equal(dataPath, jogo.getData());
-                Join<Jogo,Temporada> join = root.join("temporada");
-                Path<Jogador> jogadorPath = join.<Jogador>get("jogador");
-                Predicate verificaJogador = em.getCriteriaBuilder().equal(jogadorPath, jogo.getTemporada().getJogador());
-                query.where(verificaData,verificaJogador);
-                TypedQuery<Jogo> typed = em.createQuery(query);
-                Jogo teste = typed.getSingleResult();
-                if (teste != null) {
-                    dataIgual = true;
+    public String adicionarLote(List<Jogo> jogos) {
+        String mensagem = "";
+        if (jogos == null || jogos.isEmpty()) {
+            return "Nenhum jogo informado!";
+        }
+        Validacao validacao = new Validacao(Jogo.class,jogos);
+        if (validacao.getErros().isEmpty() && possuiJogador(jogos)){
+            try{
+                EntityManager em = JPAConnectionFactory.getEntityManager();
+                try{
+                    em.getTransaction().begin();
+                    List<Jogo> duplicados = buscarDuplicados(em, jogos);
+                    if (duplicados.isEmpty()) {
+                        inserirLote(em, jogos);
+                        em.getTransaction().commit();
+                        registrarInclusao(jogos);
+                        mensagem = jogos.size() + " jogos cadastrados com sucesso!";
+                    } else{
+                        em.getTransaction().rollback();
+                        mensagem = "Já existem jogos salvos nesta data e hora! (" + duplicados.size() + " jogos)";
+                    }
+                } catch(Exception e){
+                    if (em.getTransaction().isActive()) {
+                        em.getTransaction().rollback();
+                    }
+                    if (jogoRepetido(e)) {
+                        mensagem = "Já existem jogos salvos nesta data e hora!";
+                    } else{
+                        mensagem = "Erro ao adicionar os novos jogos!";
+                        System.out.println("Erro! " + e);
+                    }
+                } finally{
+                    em.close();
                 }
-            } catch (Exception e){
+            } catch(Exception e){
+                mensagem = "Erro na conexão com o banco!";
                 System.out.println("Erro! " + e);
-            } finally{
-                em.close();
             }
-        } catch(Exception e){
-            System.out.println("Erro! " + e);
+        } else{
+            mensagem = "Valores Inválidos!";
         }
-        return dataIgual;
+        return mensagem;
     }
     
     /**
-     * Método para realizar a atualização do jogador caso houver alteração na quebra de recordes mínimo ou máximo do jogador
+     * Método para realizar a inserção de um lote de jogos durante a importação de arquivos
      * <p>
-     * Deve ser chamado toda vez que um novo jogo for adicionado.<br> 
-     * List Jogo lista = buscarJogos(jogador): retorna todos os jogos do jogador.<br>
-     * Deverá ser verificado se o novo jogo salvo é o primeiro jogo do jogador. 
-     * Caso for, deverá ser alterado o mínimo e o máximo do jogador e atualizar ele no banco.<br>
-     * Caso não for, deverá ser verificado se o novo jogo apresenta um novo recorde para o jogador. 
-     * Caso apresentar, o jogador deverá ser atualizado no banco.
+     * Diferente do método adicionarLote, os jogos com data e hora repetida para o jogador são ignorados, 
+     * permitindo que o restante do lote seja salvo.<br>
+     * Os jogos deverão estar validados e com temporada e jogador identificados.<br>
+     * Todas as etapas são realizadas em uma única transação. Caso alguma etapa falhar, a transação será desfeita 
+     * e a exceção será repassada, permitindo que o importador contabilize o lote como rejeitado.<br>
+     * Caso outra transação insira um jogo com a mesma data e hora após a verificação, a chave única (jogador_jogo, data_jogo) 
+     * impede a inserção e o lote é repetido uma única vez, quando o jogo inserido pela outra transação já será ignorado.<br>
+     * A conexão criada deverá ser fechada (em.close()).
      * </p>
      * @author Thiago Alexandre Buerger
      * @version 1.0
-     * @param jogo Jogo: novo jogo salvo para o jogador.
+     * @param jogos Lista Jogo: jogos que serão inseridos
+     * @return int: quantidade de jogos inseridos
+     */
+    int importarLote(List<Jogo> jogos){
+        try{
+            return importar(jogos);
+        } catch(RuntimeException e){
+            if (!jogoRepetido(e)) {
+                throw e;
+            }
+            for (Jogo jogo : jogos) {
+                jogo.setId(null);
+            }
+            return importar(jogos);
+        }
+    }
+    
+    /**
+     * Método para realizar uma tentativa de inserção de um lote de jogos da importação (importarLote)
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param jogos Lista Jogo: jogos que serão inseridos
+     * @return int: quantidade de jogos inseridos
+     */
+    private int importar(List<Jogo> jogos){
+        EntityManager em = JPAConnectionFactory.getEntityManager();
+        try{
+            em.getTransaction().begin();
+            Set<Jogo> duplicados = Collections.newSetFromMap(new IdentityHashMap<>());
+            duplicados.addAll(buscarDuplicados(em, jogos));
+            List<Jogo> novos = new ArrayList<>();
+            for (Jogo jogo : jogos) {
+                if (!duplicados.contains(jogo)) {
+                    novos.add(jogo);
+                }
+            }
+            if (!novos.isEmpty()) {
+                inserirLote(em, novos);
+            }
+            em.getTransaction().commit();
+            registrarInclusao(novos);
+            return novos.size();
+        } catch(RuntimeException e){
+            if (em.getTransaction().isActive()) {
+                em.getTransaction().rollback();
+            }
+            throw e;
+        } finally{
+            em.close();
+        }
+    }
+    
+    /**
+     * Método para obter a identificação do jogador de um jogo
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param jogo Jogo: jogo de referência
+     * @return Integer: identificação do jogador ou nulo caso a temporada não possua jogador
      */
-    private void atualizarRecordesJogador(Jogo jogo){
+    private Integer idJogador(Jogo jogo){
         Jogador jogador = jogo.getTemporada().getJogador();
-        if (jogador != null) {
-            List<Jogo> lista = buscarJogos(jogador);
-            JogadorDAO jogadorDAO = new JogadorDAO();
-            if (lista.size() > 1) {
-                Boolean novoRecorde = jogador.atualizarRecordes(jogo);
-                if (novoRecorde) {
-                    jogadorDAO.atualizar(jogador);
-                }   
-            } else{
-                jogador.primeiroJogo(jogo);
-                jogadorDAO.atualizar(jogador);
-            }    
+        return jogador == null ? null : jogador.getId();
+    }
+    
+    /**
+     * Método para verificar se uma exceção foi causada pela chave única (jogador_jogo, data_jogo) da tabela jogo
+     * <p>
+     * Percorre as causas da exceção procurando a SQLException do banco com o código de chave duplicada (ERRO_CHAVE_DUPLICADA) 
+     * ou com o nome da chave única (CHAVE_JOGADOR_DATA) na mensagem.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param e Throwable: exceção lançada na inserção
+     * @return boolean: true caso o jogo já exista para o jogador na mesma data e hora ou false caso contrário
+     */
+    static boolean jogoRepetido(Throwable e){
+        for (Throwable causa = e; causa != null; causa = causa.getCause()) {
+            if (causa instanceof SQLException) {
+                SQLException sql = (SQLException) causa;
+                if (sql.getErrorCode() == ERRO_CHAVE_DUPLICADA
+                        || (sql.getMessage() != null && sql.getMessage().contains(CHAVE_JOGADOR_DATA))) {
+                    return true;
+                }
+            }
+            if (causa.getCause() == causa) {
+                break;
+            }
         }
+        return false;
     }
     
     /**
-     * Método para realizar a atualização da temporada caso houver alteração da pontuação mínima e máxima da temporada
+     * Método para registrar as datas de jogos inseridos no índice em memória (IndiceOcupacao) 
+     * e invalidar os resultados de consultas dos jogadores (CacheConsultas)
      * <p>
-     * Deve ser chamado toda vez que um novo jogo for adicionado.<br> 
-     * List Jogo lista = listar(temporada): retorna todos os jogos da temporada.<br>
-     * Deverá ser verificado se o novo jogo salvo é o primeiro jogo da temporada. 
-     * Caso for, deverá ser alterado o mínimo e o máximo da temporada e atualizar ela no banco.<br>
-     * Caso não for, deverá ser verificado se o novo jogo apresenta um novo recorde de pontuação para a temporada. 
-     * Caso apresentar, a temporada deverá ser atualizada no banco.
+     * Deve ser chamado após o commit da inserção.<br>
+     * Os jogadores e as temporadas dos jogos são descartados do cache de segundo nível (CacheEntidades), 
+     * pois os dados agregados podem ter sido alterados por comandos JDBC.
      * </p>
      * @author Thiago Alexandre Buerger
      * @version 1.0
-     * @param jogo Jogo: Jogo de referência para realizar a atualização.
+     * @param jogos Lista Jogo: jogos inseridos
      */
-    private void atualizarTemporada(Jogo jogo){
-        Temporada temporada = jogo.getTemporada();
-        List<Jogo> lista = listar(temporada);
-        TemporadaDAO temporadaDAO = new TemporadaDAO();
-        if (lista.size() > 1) {
-            Boolean verificaPontuacao = temporada.atualizarPontuacao(jogo);
-            if (verificaPontuacao) {
-                temporadaDAO.atualizar(temporada);
-            }   
-        } else{
-            temporada.primeiroJogo(jogo);
-            temporadaDAO.atualizar(temporada);
+    private void registrarInclusao(List<Jogo> jogos){
+        Set<Integer> jogadores = new HashSet<>();
+        for (Jogo jogo : jogos) {
+            Integer idJogador = idJogador(jogo);
+            IndiceOcupacao.registrar(idJogador, jogo.getData());
+            jogadores.add(idJogador);
+        }
+        for (Integer idJogador : jogadores) {
+            CacheConsultas.invalidar(idJogador);
         }
+        CacheEntidades.descartar(jogos);
     }
     
     /**
-     * Método para realizar a pesquisa de jogos referentes a uma temporada específica no banco
+     * Método para verificar se todos os jogos possuem temporada e jogador identificados
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param jogos Lista Jogo: jogos que serão verificados
+     * @return boolean: true caso todos os jogos possuírem temporada e jogador com identificação ou false caso contrário.
+     */
+    private boolean possuiJogador(List<Jogo> jogos){
+        for (Jogo jogo : jogos) {
+            if (jogo.getTemporada() == null || jogo.getTemporada().getId() == null 
+                    || jogo.getTemporada().getJogador() == null || jogo.getTemporada().getJogador().getId() == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Método para buscar os jogos de um lote que apresentam data e hora repetida para o mesmo jogador
      * <p>
-     * EntityManager em = JPAConnectionFactory.getEntityManager(): objeto de conexão com o banco.<br>
-     * TypedQuery Jogo query = em.createQuery(jpql, Jogo.class): cria uma consulta JPQL<br>
-     * query.setParameter("pTemporada", temporada): adiciona parâmetro (temporada) na consulta, evitando assim SQL Injection.<br>
-     * lista =  query.getResultList(): retorna uma lista de jogos.<br>
-     * Caso nenhum resultado for encontrado, será lançada uma exceção, finalizando o processo e retornando um objeto nulo. 
-     * Caso for encontrado algum resultado, finaliza o processo e retorna a lista de jogos encontrada.<br>
-     * A conexão criada deverá ser fechada (em.close()).
+     * Primeiro, são verificadas as repetições dentro do próprio lote.<br>
+     * Em seguida, é realizada uma única consulta em conjunto (select j.idJogador, j.data ... where j.idJogador in :pJogadores 
+     * and j.data in :pDatas) para cada grupo de até TAMANHO_LOTE_CONSULTA datas, 
+     * ao invés de uma consulta para cada jogo.<br>
+     * A consulta retorna apenas os pares (jogador, data) salvos no banco, que são comparados com os jogos do lote em memória.
      * </p>
      * @author Thiago Alexandre Buerger
      * @version 1.0
-     * @param temporada Temporada: Temporada em que se deseja obter os jogos no banco.
-     * @return Lista Jogo: retorna uma lista de objetos do tipo Jogo referentes a temporada caso for encontrado
-     * ou uma lista vazia caso não for encontrado nenhum jogo na temporada informada.
+     * @param em EntityManager: objeto de conexão da transação em andamento.
+     * @param jogos Lista Jogo: jogos do lote
+     * @return Lista Jogo: jogos do lote com data e hora repetida, ou uma lista vazia caso não houver repetições.
      */
-    private List<Jogo> listar(Temporada temporada) {
-        List<Jogo> lista = null;
-        try{
-            EntityManager em = JPAConnectionFactory.getEntityManager();
-            String jpql = "select j from Jogo j where j.temporada = :pTemporada";
-            TypedQuery<Jogo> query = em.createQuery(jpql, Jogo.class);
-            query.setParameter("pTemporada", temporada);
-            try {
-                lista =  query.getResultList();
-            } catch (Exception e) {
-                System.out.println("Erro! " + e);
-            } finally{
-                em.close();
+    List<Jogo> buscarDuplicados(EntityManager em, List<Jogo> jogos){
+        List<Jogo> duplicados = new ArrayList<>();
+        Set<String> chaves = new HashSet<>();
+        Set<Integer> jogadores = new HashSet<>();
+        List<Date> datas = new ArrayList<>();
+        for (Jogo jogo : jogos) {
+            Integer idJogador = jogo.getTemporada().getJogador().getId();
+            if (!chaves.add(chave(idJogador, jogo.getData()))) {
+                duplicados.add(jogo);
             }
-        } catch(Exception e){
-            System.out.println("Erro! " + e);
+            jogadores.add(idJogador);
+            datas.add(jogo.getData());
+        }
+        Set<String> salvos = new HashSet<>();
+        for (int i = 0; i < datas.size(); i += TAMANHO_LOTE_CONSULTA) {
+            TypedQuery<Object[]> query = RegistroConsultas.consulta(em, RegistroConsultas.DATAS_JOGOS, Object[].class);
+            query.setParameter("pJogadores", jogadores);
+            query.setParameter("pDatas", datas.subList(i, Math.min(i + TAMANHO_LOTE_CONSULTA, datas.size())));
+            for (Object[] linha : query.getResultList()) {
+                salvos.add(chave((Integer) linha[0], (Date) linha[1]));
+            }
+        }
+        if (!salvos.isEmpty()) {
+            for (Jogo jogo : jogos) {
+                if (salvos.contains(chave(jogo.getTemporada().getJogador().getId(), jogo.getData()))) {
+                    duplicados.add(jogo);
+                }
+            }
+        }
+        return duplicados;
+    }
+    
+    /**
+     * Método para gerar a chave de comparação entre jogador e data do jogo
+     * <p>
+     * A data é considerada em segundos, precisão utilizada pelo campo data_jogo no banco.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param idJogador Integer: identificação do jogador
+     * @param data Date: data e hora do jogo
+     * @return String: chave no formato "jogador:segundos"
+     */
+    private String chave(Integer idJogador, Date data){
+        return idJogador + ":" + (data.getTime() / 1000);
+    }
+    
+    /**
+     * Método para inserir um lote de jogos já validados e verificados
+     * <p>
+     * Os jogos são ordenados por data, mantendo a ordem cronológica na quebra de recordes.<br>
+     * session.doWork(): utiliza a conexão JDBC da transação em andamento para inserir os jogos com 
+     * PreparedStatement.addBatch() e executeBatch() a cada TAMANHO_LOTE_JDBC jogos, 
+     * atribuindo a identificação gerada pelo banco a cada jogo. Os eventos de inclusão são registrados no diário da mesma forma (registrarEventos).<br>
+     * Em seguida, as temporadas afetadas são obtidas com seus jogadores em uma única consulta (join fetch), 
+     * e os métodos registrarJogo do jogador e da temporada são aplicados em memória para cada jogo.<br>
+     * Por serem objetos gerenciados, os jogadores e temporadas alterados são salvos com um único flush no commit da transação.<br>
+     * Caso ATUALIZACAO_ATOMICA for true, as temporadas não são consultadas e os jogos são aplicados com comandos UPDATE condicionais 
+     * em lotes JDBC (atualizarAgregados), na mesma ordem cronológica.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param em EntityManager: objeto de conexão da transação em andamento.
+     * @param jogos Lista Jogo: jogos que serão inseridos
+     */
+    void inserirLote(EntityManager em, List<Jogo> jogos){
+        List<Jogo> ordenados = new ArrayList<>(jogos);
+        ordenados.sort(Comparator.comparing(Jogo::getData));
+        for (Jogo jogo : ordenados) {
+            jogo.definirJogador();
+        }
+        String sql = "insert into jogo (data_jogo, descricao_jogo, placar_jogo, temporada_jogo, jogador_jogo) values (?, ?, ?, ?, ?)";
+        em.unwrap(Session.class).doWork(conexao -> {
+            try (PreparedStatement ps = conexao.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+                for (int inicio = 0; inicio < ordenados.size(); inicio += TAMANHO_LOTE_JDBC) {
+                    List<Jogo> parte = ordenados.subList(inicio, Math.min(inicio + TAMANHO_LOTE_JDBC, ordenados.size()));
+                    for (Jogo jogo : parte) {
+                        ps.setTimestamp(1, new Timestamp(jogo.getData().getTime()));
+                        ps.setString(2, jogo.getDescricao());
+                        ps.setInt(3, jogo.getPlacar());
+                        ps.setInt(4, jogo.getTemporada().getId());
+                        ps.setInt(5, jogo.getIdJogador());
+                        ps.addBatch();
+                    }
+                    ps.executeBatch();
+                    try (ResultSet chaves = ps.getGeneratedKeys()) {
+                        for (Jogo jogo : parte) {
+                            if (chaves.next()) {
+                                jogo.setId(chaves.getInt(1));
+                            }
+                        }
+                    }
+                }
+            }
+            registrarEventos(conexao, ordenados);
+        });
+        Set<Integer> ids = new HashSet<>();
+        for (Jogo jogo : ordenados) {
+            ids.add(jogo.getTemporada().getId());
+        }
+        if (ATUALIZACAO_ATOMICA) {
+            atualizarAgregados(em, ordenados);
+            return;
+        }
+        Map<Integer, Temporada> temporadas = new HashMap<>();
+        TypedQuery<Temporada> query = RegistroConsultas.consulta(em, RegistroConsultas.TEMPORADAS_POR_IDS, Temporada.class);
+        query.setParameter("pIds", ids);
+        for (Temporada temporada : query.getResultList()) {
+            temporadas.put(temporada.getId(), temporada);
+        }
+        for (Jogo jogo : ordenados) {
+            Temporada temporada = temporadas.get(jogo.getTemporada().getId());
+            temporada.getJogador().registrarJogo(jogo);
+            temporada.registrarJogo(jogo);
         }
-        return lista;
+    }
+    
+    /**
+     * Método para registrar os eventos de inclusão de um lote de jogos no diário de jogos (jogo_evento)
+     * <p>
+     * Utiliza PreparedStatement.addBatch() e executeBatch() a cada TAMANHO_LOTE_JDBC jogos, 
+     * na mesma conexão e transação da inserção dos jogos.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param conexao Connection: conexão JDBC da transação em andamento.
+     * @param jogos Lista Jogo: jogos inseridos, com identificação, em ordem cronológica
+     * @throws SQLException caso algum comando falhar
+     */
+    private void registrarEventos(Connection conexao, List<Jogo> jogos) throws SQLException{
+        String sql = "insert into jogo_evento (tipo_evento, jogo_evento, temporada_evento, jogador_evento, data_jogo_evento, placar_evento, registro_evento) "
+                + "values (?, ?, ?, ?, ?, ?, ?)";
+        Timestamp registro = new Timestamp(System.currentTimeMillis());
+        try (PreparedStatement ps = conexao.prepareStatement(sql)) {
+            int pendentes = 0;
+            for (Jogo jogo : jogos) {
+                ps.setString(1, JogoEvento.Tipo.INCLUSAO.name());
+                ps.setInt(2, jogo.getId());
+                ps.setInt(3, jogo.getTemporada().getId());
+                ps.setInt(4, jogo.getTemporada().getJogador().getId());
+                ps.setTimestamp(5, new Timestamp(jogo.getData().getTime()));
+                ps.setInt(6, jogo.getPlacar());
+                ps.setTimestamp(7, registro);
+                ps.addBatch();
+                if (++pendentes == TAMANHO_LOTE_JDBC) {
+                    ps.executeBatch();
+                    pendentes = 0;
+                }
+            }
+            if (pendentes > 0) {
+                ps.executeBatch();
+            }
+        }
+    }
+    
+    /**
+     * Método para atualizar os recordes e dados agregados dos jogadores e das temporadas diretamente no banco
+     * <p>
+     * session.doWork(): utiliza a conexão JDBC da transação em andamento para executar os comandos 
+     * SQL_AGREGADOS_JOGADOR e SQL_AGREGADOS_TEMPORADA para cada jogo, com PreparedStatement.addBatch() 
+     * e executeBatch() a cada TAMANHO_LOTE_JDBC jogos.<br>
+     * Não é necessária a consulta prévia do jogador ou da temporada, e os bloqueios das linhas alteradas 
+     * são mantidos apenas até o commit, sem aguardar processamento em Java.<br>
+     * Os jogadores são sempre alterados antes das temporadas, mantendo a mesma ordem de bloqueio entre transações.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param em EntityManager: objeto de conexão da transação em andamento.
+     * @param jogos Lista Jogo: jogos inseridos, em ordem cronológica
+     */
+    void atualizarAgregados(EntityManager em, List<Jogo> jogos){
+        em.unwrap(Session.class).doWork(conexao -> {
+            executarAgregadosJogador(conexao, jogos);
+            executarAgregadosTemporada(conexao, jogos);
+        });
+    }
+    
+    /**
+     * Método para executar o comando SQL_AGREGADOS_JOGADOR para cada jogo em lotes JDBC
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param conexao Connection: conexão JDBC da transação em andamento.
+     * @param jogos Lista Jogo: jogos inseridos, em ordem cronológica
+     * @throws SQLException caso algum comando falhar
+     */
+    private void executarAgregadosJogador(Connection conexao, List<Jogo> jogos) throws SQLException{
+        try (PreparedStatement ps = conexao.prepareStatement(SQL_AGREGADOS_JOGADOR)) {
+            int pendentes = 0;
+            for (Jogo jogo : jogos) {
+                Integer idJogador = idJogador(jogo);
+                if (idJogador == null) {
+                    continue;
+                }
+                int placar = jogo.getPlacar();
+                Timestamp data = new Timestamp(jogo.getData().getTime());
+                for (int i = 1; i <= 7; i++) {
+                    ps.setInt(i, placar);
+                }
+                ps.setTimestamp(8, data);
+                ps.setTimestamp(9, data);
+                ps.setInt(10, idJogador);
+                ps.addBatch();
+                if (++pendentes == TAMANHO_LOTE_JDBC) {
+                    ps.executeBatch();
+                    pendentes = 0;
+                }
+            }
+            if (pendentes > 0) {
+                ps.executeBatch();
+            }
+        }
+    }
+    
+    /**
+     * Método para executar o comando SQL_AGREGADOS_TEMPORADA para cada jogo em lotes JDBC
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param conexao Connection: conexão JDBC da transação em andamento.
+     * @param jogos Lista Jogo: jogos inseridos, em ordem cronológica
+     * @throws SQLException caso algum comando falhar
+     */
+    private void executarAgregadosTemporada(Connection conexao, List<Jogo> jogos) throws SQLException{
+        try (PreparedStatement ps = conexao.prepareStatement(SQL_AGREGADOS_TEMPORADA)) {
+            int pendentes = 0;
+            for (Jogo jogo : jogos) {
+                int placar = jogo.getPlacar();
+                Timestamp data = new Timestamp(jogo.getData().getTime());
+                for (int i = 1; i <= 5; i++) {
+                    ps.setInt(i, placar);
+                }
+                ps.setTimestamp(6, data);
+                ps.setTimestamp(7, data);
+                ps.setInt(8, jogo.getTemporada().getId());
+                ps.addBatch();
+                if (++pendentes == TAMANHO_LOTE_JDBC) {
+                    ps.executeBatch();
+                    pendentes = 0;
+                }
+            }
+            if (pendentes > 0) {
+                ps.executeBatch();
+            }
+        }
+    }
+    
+    /**
+     * Método para verificar se existe algum jogo com a mesma data e hora
+     * <p>
+     * Utiliza o objeto de conexão da transação em andamento.<br>
+     * TypedQuery Long query = RegistroConsultas.consulta(em, CONTAGEM_DATA_JOGO, Long.class): consulta registrada que conta os jogos 
+     * do jogador com a mesma data e hora do jogo informado.<br>
+     * query.setParameter("pData", jogo.getData()) e query.setParameter("pJogador", idJogador(jogo)): 
+     * adicionam os parâmetros na consulta, evitando assim SQL Injection.<br>
+     * Caso a contagem for maior que 0, retorna valor true. Senão, retorna valor false.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param em EntityManager: objeto de conexão da transação em andamento.
+     * @param jogo Jogo: novo jogo que será inserido
+     * @return Boolean: retorna false caso não for encontrado outro jogo do jogador 
+     * com o mesma data do jogo informado ou retorna true caso contrário.
+     */
+    private Boolean verificar(EntityManager em, Jogo jogo){
+        TypedQuery<Long> query = RegistroConsultas.consulta(em, RegistroConsultas.CONTAGEM_DATA_JOGO, Long.class);
+        query.setParameter("pData", jogo.getData());
+        query.setParameter("pJogador", idJogador(jogo));
+        return query.getSingleResult() > 0;
+    }
+    
+    /**
+     * Método para realizar a atualização dos dados agregados e dos recordes do jogador
+     * <p>
+     * Deve ser chamado toda vez que um novo jogo for adicionado, dentro da transação da inserção.<br> 
+     * Jogador jogador = em.find(Jogador.class, id): obtém o jogador gerenciado pela transação em andamento.<br>
+     * jogador.registrarJogo(jogo): utiliza a quantidade de jogos mantida pelo jogador para verificar se é o primeiro jogo 
+     * ou se houve quebra de recorde, sem a necessidade de consultar os jogos já realizados.<br>
+     * Por ser um objeto gerenciado, as alterações serão salvas no banco no commit da transação, sem a necessidade de merge.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param em EntityManager: objeto de conexão da transação em andamento.
+     * @param jogo Jogo: novo jogo salvo para o jogador.
+     */
+    private void atualizarRecordesJogador(EntityManager em, Jogo jogo){
+        Jogador referencia = jogo.getTemporada().getJogador();
+        if (referencia != null) {
+            Jogador jogador = em.find(Jogador.class, referencia.getId());
+            jogador.registrarJogo(jogo);
+        }
+    }
+    
+    /**
+     * Método para realizar a atualização dos dados agregados e da pontuação mínima e máxima da temporada
+     * <p>
+     * Deve ser chamado toda vez que um novo jogo for adicionado, dentro da transação da inserção.<br> 
+     * Temporada temporada = em.find(Temporada.class, id): obtém a temporada gerenciada pela transação em andamento.<br>
+     * temporada.registrarJogo(jogo): utiliza a quantidade de jogos mantida pela temporada para verificar se é o primeiro jogo 
+     * ou se houve alteração da pontuação, sem a necessidade de consultar os jogos já realizados.<br>
+     * Por ser um objeto gerenciado, as alterações serão salvas no banco no commit da transação, sem a necessidade de merge.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param em EntityManager: objeto de conexão da transação em andamento.
+     * @param jogo Jogo: Jogo de referência para realizar a atualização.
+     */
+    private void atualizarTemporada(EntityManager em, Jogo jogo){
+        Temporada temporada = em.find(Temporada.class, jogo.getTemporada().getId());
+        temporada.registrarJogo(jogo);
     }
     
     /**
      * Método para realizar a pesquisa de jogos do jogador de forma filtrada e paginada
      * <p>
      * Necessário para a paginação.<br>
+     * CacheConsultas.consultar(): as linhas de cada filtro (temporada ou jogador, página, ordenação e jogo de referência) 
+     * são mantidas em cache para o jogador, sendo invalidadas após a inserção de jogos ou a atualização dos dados agregados do jogador. 
+     * Inserções de outros jogadores não invalidam as linhas do jogador. 
+     * Caso as linhas não estejam no cache, será realizada a consulta (pesquisar).<br>
+     * Retorna uma cópia da lista em cache, que pode ser alterada sem afetar o cache.<br>
+     * Caso alguma exceção seja lançada, será finalizado o processo e retorna um objeto nulo.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param filtro JogoFilter: objeto contendo os filtros utilizados na consulta
+     * @return Lista LinhaJogo: lista de linhas da tabela de jogos encontradas na consulta
+     */
+    public List<LinhaJogo> filtrados(JogoFilter filtro) {
+        List<LinhaJogo> lista = null;
+        try {
+            lista = CacheConsultas.consultar(jogadorFiltro(filtro), "jogo:pesquisa:" + chave(filtro), () -> pesquisar(filtro));
+        } catch (Exception e){
+            System.out.println("Erro! " + e);
+        }
+        return lista == null ? null : new ArrayList<>(lista);
+    }
+    
+    /**
+     * Método para realizar a consulta de jogos do jogador de forma filtrada e paginada
+     * <p>
      * EntityManager em = JPAConnectionFactory.getEntityManager(): objeto de conexão com o banco.<br>
-     * CriteriaQuery Jogo consulta = pesquisa(filtro): objeto de consulta com base nos filtros.<br>
-     * TypedQuery Jogo typed = em.createQuery(consulta): realiza uma consulta e retorna uma lista do tipo Jogo<br>
-     * .setFirstResult(filtro.getPrimeiroRegistro()): define o primeiro resultado da consulta para paginação.<br>
+     * TypedQuery LinhaJogo typed = pesquisa(em, filtro): consulta registrada para o formato do filtro, com os parâmetros informados. 
+     * A consulta obtém apenas as colunas exibidas na tabela (LinhaJogo), sem carregar as entidades Jogo, Temporada e Jogador.<br>
+     * .setFirstResult(filtro.getPrimeiroRegistro()): define o primeiro resultado da consulta para paginação. 
+     * Na paginação por chave (filtro.isPaginacaoChave()), o primeiro resultado é sempre 0, 
+     * pois a consulta já inicia no jogo de referência.<br>
      * .setMaxResults(filtro.getQuantidadeRegistros()): define o total de registros por página.<br>
-     * lista = typed.getResultList(): pega um possível resultado da consulta.
+     * lista = typed.getResultList(): pega um possível resultado da consulta. 
+     * Caso a consulta seja invertida, a lista é revertida para a ordenação original.
      * Caso nenhum resultado for encontrado, será lançada uma exceção, finalizando o processo e retornando um objeto nulo.
-     * Caso for encontrado algum resultado, finaliza o processo e retorna a lista de jogos encontrada.
+     * Caso for encontrado algum resultado, finaliza o processo e retorna a lista de linhas encontrada.
      * A conexão criada deverá ser fechada (em.close()).
      * </p>
      * @author Thiago Alexandre Buerger
      * @version 1.0
      * @param filtro JogoFilter: objeto contendo os filtros utilizados na consulta
-     * @return Lista Jogo: lista de jogos encontrados na consulta
+     * @return Lista LinhaJogo: lista de linhas da tabela de jogos encontradas na consulta
      */
-    public List<Jogo> filtrados(JogoFilter filtro) {
-        List<Jogo> lista = null;
+    private List<LinhaJogo> pesquisar(JogoFilter filtro) {
+        List<LinhaJogo> lista = null;
         try{
             EntityManager em = JPAConnectionFactory.getEntityManager();
             try {
-                CriteriaQuery<Jogo> consulta = pesquisa(filtro);
-                TypedQuery<Jogo> typed = em.createQuery(consulta).setFirstResult(filtro.getPrimeiroRegistro()).setMaxResults(filtro.getQuantidadeRegistros());
+                int primeiro = filtro.isPaginacaoChave() ? 0 : filtro.getPrimeiroRegistro();
+                TypedQuery<LinhaJogo> typed = pesquisa(em, filtro).setFirstResult(primeiro).setMaxResults(filtro.getQuantidadeRegistros());
                 lista = typed.getResultList();
+                if (filtro.isInvertido()) {
+                    Collections.reverse(lista);
+                }
             } catch (Exception e){
                 System.out.println("Erro! " + e);
             } finally{
@@ -276,58 +824,75 @@ public class JogoDAO implements Serializable{
     }
     
     /**
-     * Método para realizar a pesquisa de dados de jogos no banco com base na temporada e no jogador
+     * Método para realizar a pesquisa de uma página de jogos do jogador e da quantidade total do filtro em um único comando
+     * <p>
+     * Necessário para a paginação com consulta única (paginacao.consulta.unica no configuracao.properties).<br>
+     * CacheConsultas.consultar(): a página de cada filtro é mantida em cache para o jogador, 
+     * sendo invalidada após a inserção de jogos ou a atualização dos dados agregados do jogador. 
+     * Caso a página não esteja no cache, será realizada a consulta (consultarPagina).<br>
+     * Retorna uma cópia da página em cache, que pode ser alterada sem afetar o cache.<br>
+     * Caso alguma exceção seja lançada, será finalizado o processo e retorna um objeto nulo.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param filtro JogoFilter: objeto contendo os filtros utilizados na consulta
+     * @return Pagina LinhaJogo: linhas da tabela de jogos da página e quantidade total do filtro
+     */
+    public Pagina<LinhaJogo> pagina(JogoFilter filtro) {
+        Pagina<LinhaJogo> pagina = null;
+        try {
+            pagina = CacheConsultas.consultar(jogadorFiltro(filtro), "jogo:pagina:" + chave(filtro), () -> consultarPagina(filtro));
+        } catch (Exception e){
+            System.out.println("Erro! " + e);
+        }
+        return pagina == null ? null : new Pagina<>(new ArrayList<>(pagina.getRegistros()), pagina.getTotal());
+    }
+    
+    /**
+     * Método para realizar a consulta de uma página de jogos do jogador e da quantidade total do filtro em um único comando
      * <p>
-     * Necessário para a paginação.<br>
      * EntityManager em = JPAConnectionFactory.getEntityManager(): objeto de conexão com o banco.<br>
-     * CriteriaQuery Jogo query = em.getCriteriaBuilder().createQuery(Jogo.class): cria uma consulta para a entidade Jogo.<br>
-     * Root Jogo root = query.from(Jogo.class): define a raiz da consulta sendo a entidade Jogo.<br>
-     * Path Date dataPath = root. Date get("data"): indica sobre qual atributo da entidade será realizada uma condicional (data).<br>
-     * Se houver um filtro de temporada, este deverá ser definido e adicionado na consulta.<br>
-     * Path Temporada temporadaPath = root. Temporada get("temporada"): indica sobre qual atributo da entidade será realizada uma condicional (temporada).<br>
-     * Predicate verificaTemporada = em.getCriteriaBuilder().equal(temporadaPath, filtro.getTemporada()): cria uma condicional para a consulta 
-     * onde será verificado os jogos da temporada.<br>
-     * query.where(verificaTemporada): adiciona a condicional na consulta, 
-     * onde será verificado os jogos da temporada.<br>
-     * Se não houver um filtro de temporada, deverá ser definido um filtro de jogador.<br>
-     * Join Jogo,Temporada join = root.join("temporada"): cria um join entre as entidades Jogo e Temporada com base no atributo "temporada".<br>
-     * Path Jogador jogadorPath = join. Jogador get("jogador"): indica sobre qual atributo do join será realizada uma condicional (jogador).<br>
-     * Predicate verificaJogador = em.getCriteriaBuilder().equal(jogadorPath, filtro.getJogador()): cria uma condicional para a consulta 
-     * onde será verificado os jogos do jogador.<br>
-     * query.where(verificaJogador): adiciona a condicional na consulta, 
-     * onde será verificado os jogos do jogador.<br>
-     * OrderImpl ordem = new OrderImpl(dataPath, filtro.isAscendente()): indica sobre qual atributo será ordenado e o tipo de ordenação.<br>
-     * query.orderBy(ordem): aplica a ordenação na consulta.<br>
+     * Query query = RegistroConsultas.consultaSql(em, nome): consulta SQL registrada para o formato do filtro, 
+     * que obtém as colunas da tabela de jogos e a quantidade total do filtro (COUNT(*) OVER(), MariaDB 10.2+), 
+     * com as mesmas condições e ordenações da pesquisa (filtrados).<br>
+     * .setFirstResult(filtro.getPrimeiroRegistro()) e .setMaxResults(filtro.getQuantidadeRegistros()): paginação por primeiro registro (offset). 
+     * A paginação por chave não é utilizada, pois a quantidade seria calculada apenas a partir do jogo de referência.<br>
+     * Caso a página não possua jogos (página após o último jogo), a quantidade é obtida pela contagem (quantidadeFiltrados).<br>
      * Caso alguma exceção seja lançada, será finalizado o processo e retorna um objeto nulo.
-     * Senão, finaliza o processo e retorna a consulta.<br>
      * A conexão criada deverá ser fechada (em.close()).
      * </p>
      * @author Thiago Alexandre Buerger
      * @version 1.0
-     * @param filtro TemporadaFilter: filtro utilizado pela consulta
-     * @return CriteriaQuery Temporada: retorna uma consulta totalmente configurada com base nos filtros
+     * @param filtro JogoFilter: objeto contendo os filtros utilizados na consulta
+     * @return Pagina LinhaJogo: linhas da tabela de jogos da página e quantidade total do filtro
      */
-    private CriteriaQuery<Jogo> pesquisa (JogoFilter filtro){
-        CriteriaQuery<Jogo> query = null;
-        try {
+    private Pagina<LinhaJogo> consultarPagina(JogoFilter filtro) {
+        Pagina<LinhaJogo> pagina = null;
+        try{
             EntityManager em = JPAConnectionFactory.getEntityManager();
             try {
-                query = em.getCriteriaBuilder().createQuery(Jogo.class);
-                Root<Jogo> root = query.from(Jogo.class);
-                Path<Date> dataPath = root.<Date>get("data");
-                if (filtro.getTemporada() != null) {
-                    Path<Temporada> temporadaPath = root.<Temporada>get("temporada");
-                    Predicate verificaTemporada = em.getCriteriaBuilder().equal(temporadaPath, filtro.getTemporada());
-                    query.where(verificaTemporada);
+                boolean porTemporada = filtro.getTemporada() != null;
+                String nome = RegistroConsultas.nomePaginaJogos(porTemporada, filtro.getPropriedadeOrdenacao(), filtro.isAscendente());
+                Query query = RegistroConsultas.consultaSql(em, nome);
+                if (porTemporada) {
+                    query.setParameter("temporada", filtro.getTemporada().getId());
                 } else{
-                    Join<Jogo,Temporada> join = root.join("temporada");
-                    Path<Jogador> jogadorPath = join.<Jogador>get("jogador");
-                    Predicate verificaJogador = em.getCriteriaBuilder().equal(jogadorPath, filtro.getJogador());    
-                    query.where(verificaJogador);
+                    query.setParameter("jogador", filtro.getJogador().getId());
                 }
-                OrderImpl ordem = new OrderImpl(dataPath, filtro.isAscendente());
-                query.orderBy(ordem);
-            } catch(Exception e){
+                query.setFirstResult(filtro.getPrimeiroRegistro()).setMaxResults(filtro.getQuantidadeRegistros());
+                List<LinhaJogo> lista = new ArrayList<>();
+                int total = 0;
+                for (Object resultado : query.getResultList()) {
+                    Object[] linha = (Object[]) resultado;
+                    lista.add(new LinhaJogo(numero(linha[0]), (Date) linha[1], (String) linha[2], numero(linha[3]), 
+                            (String) linha[4], numero(linha[5]), numero(linha[6])));
+                    total = numero(linha[7]);
+                }
+                if (lista.isEmpty() && filtro.getPrimeiroRegistro() > 0) {
+                    total = quantidadeFiltrados(filtro);
+                }
+                pagina = new Pagina<>(lista, total);
+            } catch (Exception e){
                 System.out.println("Erro! " + e);
             } finally{
                 em.close();
@@ -335,19 +900,86 @@ public class JogoDAO implements Serializable{
         } catch (Exception e){
             System.out.println("Erro! " + e);
         }
+        return pagina;
+    }
+    
+    /**
+     * Método para converter um valor numérico de uma consulta SQL
+     * <p>
+     * O driver pode retornar colunas numéricas como Integer, Long ou BigInteger (COUNT).
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param valor Object: valor da coluna
+     * @return Integer: valor convertido ou nulo
+     */
+    static Integer numero(Object valor){
+        return valor == null ? null : ((Number) valor).intValue();
+    }
+    
+    /**
+     * Método para obter a consulta registrada de jogos com base na temporada, no jogador e no jogo de referência
+     * <p>
+     * Necessário para a paginação.<br>
+     * Se houver um filtro de temporada, será utilizada a consulta dos jogos da temporada (parâmetro temporada). 
+     * Senão, a consulta dos jogos do jogador (parâmetro jogador).<br>
+     * Caso o filtro possua um jogo de referência (paginação por chave), a consulta obtém apenas os jogos 
+     * posteriores ao jogo de referência na ordenação (parâmetros data e id), iniciando a leitura 
+     * diretamente no jogo de referência ao invés de ler e descartar os registros anteriores (offset).<br>
+     * As consultas são ordenadas pela propriedade de ordenação do filtro (filtro.getPropriedadeOrdenacao()), 
+     * caso seja uma das ordenações permitidas (data, placar, nomeTemporada, minimoTemporada ou maximoTemporada), 
+     * ou por data. Jogos com o mesmo valor são ordenados pela identificação, garantindo uma ordem única. 
+     * A paginação por chave só é utilizada na ordenação por data. 
+     * A ordenação é invertida caso filtro.isInvertido() seja true.<br>
+     * As consultas são registradas uma única vez (RegistroConsultas), e apenas os parâmetros são informados a cada chamada.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param em EntityManager: objeto de conexão com o banco
+     * @param filtro JogoFilter: filtro utilizado pela consulta
+     * @return TypedQuery LinhaJogo: consulta com os parâmetros do filtro
+     */
+    private TypedQuery<LinhaJogo> pesquisa(EntityManager em, JogoFilter filtro){
+        boolean porTemporada = filtro.getTemporada() != null;
+        String ordenacao = RegistroConsultas.ordenacaoJogos(filtro.getPropriedadeOrdenacao());
+        boolean referencia = filtro.getReferenciaData() != null && RegistroConsultas.ORDENACAO_JOGOS_PADRAO.equals(ordenacao);
+        boolean crescente = filtro.isAscendente() != filtro.isInvertido();
+        String nome = RegistroConsultas.nomeJogos(porTemporada, ordenacao, referencia, crescente);
+        TypedQuery<LinhaJogo> query = RegistroConsultas.consulta(em, nome, LinhaJogo.class);
+        parametros(query, filtro);
+        if (referencia) {
+            query.setParameter("data", filtro.getReferenciaData());
+            query.setParameter("id", filtro.getReferenciaId() == null ? 0 : filtro.getReferenciaId());
+        }
         return query;
     }
+    
+    /**
+     * Método para informar os parâmetros de temporada ou de jogador do filtro em uma consulta registrada
+     * <p>
+     * Utilizado pela pesquisa e pela contagem, garantindo as mesmas condições nas duas consultas.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param query TypedQuery: consulta registrada de jogos
+     * @param filtro JogoFilter: filtro utilizado pela consulta
+     */
+    private void parametros(TypedQuery<?> query, JogoFilter filtro){
+        if (filtro.getTemporada() != null) {
+            query.setParameter("temporada", filtro.getTemporada());
+        } else{
+            query.setParameter("jogador", filtro.getJogador().getId());
+        }
+    }
 
     /**
      * Método para realizar a contagem de possíveis resultados de uma consulta filtrada de jogos
      * <p>
-     * Necessário para a paginação.<br>
-     * EntityManager em = JPAConnectionFactory.getEntityManager(): objeto de conexão com o banco.<br>
-     * TypedQuery Jogo typed = em.createQuery(pesquisa(filtro)): realiza uma consulta e retorna uma lista do tipo Jogo<br>
-     * qtd = typed.getResultList().size(): retorna o tamanho da lista.
-     * Caso nenhum resultado for encontrado, será lançada uma exceção, finalizando o processo e retornando valor 0.
-     * Caso for encontrado algum resultado, finaliza o processo e retorna o tamanho da lista de jogos encontrada.
-     * A conexão criada deverá ser fechada (em.close()).
+     * Necessário para a paginação, chamado a cada mudança de página.<br>
+     * CacheConsultas.consultar(): a contagem de cada filtro é mantida em cache para o jogador, 
+     * sendo invalidada após a inserção de jogos do jogador. 
+     * Caso a contagem não esteja no cache, será realizada a consulta (contar).<br>
+     * Caso alguma exceção seja lançada, será finalizado o processo e retornando valor 0.
      * </p>
      * @author Thiago Alexandre Buerger
      * @version 1.0
@@ -357,15 +989,8 @@ public class JogoDAO implements Serializable{
     public int quantidadeFiltrados(JogoFilter filtro) {
         int qtd = 0;
         try {
-            EntityManager em = JPAConnectionFactory.getEntityManager();
-            try {
-                TypedQuery<Jogo> typed = em.createQuery(pesquisa(filtro));
-                qtd = typed.getResultList().size();
-            } catch(Exception e){
-                System.out.println("Erro! " + e);
-            } finally{
-                em.close();
-            }
+            String chave = "jogo:contagem:" + (filtro.getTemporada() != null ? "temporada:" + filtro.getTemporada().getId() : "jogador");
+            qtd = CacheConsultas.consultar(jogadorFiltro(filtro), chave, () -> contar(filtro));
         } catch (Exception e){
             System.out.println("Erro! " + e);
         }
@@ -373,50 +998,58 @@ public class JogoDAO implements Serializable{
     }
     
     /**
-     * Método para realizar a pesquisa de dados de jogos no banco com base no jogador
+     * Método para realizar a consulta de contagem de jogos de um filtro
      * <p>
      * EntityManager em = JPAConnectionFactory.getEntityManager(): objeto de conexão com o banco.<br>
-     * CriteriaQuery Jogo query = em.getCriteriaBuilder().createQuery(Jogo.class): cria uma consulta para a entidade Jogo.<br>
-     * Root Jogo root = query.from(Jogo.class): define a raiz da consulta sendo a entidade Jogo.<br>
-     * Join Jogo,Temporada join = root.join("temporada"): cria um join entre as entidades Jogo e Temporada com base no atributo "temporada".<br>
-     * Path Jogador jogadorPath = join. Jogador get("jogador"): indica sobre qual atributo do join será realizada uma condicional (jogador).<br>
-     * Predicate verificaJogador = em.getCriteriaBuilder().equal(jogadorPath, filtro.getJogador()): cria uma condicional para a consulta 
-     * onde será verificado os jogos do jogador.<br>
-     * query.where(verificaJogador): adiciona a condicional na consulta, 
-     * onde será verificado os jogos do jogador.<br>
-     * TypedQuery Jogo typed = em.createQuery(query): cria a consulta e retorna uma lista do tipo Jogo.<br>
-     * lista =  query.getResultList(): retorna uma lista de jogos.<br>
-     * Caso nenhum resultado for encontrado, será lançada uma exceção, finalizando o processo e retornando um objeto nulo. 
-     * Caso for encontrado algum resultado, finaliza o processo e retorna a lista de jogos encontrada.<br>
+     * RegistroConsultas.consulta(): consulta registrada de contagem (select count), sem carregar os jogos, temporadas e jogadores.<br>
+     * parametros(query, filtro): utiliza os mesmos parâmetros da pesquisa.<br>
      * A conexão criada deverá ser fechada (em.close()).
      * </p>
      * @author Thiago Alexandre Buerger
      * @version 1.0
-     * @param jogador Jogador: jogador em que se deseja obter os jogos no banco.
-     * @return Lista Jogo: retorna uma lista de objetos do tipo Jogo referentes ao jogador caso for encontrado
-     * ou uma lista vazia caso não for encontrado nenhum jogo do jogador informado
+     * @param filtro JogoFilter: filtro utilizado para realizar a consulta
+     * @return Integer: quantidade de jogos encontrados
      */
-    private List<Jogo> buscarJogos(Jogador jogador){
-        List<Jogo> lista = null;
+    private Integer contar(JogoFilter filtro){
+        EntityManager em = JPAConnectionFactory.getEntityManager();
         try {
-            EntityManager em = JPAConnectionFactory.getEntityManager();
-            try {
-                CriteriaQuery<Jogo> query = em.getCriteriaBuilder().createQuery(Jogo.class);
-                Root<Jogo> root = query.from(Jogo.class);
-                Join<Jogo,Temporada> join = root.join("temporada");
-                Path<Jogador> jogadorPath = join.<Jogador>get("jogador");
-                Predicate verificaJogador = em.getCriteriaBuilder().equal(jogadorPath, jogador);
-                query.where(verificaJogador);
-                TypedQuery<Jogo> typed = em.createQuery(query);
-                lista = typed.getResultList();
-            } catch(Exception e){
-                System.out.println("Erro! " + e);
-            } finally{
-                em.close();
-            }
-        } catch (Exception e){
-            System.out.println("Erro! " + e);
+            TypedQuery<Long> query = RegistroConsultas.consulta(em, RegistroConsultas.nomeContagemJogos(filtro.getTemporada() != null), Long.class);
+            parametros(query, filtro);
+            return query.getSingleResult().intValue();
+        } finally{
+            em.close();
         }
-        return lista;
     }
-}
\ No newline at end of file
+    
+    /**
+     * Método para obter a identificação de um filtro de jogos no cache de consultas (CacheConsultas)
+     * <p>
+     * Composta pela temporada (ou jogador), primeiro registro, quantidade de registros, ordenação, 
+     * direção e jogo de referência da paginação por chave.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param filtro JogoFilter: filtro da consulta
+     * @return String: identificação do filtro
+     */
+    private String chave(JogoFilter filtro){
+        return (filtro.getTemporada() != null ? "temporada:" + filtro.getTemporada().getId() : "jogador") 
+                + ":" + filtro.getPrimeiroRegistro() + ":" + filtro.getQuantidadeRegistros() 
+                + ":" + filtro.getPropriedadeOrdenacao() + ":" + filtro.isAscendente() + ":" + filtro.isInvertido() 
+                + ":" + (filtro.getReferenciaData() == null ? "" : filtro.getReferenciaData().getTime() + ":" + filtro.getReferenciaId());
+    }
+    
+    /**
+     * Método para obter a identificação do jogador dono dos jogos de um filtro
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param filtro JogoFilter: filtro da consulta
+     * @return Integer: identificação do jogador ou nulo caso não seja possível identificar
+     */
+    Integer jogadorFiltro(JogoFilter filtro){
+        if (filtro.getTemporada() != null) {
+            return filtro.getTemporada().getJogador() == null ? null : filtro.getTemporada().getJogador().getId();
+        }
+        return filtro.getJogador() == null ? null : filtro.getJogador().getId();
+    }
+}
@@ -0,0 +1,207 @@
+package model;
+
+import java.io.Serializable;
+import java.util.Date;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.persistence.Temporal;
+
+/**
+ * Classe para objetos do tipo JogoEvento, registro do diário de alterações de jogos
+ * <p>
+ * Anotação @Entity: classe referenciada como entidade no banco de dados.<br>
+ * Anotação @Table: fornece a ligação da classe "JogoEvento" com a entidade "jogo_evento".<br>
+ * O diário é somente de inclusão: cada inserção, alteração ou exclusão de jogo gera um novo evento,
+ * salvo na mesma transação da operação, e nenhum evento é alterado ou removido.<br>
+ * Os eventos guardam uma cópia dos dados do jogo (jogador, temporada, data e placar) e não possuem ligação com a entidade "jogo",
+ * permitindo que os dados agregados sejam reconstruídos apenas a partir do diário (ReconstrutorAgregados).
+ * </p>
+ * @author Thiago Alexandre Buerger
+ * @version 1.0
+ */
+@Entity
+@Table(name="jogo_evento")
+public class JogoEvento implements Serializable{
+
+    /**
+     * Tipos de evento registrados no diário
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    public enum Tipo {INCLUSAO, ALTERACAO, EXCLUSAO}
+
+    /**
+     * Identificação do evento, que também define a ordem dos eventos no diário
+     * <p>
+     * Anotação @Id: atributo de referência a chave primária da entidade.<br>
+     * Anotação @GenerateValue: a chave primária será gerada pelo banco de dados, em ordem crescente.<br>
+     * Anotação @Column: fornece a ligação entre o atributo "id" e o campo "id_evento" da entidade definida no banco.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    @Id
+    @GeneratedValue(strategy=GenerationType.IDENTITY)
+    @Column(name="id_evento")
+    private Long id;
+
+    /**
+     * Tipo do evento
+     * <p>
+     * Anotação @Enumerated: o tipo será salvo pelo nome (INCLUSAO, ALTERACAO ou EXCLUSAO) no campo "tipo_evento".
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    @Column(name="tipo_evento")
+    @Enumerated(EnumType.STRING)
+    private Tipo tipo;
+
+    /**
+     * Identificação do jogo afetado pelo evento
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    @Column(name="jogo_evento")
+    private Integer idJogo;
+
+    /**
+     * Identificação da temporada do jogo
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    @Column(name="temporada_evento")
+    private Integer idTemporada;
+
+    /**
+     * Identificação do jogador da temporada do jogo
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    @Column(name="jogador_evento")
+    private Integer idJogador;
+
+    /**
+     * Data e hora do jogo
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    @Column(name="data_jogo_evento")
+    @Temporal(javax.persistence.TemporalType.TIMESTAMP)
+    private Date data;
+
+    /**
+     * Pontuação do jogo
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    @Column(name="placar_evento")
+    private Integer placar;
+
+    /**
+     * Data e hora do registro do evento
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    @Column(name="registro_evento")
+    @Temporal(javax.persistence.TemporalType.TIMESTAMP)
+    private Date registro;
+
+    /**
+     * Construtor Vazio para objetos JogoEvento
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    public JogoEvento() {}
+
+    /**
+     * Construtor para objetos JogoEvento a partir de um jogo
+     * <p>
+     * O jogo deverá possuir identificação, temporada e jogador.
+     * A data do registro será a data e hora atual.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param tipo Tipo: tipo do evento
+     * @param jogo Jogo: jogo afetado pelo evento
+     */
+    public JogoEvento(Tipo tipo, Jogo jogo) {
+        this.tipo = tipo;
+        this.idJogo = jogo.getId();
+        this.idTemporada = jogo.getTemporada().getId();
+        this.idJogador = jogo.getTemporada().getJogador().getId();
+        this.data = jogo.getData();
+        this.placar = jogo.getPlacar();
+        this.registro = new Date();
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Tipo getTipo() {
+        return tipo;
+    }
+
+    public void setTipo(Tipo tipo) {
+        this.tipo = tipo;
+    }
+
+    public Integer getIdJogo() {
+        return idJogo;
+    }
+
+    public void setIdJogo(Integer idJogo) {
+        this.idJogo = idJogo;
+    }
+
+    public Integer getIdTemporada() {
+        return idTemporada;
+    }
+
+    public void setIdTemporada(Integer idTemporada) {
+        this.idTemporada = idTemporada;
+    }
+
+    public Integer getIdJogador() {
+        return idJogador;
+    }
+
+    public void setIdJogador(Integer idJogador) {
+        this.idJogador = idJogador;
+    }
+
+    public Date getData() {
+        return data;
+    }
+
+    public void setData(Date data) {
+        this.data = data;
+    }
+
+    public Integer getPlacar() {
+        return placar;
+    }
+
+    public void setPlacar(Integer placar) {
+        this.placar = placar;
+    }
+
+    public Date getRegistro() {
+        return registro;
+    }
+
+    public void setRegistro(Date registro) {
+        this.registro = registro;
+    }
+}
@@ -1,6 +1,7 @@
 package model;
 
 import java.io.Serializable;
+import java.util.Date;
 
 /**
  * Classe responsável pelos filtros de pesquisa e paginação de objetos do tipo Jogo
@@ -68,6 +69,39 @@ public class JogoFilter implements Serializable{
      * @version 1.0
      */
     private Jogador jogador;
+    
+    /**
+     * Data do jogo de referência da paginação por chave (keyset)
+     * <p>
+     * Caso informada, a consulta não utiliza o primeiro registro (offset): 
+     * são obtidos os jogos posteriores ao jogo de referência na ordenação (data e id), 
+     * ou anteriores caso a consulta seja invertida.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private Date referenciaData;
+    
+    /**
+     * Identificação do jogo de referência da paginação por chave (keyset)
+     * <p>
+     * Utilizada como desempate entre jogos com a mesma data.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private Integer referenciaId;
+    
+    /**
+     * Indica se a consulta será realizada na ordenação inversa
+     * <p>
+     * Utilizado para obter a página anterior a um jogo de referência ou a última página.
+     * O resultado é devolvido na ordenação original.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private boolean invertido;
 
     public int getPrimeiroRegistro() {
         return primeiroRegistro;
@@ -116,4 +150,75 @@ public class JogoFilter implements Serializable{
     public void setJogador(Jogador jogador) {
         this.jogador = jogador;
     }
-}
\ No newline at end of file
+
+    public Date getReferenciaData() {
+        return referenciaData;
+    }
+
+    public void setReferenciaData(Date referenciaData) {
+        this.referenciaData = referenciaData;
+    }
+
+    public Integer getReferenciaId() {
+        return referenciaId;
+    }
+
+    public void setReferenciaId(Integer referenciaId) {
+        this.referenciaId = referenciaId;
+    }
+
+    public boolean isInvertido() {
+        return invertido;
+    }
+
+    public void setInvertido(boolean invertido) {
+        this.invertido = invertido;
+    }
+    
+    /**
+     * Método para definir o jogo de referência da paginação por chave
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param jogo LinhaJogo: jogo de referência ou nulo para utilizar o primeiro registro (offset)
+     * @param invertido boolean: true para obter os jogos anteriores ao jogo de referência
+     */
+    public void definirReferencia(LinhaJogo jogo, boolean invertido) {
+        this.referenciaData = jogo == null ? null : jogo.getData();
+        this.referenciaId = jogo == null ? null : jogo.getId();
+        this.invertido = invertido;
+    }
+    
+    /**
+     * Método para verificar se a consulta utiliza a paginação por chave
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @return boolean: true caso exista jogo de referência ou a consulta seja invertida
+     */
+    public boolean isPaginacaoChave() {
+        return referenciaData != null || invertido;
+    }
+    
+    /**
+     * Método para criar uma cópia do filtro
+     * <p>
+     * Utilizado pelo pré-carregamento de páginas, realizado em outra thread, 
+     * evitando que a consulta em segundo plano utilize o filtro alterado pela tela.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @return JogoFilter: novo filtro com os mesmos valores
+     */
+    public JogoFilter copia() {
+        JogoFilter copia = new JogoFilter();
+        copia.primeiroRegistro = primeiroRegistro;
+        copia.quantidadeRegistros = quantidadeRegistros;
+        copia.propriedadeOrdenacao = propriedadeOrdenacao;
+        copia.ascendente = ascendente;
+        copia.temporada = temporada;
+        copia.jogador = jogador;
+        copia.referenciaData = referenciaData;
+        copia.referenciaId = referenciaId;
+        copia.invertido = invertido;
+        return copia;
+    }
+}
@@ -3,18 +3,65 @@ package model;
 import java.io.Serializable;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
 import org.primefaces.model.LazyDataModel;
 import org.primefaces.model.SortOrder;
+import util.Configuracao;
+import util.Memorizador;
 
 /**
  * Classe responsável por disponibilizar dados de Jogo paginados
  * <p>
- * extends LazyDataModel: objeto utilizado pelo componente dataTable do PrimeFaces.
+ * extends LazyDataModel: objeto utilizado pelo componente dataTable do PrimeFaces.<br>
+ * Com a paginação por chave habilitada (paginacao.jogos.keyset no configuracao.properties), 
+ * o paginador guarda o primeiro e o último jogo de cada página carregada.
+ * Ao avançar ou voltar uma página, a consulta inicia diretamente no jogo vizinho (data e id), 
+ * sem ler e descartar os registros anteriores (offset), pelos índices (temporada_jogo, data_jogo, id_jogo) 
+ * e (jogador_jogo, data_jogo, id_jogo). A última página é obtida pela consulta invertida.
+ * Dessa forma, apenas a navegação sequencial possui tempo constante em qualquer página:
+ * saltos para páginas ainda não carregadas utilizam o primeiro registro (offset), que lê e descarta os registros anteriores.<br>
+ * Com a consulta única habilitada (paginacao.consulta.unica), as páginas por primeiro registro obtêm os jogos 
+ * e a quantidade total em um único comando (JogoDAO.pagina), sem a consulta de contagem.<br>
+ * Após carregar uma página, a próxima página é pré-carregada em segundo plano (PreCarregamento) 
+ * e, caso seja a próxima página solicitada, é obtida da memória.
  * </p>
  * @author Thiago Alexandre Buerger
  * @version 1.0
  */
-public class JogoPaginator extends LazyDataModel implements Serializable{
+public class JogoPaginator extends LazyDataModel<LinhaJogo> implements Serializable{
+    
+    /**
+     * Indica se a paginação por chave está habilitada
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private static final boolean PAGINACAO_CHAVE = Configuracao.getBooleano("paginacao.jogos.keyset", true);
+    
+    /**
+     * Indica se as páginas por primeiro registro obtêm os jogos e a quantidade total em um único comando
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private static final boolean CONSULTA_UNICA = Configuracao.getBooleano("paginacao.consulta.unica", true);
+    
+    /**
+     * Identificação do paginador, utilizada nas chaves do Memorizador
+     * <p>
+     * Diferencia as páginas de paginadores com filtros diferentes na mesma requisição (nova pesquisa). 
+     * Valor aleatório, mantido na serialização da tela sem repetir a identificação de paginadores criados após reiniciar a aplicação.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private final long numero = ThreadLocalRandom.current().nextLong();
+    
+    /**
+     * Quantidade máxima de jogos de referência guardados
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private static final int LIMITE_REFERENCIAS = 200;
     
     /**
      * Filtro utilizado para a paginação
@@ -29,6 +76,32 @@ public class JogoPaginator extends LazyDataModel implements Serializable{
      * @version 1.0
      */
     private final JogoDAO dao;
+    
+    /**
+     * Primeiro e último jogo das páginas carregadas, identificados pela posição na ordenação
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private final TreeMap<Integer, LinhaJogo> referencias = new TreeMap<>();
+    
+    /**
+     * Ordenação, tamanho de página e quantidade de jogos das referências guardadas
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private boolean ascendenteReferencias;
+    private int tamanhoReferencias;
+    private int quantidadeReferencias;
+    
+    /**
+     * Próxima página pré-carregada, descartada ao alterar o filtro ou ao inserir jogos do jogador
+     * <p>
+     * transient: a consulta em andamento não é mantida na serialização da tela.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private transient PreCarregamento<LinhaJogo> proxima;
 
     /**
      * Construtor da classe JogoPaginator
@@ -44,22 +117,228 @@ public class JogoPaginator extends LazyDataModel implements Serializable{
     /**
      * Método sobrescrito load
      * <p>
-     * Método utilizado pelo componente dataTable do PrimeFaces para realizar paginação real.
+     * Método utilizado pelo componente dataTable do PrimeFaces para realizar paginação real.<br>
+     * Caso a página não possua jogo de referência e a consulta única esteja habilitada, 
+     * os jogos e a quantidade total são obtidos em um único comando (JogoDAO.pagina). 
+     * Caso a consulta única falhe, são utilizadas as consultas separadas.<br>
+     * Senão, a quantidade é obtida pela contagem (mantida em cache) e o jogo de referência é definido no filtro (definirReferencia).<br>
+     * Após a consulta, o primeiro e o último jogo da página são guardados.<br>
+     * Caso a página solicitada seja a página pré-carregada (proxima), os jogos são obtidos da memória, sem consultas.
+     * Ao final, a próxima página é agendada para o pré-carregamento (agendarProxima).<br>
+     * O dataTable pode solicitar a mesma página mais de uma vez na mesma requisição (processamento e renderização da tabela). 
+     * A página é memorizada durante a requisição (Memorizador), e as solicitações seguintes não realizam consultas.
      * </p>
      * @param first int: primeiro registro da página
      * @param pageSize int: tamanho de registros por página
      * @param sortField String: não utilizado
      * @param sortOrder SortOrder: não utilizado
      * @param filters Map: não utilizado
-     * @return List Jogo: retorna uma lista de jogos
+     * @return List LinhaJogo: retorna uma lista de linhas da tabela de jogos
      */
     @Override
-    public List<Jogo> load(int first, int pageSize, String sortField, SortOrder sortOrder, Map filters) {
+    public List<LinhaJogo> load(int first, int pageSize, String sortField, SortOrder sortOrder, Map filters) {
         filtro.setPrimeiroRegistro(first);
         filtro.setQuantidadeRegistros(pageSize);
         filtro.setAscendente(SortOrder.ASCENDING.equals(sortOrder));
         filtro.setPropriedadeOrdenacao(sortField);
-        setRowCount(dao.quantidadeFiltrados(filtro));
-        return dao.filtrados(filtro);
+        return Memorizador.obter("jogos:pagina:" + numero + ":" + chave(first, pageSize), () -> paginar(first, pageSize));
+    }
+    
+    /**
+     * Método para obter uma página, da página pré-carregada ou do banco, e agendar o pré-carregamento da próxima página
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param first int: primeiro registro da página
+     * @param pageSize int: tamanho de registros por página
+     * @return List LinhaJogo: jogos da página
+     */
+    private List<LinhaJogo> paginar(int first, int pageSize) {
+        List<LinhaJogo> jogos = proxima == null ? null : proxima.obter(chave(first, pageSize));
+        proxima = null;
+        if (jogos != null) {
+            guardarReferencias(first, jogos);
+        } else{
+            jogos = carregar(first, pageSize);
+        }
+        agendarProxima(first, pageSize);
+        return jogos;
+    }
+    
+    /**
+     * Método para consultar os jogos de uma página no banco
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param first int: primeiro registro da página
+     * @param pageSize int: tamanho de registros por página
+     * @return List LinhaJogo: linhas da tabela de jogos da página
+     */
+    private List<LinhaJogo> carregar(int first, int pageSize) {
+        if (CONSULTA_UNICA && !possuiReferencia(first, pageSize)) {
+            filtro.definirReferencia(null, false);
+            Pagina<LinhaJogo> pagina = dao.pagina(filtro);
+            if (pagina != null) {
+                setRowCount(pagina.getTotal());
+                validarReferencias(pageSize, pagina.getTotal());
+                guardarReferencias(first, pagina.getRegistros());
+                return pagina.getRegistros();
+            }
+        }
+        int quantidade = dao.quantidadeFiltrados(filtro);
+        setRowCount(quantidade);
+        definirReferencia(first, pageSize, quantidade);
+        List<LinhaJogo> jogos = dao.filtrados(filtro);
+        guardarReferencias(first, jogos);
+        return jogos;
+    }
+    
+    /**
+     * Método para agendar o pré-carregamento da página seguinte à página carregada
+     * <p>
+     * A consulta é realizada em segundo plano com uma cópia do filtro (filtro.copia()), 
+     * utilizando o último jogo da página carregada como referência (paginação por chave), quando possível.<br>
+     * Caso a página carregada seja a última, nenhuma página é agendada.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param first int: primeiro registro da página carregada
+     * @param pageSize int: tamanho de registros por página
+     */
+    private void agendarProxima(int first, int pageSize) {
+        int seguinte = first + pageSize;
+        if (!PreCarregamento.HABILITADO || seguinte >= getRowCount()) {
+            return;
+        }
+        JogoFilter copia = filtro.copia();
+        copia.setPrimeiroRegistro(seguinte);
+        copia.setQuantidadeRegistros(pageSize);
+        LinhaJogo ultimo = referencias.get(seguinte - 1);
+        copia.definirReferencia(PAGINACAO_CHAVE && ordenacaoData() ? ultimo : null, false);
+        proxima = PreCarregamento.agendar(chave(seguinte, pageSize), dao.jogadorFiltro(filtro), () -> dao.filtrados(copia));
+    }
+    
+    /**
+     * Método para descartar a página pré-carregada
+     * <p>
+     * Deve ser chamado ao substituir o paginador (nova pesquisa) ou ao inserir jogos, 
+     * cancelando a consulta em andamento.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    public void descartarPreCarregamento() {
+        if (proxima != null) {
+            proxima.cancelar();
+            proxima = null;
+        }
+    }
+    
+    /**
+     * Método para obter a identificação de uma página, utilizada pelo pré-carregamento
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param first int: primeiro registro da página
+     * @param pageSize int: tamanho de registros por página
+     * @return String: primeiro registro, tamanho, ordenação e direção da página
+     */
+    private String chave(int first, int pageSize) {
+        return first + ":" + pageSize + ":" + RegistroConsultas.ordenacaoJogos(filtro.getPropriedadeOrdenacao()) + ":" + filtro.isAscendente();
+    }
+    
+    /**
+     * Método para definir o jogo de referência da consulta da página
+     * <p>
+     * Primeira página: utiliza o primeiro registro (offset 0).<br>
+     * Página seguinte a uma página carregada: jogos posteriores ao último jogo da página anterior.<br>
+     * Página anterior a uma página carregada: jogos anteriores ao primeiro jogo da página seguinte (consulta invertida).<br>
+     * Última página: consulta invertida sem referência, limitada à quantidade de jogos restantes.<br>
+     * Demais páginas: utiliza o primeiro registro (offset).<br>
+     * A paginação por chave só é utilizada na ordenação por data. As demais ordenações utilizam o primeiro registro (offset).<br>
+     * As referências são descartadas ao alterar a ordenação, o tamanho da página ou a quantidade de jogos do filtro 
+     * (inclusão de jogos altera a posição dos jogos guardados).
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param first int: primeiro registro da página
+     * @param pageSize int: tamanho de registros por página
+     * @param quantidade int: quantidade de jogos do filtro
+     */
+    private void definirReferencia(int first, int pageSize, int quantidade) {
+        filtro.definirReferencia(null, false);
+        if (!PAGINACAO_CHAVE || !ordenacaoData()) {
+            referencias.clear();
+            return;
+        }
+        validarReferencias(pageSize, quantidade);
+        if (first == 0) {
+            return;
+        }
+        if (referencias.containsKey(first - 1)) {
+            filtro.definirReferencia(referencias.get(first - 1), false);
+        } else if (referencias.containsKey(first + pageSize)) {
+            filtro.definirReferencia(referencias.get(first + pageSize), true);
+        } else if (first + pageSize >= quantidade && first < quantidade) {
+            filtro.definirReferencia(null, true);
+            filtro.setQuantidadeRegistros(quantidade - first);
+        }
+    }
+    
+    /**
+     * Método para descartar as referências guardadas ao alterar a ordenação, o tamanho da página ou a quantidade de jogos do filtro
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param pageSize int: tamanho de registros por página
+     * @param quantidade int: quantidade de jogos do filtro
+     */
+    private void validarReferencias(int pageSize, int quantidade) {
+        if (ascendenteReferencias != filtro.isAscendente() || tamanhoReferencias != pageSize || quantidadeReferencias != quantidade) {
+            referencias.clear();
+            ascendenteReferencias = filtro.isAscendente();
+            tamanhoReferencias = pageSize;
+            quantidadeReferencias = quantidade;
+        }
+    }
+    
+    /**
+     * Método para verificar se a página possui um jogo de referência guardado (página vizinha a uma página carregada)
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param first int: primeiro registro da página
+     * @param pageSize int: tamanho de registros por página
+     * @return boolean: true caso a página possa utilizar a paginação por chave
+     */
+    private boolean possuiReferencia(int first, int pageSize) {
+        return PAGINACAO_CHAVE && ordenacaoData() && first > 0 && ascendenteReferencias == filtro.isAscendente() 
+                && tamanhoReferencias == pageSize && (referencias.containsKey(first - 1) || referencias.containsKey(first + pageSize));
+    }
+    
+    /**
+     * Método para guardar o primeiro e o último jogo da página carregada
+     * <p>
+     * Ao exceder LIMITE_REFERENCIAS jogos, as referências anteriores são descartadas.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param first int: primeiro registro da página
+     * @param jogos Lista LinhaJogo: jogos da página
+     */
+    private void guardarReferencias(int first, List<LinhaJogo> jogos) {
+        if (!PAGINACAO_CHAVE || !ordenacaoData() || jogos == null || jogos.isEmpty()) {
+            return;
+        }
+        if (referencias.size() >= LIMITE_REFERENCIAS) {
+            referencias.clear();
+        }
+        referencias.put(first, jogos.get(0));
+        referencias.put(first + jogos.size() - 1, jogos.get(jogos.size() - 1));
+    }
+    
+    /**
+     * Método para verificar se a tabela está ordenada por data, ordenação que permite a paginação por chave
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @return boolean: true caso a ordenação seja por data ou não tenha sido informada
+     */
+    private boolean ordenacaoData() {
+        return RegistroConsultas.ORDENACAO_JOGOS_PADRAO.equals(RegistroConsultas.ordenacaoJogos(filtro.getPropriedadeOrdenacao()));
     }
-}
\ No newline at end of file
+}
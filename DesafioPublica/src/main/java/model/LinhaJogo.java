@@ -0,0 +1,126 @@
+package model;
+
+import java.io.Serializable;
+import java.util.Date;
+
+/**
+ * Classe para objetos do tipo LinhaJogo, linha da tabela de jogos do jogador
+ * <p>
+ * Objeto imutável, criado diretamente pela consulta (select new model.LinhaJogo(...))
+ * apenas com as colunas exibidas na tabela: data, descrição, placar e nome, mínimo e máximo da temporada.<br>
+ * Diferente da entidade Jogo, não carrega a temporada e o jogador (incluindo a senha do jogador)
+ * e não é gerenciado pelo EntityManager, reduzindo os dados consultados e os dados mantidos pela tela.
+ * </p>
+ * @author Thiago Alexandre Buerger
+ * @version 1.0
+ */
+public final class LinhaJogo implements Serializable{
+
+    /**
+     * Identificação do jogo
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private final Integer id;
+
+    /**
+     * Data e hora do jogo
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private final Date data;
+
+    /**
+     * Descrição do jogo
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private final String descricao;
+
+    /**
+     * Pontuação do jogo
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private final Integer placar;
+
+    /**
+     * Nome da temporada do jogo
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private final String nomeTemporada;
+
+    /**
+     * Pontuação mínima da temporada do jogo
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private final Integer minimoTemporada;
+
+    /**
+     * Pontuação máxima da temporada do jogo
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private final Integer maximoTemporada;
+
+    /**
+     * Construtor para objetos LinhaJogo, utilizado pela consulta
+     * <p>
+     * A data é copiada, impedindo a alteração da linha por meio do objeto Date.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param id Integer: identificação do jogo
+     * @param data Date: data e hora do jogo
+     * @param descricao String: descrição do jogo
+     * @param placar Integer: pontuação do jogo
+     * @param nomeTemporada String: nome da temporada
+     * @param minimoTemporada Integer: pontuação mínima da temporada
+     * @param maximoTemporada Integer: pontuação máxima da temporada
+     */
+    public LinhaJogo(Integer id, Date data, String descricao, Integer placar, String nomeTemporada, Integer minimoTemporada, Integer maximoTemporada) {
+        this.id = id;
+        this.data = data == null ? null : new Date(data.getTime());
+        this.descricao = descricao;
+        this.placar = placar;
+        this.nomeTemporada = nomeTemporada;
+        this.minimoTemporada = minimoTemporada;
+        this.maximoTemporada = maximoTemporada;
+    }
+
+    public Integer getId() {
+        return id;
+    }
+
+    /**
+     * Método para obter a data do jogo
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @return Date: cópia da data e hora do jogo
+     */
+    public Date getData() {
+        return data == null ? null : new Date(data.getTime());
+    }
+
+    public String getDescricao() {
+        return descricao;
+    }
+
+    public Integer getPlacar() {
+        return placar;
+    }
+
+    public String getNomeTemporada() {
+        return nomeTemporada;
+    }
+
+    public Integer getMinimoTemporada() {
+        return minimoTemporada;
+    }
+
+    public Integer getMaximoTemporada() {
+        return maximoTemporada;
+    }
+}
@@ -0,0 +1,67 @@
+package model;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * Classe para objetos do tipo OpcaoTemporada, sugestão do campo de seleção de temporada (autoComplete)
+ * <p>
+ * Objeto imutável com apenas a identificação e o nome da temporada, 
+ * sem carregar os dados agregados e o jogador da temporada.<br>
+ * Duas opções são iguais caso possuam a mesma identificação.
+ * </p>
+ * @author Thiago Alexandre Buerger
+ * @version 1.0
+ */
+public final class OpcaoTemporada implements Serializable{
+
+    /**
+     * Identificação da temporada
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private final Integer id;
+
+    /**
+     * Nome da temporada
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private final String nome;
+
+    /**
+     * Construtor para objetos OpcaoTemporada
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param id Integer: identificação da temporada
+     * @param nome String: nome da temporada
+     */
+    public OpcaoTemporada(Integer id, String nome) {
+        this.id = id;
+        this.nome = nome;
+    }
+
+    public Integer getId() {
+        return id;
+    }
+
+    public String getNome() {
+        return nome;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(id);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof OpcaoTemporada)) {
+            return false;
+        }
+        return Objects.equals(id, ((OpcaoTemporada) obj).id);
+    }
+}
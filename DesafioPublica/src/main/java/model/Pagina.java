@@ -0,0 +1,50 @@
+package model;
+
+import java.util.List;
+
+/**
+ * Classe para objetos do tipo Pagina, resultado de uma consulta paginada com a quantidade total do filtro
+ * <p>
+ * Obtida em um único comando (COUNT(*) OVER()), utilizada pelos paginadores para definir 
+ * a lista de registros e a quantidade total (setRowCount) sem uma consulta de contagem separada.
+ * </p>
+ * @author Thiago Alexandre Buerger
+ * @version 1.0
+ * @param <T> tipo dos registros da página
+ */
+public final class Pagina<T> {
+
+    /**
+     * Registros da página
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private final List<T> registros;
+
+    /**
+     * Quantidade total de registros do filtro
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private final int total;
+
+    /**
+     * Construtor para objetos Pagina
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param registros Lista: registros da página
+     * @param total int: quantidade total de registros do filtro
+     */
+    public Pagina(List<T> registros, int total) {
+        this.registros = registros;
+        this.total = total;
+    }
+
+    public List<T> getRegistros() {
+        return registros;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+}
@@ -0,0 +1,168 @@
+package model;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import util.Configuracao;
+
+/**
+ * Classe responsável pelo pré-carregamento da próxima página dos paginadores
+ * <p>
+ * Após carregar a página N, o paginador agenda a consulta da página N+1, realizada em segundo plano enquanto a página N é exibida.
+ * Na próxima mudança de página, caso seja a página agendada, os registros são obtidos da memória.<br>
+ * As consultas são realizadas por um conjunto limitado de threads (paginacao.precarregamento.threads),
+ * com uma fila limitada (paginacao.precarregamento.fila). Com a fila cheia, o pré-carregamento não é realizado,
+ * impedindo que os pré-carregamentos ocupem as conexões do banco utilizadas pelas telas.<br>
+ * Uma página pré-carregada só é utilizada se a versão dos dados do jogador (CacheConsultas.versao) não foi alterada
+ * desde o agendamento, descartando páginas obtidas antes da inserção de um jogo ou temporada.
+ * </p>
+ * @author Thiago Alexandre Buerger
+ * @version 1.0
+ * @param <T> tipo dos registros da página
+ */
+final class PreCarregamento<T> {
+
+    /**
+     * Indica se o pré-carregamento está habilitado
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    static final boolean HABILITADO = Configuracao.getBooleano("paginacao.precarregamento", true);
+
+    /**
+     * Tempo máximo de espera por uma página pré-carregada ainda em andamento, em milissegundos
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private static final long ESPERA = Configuracao.getInteiro("paginacao.precarregamento.espera.ms", 1000);
+
+    /**
+     * Conjunto de threads do pré-carregamento, criado na primeira utilização
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private static ThreadPoolExecutor executor;
+
+    private final String chave;
+    private final Integer idJogador;
+    private final long versao;
+    private final Future<List<T>> registros;
+
+    /**
+     * Construtor privado, utilizado pelo método agendar
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param chave String: identificação da página
+     * @param idJogador Integer: jogador dono dos registros
+     * @param versao long: versão dos dados do jogador no agendamento
+     * @param registros Future: consulta agendada
+     */
+    private PreCarregamento(String chave, Integer idJogador, long versao, Future<List<T>> registros) {
+        this.chave = chave;
+        this.idJogador = idJogador;
+        this.versao = versao;
+        this.registros = registros;
+    }
+
+    /**
+     * Método para agendar o pré-carregamento de uma página
+     * <p>
+     * A versão dos dados do jogador é obtida antes do agendamento.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param <T> tipo dos registros da página
+     * @param chave String: identificação da página (primeiro registro, tamanho, ordenação e filtros)
+     * @param idJogador Integer: jogador dono dos registros
+     * @param consulta Callable: consulta da página, realizada com uma cópia do filtro
+     * @return PreCarregamento: página agendada ou nulo caso o pré-carregamento esteja desabilitado ou a fila esteja cheia
+     */
+    static <T> PreCarregamento<T> agendar(String chave, Integer idJogador, Callable<List<T>> consulta) {
+        if (!HABILITADO || idJogador == null) {
+            return null;
+        }
+        long versao = CacheConsultas.versao(idJogador);
+        try {
+            return new PreCarregamento<>(chave, idJogador, versao, executor().submit(consulta));
+        } catch (RejectedExecutionException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Método para obter os registros pré-carregados
+     * <p>
+     * Os registros só são retornados se a chave for a mesma da página solicitada e a versão dos dados do jogador
+     * não foi alterada. Caso a consulta ainda esteja em andamento, aguarda no máximo ESPERA milissegundos.
+     * Caso contrário, a consulta é cancelada e retorna nulo, e a página deverá ser consultada normalmente.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param chave String: identificação da página solicitada
+     * @return Lista: registros da página ou nulo
+     */
+    List<T> obter(String chave) {
+        if (!this.chave.equals(chave) || CacheConsultas.versao(idJogador) != versao) {
+            cancelar();
+            return null;
+        }
+        try {
+            List<T> lista = registros.get(ESPERA, TimeUnit.MILLISECONDS);
+            return CacheConsultas.versao(idJogador) == versao ? lista : null;
+        } catch (Exception e) {
+            cancelar();
+            return null;
+        }
+    }
+
+    /**
+     * Método para cancelar o pré-carregamento
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    void cancelar() {
+        registros.cancel(false);
+    }
+
+    /**
+     * Método para obter o conjunto de threads do pré-carregamento, criando-o na primeira utilização
+     * <p>
+     * As threads são daemon e encerradas após 60 segundos sem uso.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @return ThreadPoolExecutor: conjunto de threads
+     */
+    private static synchronized ThreadPoolExecutor executor() {
+        if (executor == null) {
+            int threads = Math.max(Configuracao.getInteiro("paginacao.precarregamento.threads", 2), 1);
+            int fila = Math.max(Configuracao.getInteiro("paginacao.precarregamento.fila", 16), 1);
+            executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(fila), tarefa -> {
+                Thread thread = new Thread(tarefa, "pre-carregamento-paginas");
+                thread.setDaemon(true);
+                return thread;
+            }, new ThreadPoolExecutor.AbortPolicy());
+            executor.allowCoreThreadTimeOut(true);
+        }
+        return executor;
+    }
+
+    /**
+     * Método para encerrar o conjunto de threads do pré-carregamento
+     * <p>
+     * Os pré-carregamentos em andamento são interrompidos. Utilizado no encerramento da aplicação.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    static synchronized void encerrar() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+}
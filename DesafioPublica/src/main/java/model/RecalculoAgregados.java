@@ -0,0 +1,242 @@
+package model;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.persistence.EntityManager;
+import org.hibernate.Session;
+import util.JPAConnectionFactory;
+
+/**
+ * Classe responsável pelo recálculo completo dos recordes e dados agregados de todos os jogadores e temporadas a partir da tabela jogo
+ * <p>
+ * Tarefa administrativa, executada pela linha de comando (main) ou pelo método recalcular.<br>
+ * Os jogadores são divididos em grupos de até TAMANHO_GRUPO jogadores, processados em paralelo por um ForkJoinPool
+ * (a lista de jogadores é dividida ao meio até atingir o tamanho do grupo).<br>
+ * Para cada grupo, em uma única transação:
+ * </p>
+ * <ul>
+ *      <li>os jogadores do grupo são bloqueados (select ... for update), fazendo com que inserções simultâneas aguardem o recálculo;</li>
+ *      <li>os jogos do grupo são lidos com uma única consulta ordenada por jogador e id_jogo,
+ *      percorrida em partes (setFetchSize), sem carregar as entidades;</li>
+ *      <li>os jogos de cada jogador e temporada são acumulados na ordem de inserção (ResumoJogos),
+ *      com as mesmas regras do método atualizarRecordes do Jogador;</li>
+ *      <li>os resultados são salvos com lotes JDBC (ReconstrutorAgregados.gravar).</li>
+ * </ul>
+ * <p>
+ * A ordem de quebra de recordes de todo o sistema é a ordem de inserção dos jogos (id_jogo crescente), e não a data do jogo, 
+ * pois jogos podem ser cadastrados com datas anteriores a jogos já salvos. É a mesma ordem utilizada pela inserção (JogoDAO.adicionar 
+ * e JogoDAO.inserirLote, que insere cada lote em ordem cronológica) e pela reconstrução a partir do diário (ReconstrutorAgregados), 
+ * portanto o recálculo e a reconstrução geram os mesmos recordes para os mesmos jogos.
+ * </p>
+ * @author Thiago Alexandre Buerger
+ * @version 1.0
+ */
+public class RecalculoAgregados {
+
+    /**
+     * Quantidade máxima de jogadores processados em uma única transação
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private static final int TAMANHO_GRUPO = 200;
+
+    /**
+     * Quantidade de jogos obtidos do banco a cada leitura da consulta
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private static final int TAMANHO_LEITURA = 1000;
+
+    private final int paralelismo;
+    private final AtomicInteger recalculados = new AtomicInteger();
+    private final AtomicInteger falhas = new AtomicInteger();
+
+    /**
+     * Construtor padrão, utilizando o paralelismo igual à quantidade de processadores disponíveis
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    public RecalculoAgregados() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Construtor com o paralelismo do ForkJoinPool
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param paralelismo int: quantidade de grupos processados em paralelo
+     */
+    public RecalculoAgregados(int paralelismo) {
+        this.paralelismo = Math.max(paralelismo, 1);
+    }
+
+    /**
+     * Método para recalcular os dados agregados de todos os jogadores e temporadas
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @return String: mensagem com a quantidade de jogadores recalculados e de falhas
+     */
+    public String recalcular() {
+        List<Integer> jogadores;
+        try {
+            EntityManager em = JPAConnectionFactory.getEntityManager();
+            try {
+                jogadores = em.createQuery("select j.id from Jogador j order by j.id", Integer.class).getResultList();
+            } finally{
+                em.close();
+            }
+        } catch (Exception e) {
+            System.out.println("Erro! " + e);
+            return "Erro na conexão com o banco!";
+        }
+        long inicio = System.currentTimeMillis();
+        ForkJoinPool pool = new ForkJoinPool(paralelismo);
+        try {
+            pool.invoke(new Grupo(jogadores));
+        } finally{
+            pool.shutdown();
+        }
+        return recalculados.get() + " jogadores recalculados, " + falhas.get() + " falhas em "
+                + (System.currentTimeMillis() - inicio) + " ms.";
+    }
+
+    /**
+     * Método para recalcular os dados agregados de um grupo de jogadores em uma única transação
+     * <p>
+     * Os jogadores devem estar em ordem crescente de identificação.
+     * Caso alguma etapa falhar, a transação será desfeita e a exceção será repassada.<br>
+     * Após o commit, os jogadores do grupo e as temporadas são descartados do cache de segundo nível (CacheEntidades) 
+     * e os resultados de consultas dos jogadores do grupo são invalidados (CacheConsultas).
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param jogadores Lista Integer: identificação dos jogadores do grupo
+     */
+    void recalcular(List<Integer> jogadores) {
+        EntityManager em = JPAConnectionFactory.getEntityManager();
+        try {
+            em.getTransaction().begin();
+            em.unwrap(Session.class).doWork(conexao -> {
+                Integer primeiro = jogadores.get(0);
+                Integer ultimo = jogadores.get(jogadores.size() - 1);
+                bloquear(conexao, primeiro, ultimo);
+                Map<Integer, ResumoJogos> resumosJogadores = new TreeMap<>();
+                for (Integer id : jogadores) {
+                    resumosJogadores.put(id, new ResumoJogos());
+                }
+                Map<Integer, ResumoJogos> resumosTemporadas = new TreeMap<>();
+                String sql = "select j.jogador_jogo, j.temporada_jogo, j.placar_jogo, j.data_jogo from jogo j "
+                        + "where j.jogador_jogo between ? and ? "
+                        + "order by j.jogador_jogo, j.id_jogo";
+                try (PreparedStatement ps = conexao.prepareStatement(sql)) {
+                    ps.setFetchSize(TAMANHO_LEITURA);
+                    ps.setInt(1, primeiro);
+                    ps.setInt(2, ultimo);
+                    try (ResultSet jogos = ps.executeQuery()) {
+                        while (jogos.next()) {
+                            int placar = jogos.getInt(3);
+                            Date data = jogos.getTimestamp(4);
+                            ResumoJogos jogador = resumosJogadores.get(jogos.getInt(1));
+                            if (jogador != null) {
+                                jogador.adicionar(placar, data);
+                                resumosTemporadas.computeIfAbsent(jogos.getInt(2), id -> new ResumoJogos()).adicionar(placar, data);
+                            }
+                        }
+                    }
+                }
+                ReconstrutorAgregados.gravar(conexao, resumosJogadores, resumosTemporadas);
+            });
+            em.getTransaction().commit();
+            CacheEntidades.descartarComTemporadas(jogadores);
+            for (Integer idJogador : jogadores) {
+                CacheConsultas.invalidar(idJogador);
+            }
+        } catch (RuntimeException e) {
+            if (em.getTransaction().isActive()) {
+                em.getTransaction().rollback();
+            }
+            throw e;
+        } finally{
+            em.close();
+        }
+    }
+
+    /**
+     * Método para bloquear os jogadores de um intervalo de identificação até o fim da transação
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param conexao Connection: conexão JDBC da transação em andamento
+     * @param primeiro Integer: menor identificação do grupo
+     * @param ultimo Integer: maior identificação do grupo
+     * @throws SQLException caso o comando falhar
+     */
+    private static void bloquear(Connection conexao, Integer primeiro, Integer ultimo) throws SQLException {
+        String sql = "select id_jogador from jogador where id_jogador between ? and ? order by id_jogador for update";
+        try (PreparedStatement ps = conexao.prepareStatement(sql)) {
+            ps.setInt(1, primeiro);
+            ps.setInt(2, ultimo);
+            try (ResultSet bloqueados = ps.executeQuery()) {
+                while (bloqueados.next()) {
+                    bloqueados.getInt(1);
+                }
+            }
+        }
+    }
+
+    /**
+     * Tarefa do ForkJoinPool responsável por um intervalo da lista de jogadores
+     * <p>
+     * Caso o intervalo possua mais que TAMANHO_GRUPO jogadores, é dividido em duas tarefas executadas em paralelo.
+     * Senão, o grupo é recalculado. Falhas de um grupo são registradas e não interrompem os demais.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private class Grupo extends RecursiveAction {
+
+        private final List<Integer> jogadores;
+
+        Grupo(List<Integer> jogadores) {
+            this.jogadores = jogadores;
+        }
+
+        @Override
+        protected void compute() {
+            if (jogadores.isEmpty()) {
+                return;
+            }
+            if (jogadores.size() > TAMANHO_GRUPO) {
+                int meio = jogadores.size() / 2;
+                invokeAll(new Grupo(jogadores.subList(0, meio)), new Grupo(jogadores.subList(meio, jogadores.size())));
+                return;
+            }
+            try {
+                recalcular(jogadores);
+                recalculados.addAndGet(jogadores.size());
+            } catch (RuntimeException e) {
+                falhas.addAndGet(jogadores.size());
+                System.out.println("Erro! Jogadores " + jogadores.get(0) + " a " + jogadores.get(jogadores.size() - 1) + ": " + e);
+            }
+        }
+    }
+
+    /**
+     * Método para executar o recálculo de todos os jogadores pela linha de comando
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param args String[]: paralelismo (opcional)
+     */
+    public static void main(String[] args) {
+        RecalculoAgregados recalculo = args.length > 0 ? new RecalculoAgregados(Integer.parseInt(args[0])) : new RecalculoAgregados();
+        System.out.println(recalculo.recalcular());
+    }
+}
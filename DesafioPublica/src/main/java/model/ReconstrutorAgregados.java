@@ -0,0 +1,258 @@
+package model;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.persistence.EntityManager;
+import javax.persistence.TypedQuery;
+import org.hibernate.Session;
+import util.JPAConnectionFactory;
+
+/**
+ * Classe responsável pela reconstrução dos recordes e dados agregados dos jogadores e das temporadas a partir do diário de jogos
+ * <p>
+ * Utilizada para corrigir dados agregados divergentes dos jogos salvos.<br>
+ * Cada jogador é reconstruído de forma independente, em paralelo por um conjunto de threads:
+ * </p>
+ * <ul>
+ *      <li>o jogador é bloqueado (select ... for update), fazendo com que inserções simultâneas aguardem a reconstrução;</li>
+ *      <li>os eventos do jogador são lidos em ordem do diário e aplicados em memória (CalculoAgregados). 
+ *      Os jogos são registrados na ordem de inserção (id_jogo crescente), a mesma do RecalculoAgregados;</li>
+ *      <li>os dados do jogador e de todas as suas temporadas são substituídos pelos valores calculados.</li>
+ * </ul>
+ * <p>
+ * Todas as etapas de um jogador são realizadas em uma única transação.<br>
+ * Com a atualização assíncrona habilitada (AtualizadorAgregados), a reconstrução deverá ser executada sem jogos pendentes na fila.
+ * </p>
+ * @author Thiago Alexandre Buerger
+ * @version 1.0
+ */
+public class ReconstrutorAgregados {
+
+    /**
+     * Quantidade de comandos enviados ao banco em cada lote JDBC
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private static final int TAMANHO_LOTE_JDBC = 500;
+
+    private final int threads;
+
+    /**
+     * Construtor padrão, utilizando uma thread para cada processador disponível
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    public ReconstrutorAgregados() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Construtor com a quantidade de threads
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param threads int: quantidade de jogadores reconstruídos em paralelo
+     */
+    public ReconstrutorAgregados(int threads) {
+        this.threads = Math.max(threads, 1);
+    }
+
+    /**
+     * Método para reconstruir os dados agregados de todos os jogadores
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @return String: mensagem com a quantidade de jogadores reconstruídos e de falhas
+     */
+    public String reconstruir() {
+        List<Integer> jogadores;
+        try {
+            EntityManager em = JPAConnectionFactory.getEntityManager();
+            try {
+                jogadores = em.createQuery("select j.id from Jogador j order by j.id", Integer.class).getResultList();
+            } finally{
+                em.close();
+            }
+        } catch (Exception e) {
+            System.out.println("Erro! " + e);
+            return "Erro na conexão com o banco!";
+        }
+        AtomicInteger reconstruidos = new AtomicInteger();
+        AtomicInteger falhas = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> tarefas = new ArrayList<>();
+            for (Integer id : jogadores) {
+                tarefas.add(executor.submit(() -> {
+                    try {
+                        reconstruir(id);
+                        reconstruidos.incrementAndGet();
+                    } catch (RuntimeException e) {
+                        falhas.incrementAndGet();
+                        System.out.println("Erro! Jogador " + id + ": " + e);
+                    }
+                }));
+            }
+            for (Future<?> tarefa : tarefas) {
+                tarefa.get();
+            }
+        } catch (Exception e) {
+            System.out.println("Erro! " + e);
+        } finally{
+            executor.shutdown();
+        }
+        return reconstruidos.get() + " jogadores reconstruídos, " + falhas.get() + " falhas.";
+    }
+
+    /**
+     * Método para reconstruir os dados agregados de um jogador e de suas temporadas
+     * <p>
+     * Caso alguma etapa falhar, a transação será desfeita e a exceção será repassada.<br>
+     * Após o commit, o jogador e as temporadas são descartados do cache de segundo nível (CacheEntidades), 
+     * os resultados de consultas do jogador são invalidados (CacheConsultas) 
+     * e o jogador é removido dos divergentes da atualização assíncrona (AtualizadorAgregados.divergentes).
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param idJogador Integer: identificação do jogador
+     */
+    public void reconstruir(Integer idJogador) {
+        EntityManager em = JPAConnectionFactory.getEntityManager();
+        try {
+            em.getTransaction().begin();
+            em.createNativeQuery("select id_jogador from jogador where id_jogador = ? for update")
+                    .setParameter(1, idJogador).getResultList();
+            TypedQuery<JogoEvento> query = em.createQuery("select e from JogoEvento e where e.idJogador = :pJogador order by e.id", JogoEvento.class);
+            query.setParameter("pJogador", idJogador);
+            CalculoAgregados calculo = new CalculoAgregados();
+            for (JogoEvento evento : query.getResultList()) {
+                calculo.aplicar(evento);
+            }
+            em.clear();
+            em.unwrap(Session.class).doWork(conexao -> gravar(conexao, Collections.singletonMap(idJogador, calculo.jogador()), calculo.temporadas()));
+            em.getTransaction().commit();
+            CacheEntidades.descartarComTemporadas(Collections.singleton(idJogador));
+            CacheConsultas.invalidar(idJogador);
+            AtualizadorAgregados.reconstruido(idJogador);
+        } catch (RuntimeException e) {
+            if (em.getTransaction().isActive()) {
+                em.getTransaction().rollback();
+            }
+            throw e;
+        } finally{
+            em.close();
+        }
+    }
+
+    /**
+     * Método para substituir os dados agregados de jogadores e de suas temporadas pelos valores calculados
+     * <p>
+     * Primeiro, os jogadores são atualizados e todas as suas temporadas são zeradas (temporadas sem jogos).
+     * Em seguida, as temporadas com jogos são atualizadas.<br>
+     * Todos os comandos utilizam lotes JDBC, enviados a cada TAMANHO_LOTE_JDBC comandos.
+     * Também utilizado pelo RecalculoAgregados.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param conexao Connection: conexão JDBC da transação em andamento
+     * @param jogadores Map Integer,ResumoJogos: resumo dos jogos de cada jogador, incluindo jogadores sem jogos (resumo vazio)
+     * @param temporadas Map Integer,ResumoJogos: resumo dos jogos de cada temporada com jogos
+     * @throws SQLException caso algum comando falhar
+     */
+    static void gravar(Connection conexao, Map<Integer, ResumoJogos> jogadores, Map<Integer, ResumoJogos> temporadas) throws SQLException {
+        String sqlJogador = "update jogador set min_jogador = ?, max_jogador = ?, quebra_recorde_min_jogador = ?, quebra_recorde_max_jogador = ?, "
+                + "qtd_jogos_jogador = ?, soma_pontuacao_jogador = ?, ultimo_jogo_jogador = ? where id_jogador = ?";
+        try (PreparedStatement ps = conexao.prepareStatement(sqlJogador)) {
+            int pendentes = 0;
+            for (Map.Entry<Integer, ResumoJogos> item : jogadores.entrySet()) {
+                ResumoJogos jogador = item.getValue();
+                ps.setInt(1, jogador.getMinimo());
+                ps.setInt(2, jogador.getMaximo());
+                ps.setInt(3, jogador.getQuebrasMinimo());
+                ps.setInt(4, jogador.getQuebrasMaximo());
+                ps.setInt(5, jogador.getQuantidade());
+                ps.setLong(6, jogador.getSoma());
+                ps.setTimestamp(7, timestamp(jogador));
+                ps.setInt(8, item.getKey());
+                ps.addBatch();
+                pendentes = executarLote(ps, pendentes + 1);
+            }
+            ps.executeBatch();
+        }
+        String sqlZerar = "update temporada set min_temporada = 0, max_temporada = 0, qtd_jogos_temporada = 0, "
+                + "soma_pontuacao_temporada = 0, ultimo_jogo_temporada = null where jogador_temporada = ?";
+        try (PreparedStatement ps = conexao.prepareStatement(sqlZerar)) {
+            int pendentes = 0;
+            for (Integer idJogador : jogadores.keySet()) {
+                ps.setInt(1, idJogador);
+                ps.addBatch();
+                pendentes = executarLote(ps, pendentes + 1);
+            }
+            ps.executeBatch();
+        }
+        String sqlTemporada = "update temporada set min_temporada = ?, max_temporada = ?, qtd_jogos_temporada = ?, "
+                + "soma_pontuacao_temporada = ?, ultimo_jogo_temporada = ? where id_temporada = ?";
+        try (PreparedStatement ps = conexao.prepareStatement(sqlTemporada)) {
+            int pendentes = 0;
+            for (Map.Entry<Integer, ResumoJogos> item : temporadas.entrySet()) {
+                ResumoJogos temporada = item.getValue();
+                ps.setInt(1, temporada.getMinimo());
+                ps.setInt(2, temporada.getMaximo());
+                ps.setInt(3, temporada.getQuantidade());
+                ps.setLong(4, temporada.getSoma());
+                ps.setTimestamp(5, timestamp(temporada));
+                ps.setInt(6, item.getKey());
+                ps.addBatch();
+                pendentes = executarLote(ps, pendentes + 1);
+            }
+            ps.executeBatch();
+        }
+    }
+
+    /**
+     * Método para enviar o lote JDBC ao atingir TAMANHO_LOTE_JDBC comandos
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param ps PreparedStatement: comando com o lote em andamento
+     * @param pendentes int: quantidade de comandos no lote
+     * @return int: quantidade de comandos restantes no lote
+     * @throws SQLException caso algum comando falhar
+     */
+    private static int executarLote(PreparedStatement ps, int pendentes) throws SQLException {
+        if (pendentes < TAMANHO_LOTE_JDBC) {
+            return pendentes;
+        }
+        ps.executeBatch();
+        return 0;
+    }
+
+    /**
+     * Método para converter a data do último jogo de um resumo
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param resumo ResumoJogos: jogos acumulados
+     * @return Timestamp: data do último jogo ou nulo caso não existam jogos
+     */
+    private static Timestamp timestamp(ResumoJogos resumo) {
+        return resumo.getUltimaData() == null ? null : new Timestamp(resumo.getUltimaData().getTime());
+    }
+
+    /**
+     * Método para executar a reconstrução de todos os jogadores pela linha de comando
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param args String[]: quantidade de threads (opcional)
+     */
+    public static void main(String[] args) {
+        ReconstrutorAgregados reconstrutor = args.length > 0 ? new ReconstrutorAgregados(Integer.parseInt(args[0])) : new ReconstrutorAgregados();
+        System.out.println(reconstrutor.reconstruir());
+    }
+}
@@ -0,0 +1,479 @@
+package model;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.Query;
+import javax.persistence.TypedQuery;
+
+/**
+ * Classe responsável pelo registro das consultas nomeadas utilizadas na paginação de jogos e temporadas
+ * <p>
+ * Cada formato de filtro utilizado pelas telas (jogos por temporada ou por jogador, com ou sem jogo de referência,
+ * temporadas por jogador com ou sem nome, para cada ordenação permitida, em ordem crescente ou decrescente) possui uma consulta JPQL fixa,
+ * registrada uma única vez no EntityManagerFactory (addNamedQuery).<br>
+ * O Hibernate interpreta e guarda o plano de cada consulta no registro,
+ * e as pesquisas apenas informam os parâmetros (createNamedQuery),
+ * sem construir uma consulta Criteria e traduzi-la a cada chamada.<br>
+ * O registro é realizado na primeira consulta ou na inicialização da aplicação (registrar).<br>
+ * Também são registradas as consultas SQL de página com total (COUNT(*) OVER(), MariaDB 10.2+), 
+ * que obtêm os registros da página e a quantidade total do filtro em um único comando.<br>
+ * As temporadas encontradas pelo índice de nomes (IndiceTemporadas) são obtidas pela identificação (nomeTemporadasPorIds).
+ * </p>
+ * @author Thiago Alexandre Buerger
+ * @version 1.0
+ */
+final class RegistroConsultas {
+
+    /**
+     * Propriedades de ordenação permitidas para a tabela de jogos e as respectivas expressões JPQL
+     * <p>
+     * As ordenações por data e por placar são atendidas pelos índices compostos (temporada_jogo, coluna, id_jogo), 
+     * na pesquisa por temporada, e (jogador_jogo, coluna, id_jogo), na pesquisa por jogador, 
+     * evitando a ordenação de todo o histórico do jogador em memória pelo banco (filesort).<br>
+     * As ordenações pelas colunas da temporada (nomeTemporada, minimoTemporada e maximoTemporada) não são atendidas por índices,
+     * pois ordenam os jogos por uma coluna de outra tabela: o banco ordena todos os jogos do filtro antes de obter a página.
+     * Propriedades não permitidas utilizam a ordenação padrão (data).
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private static final Map<String, String> ORDENACOES_JOGOS = new LinkedHashMap<>();
+
+    /**
+     * Propriedades de ordenação permitidas para a tabela de temporadas e as respectivas expressões JPQL
+     * <p>
+     * Cada ordenação é atendida por um índice composto (jogador_temporada, coluna).
+     * Propriedades não permitidas utilizam a ordenação padrão (nome).
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private static final Map<String, String> ORDENACOES_TEMPORADAS = new LinkedHashMap<>();
+
+    /**
+     * Colunas SQL das ordenações permitidas para a tabela de jogos, utilizadas pelas consultas de página com total
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private static final Map<String, String> COLUNAS_JOGOS = new LinkedHashMap<>();
+
+    /**
+     * Colunas SQL das ordenações permitidas para a tabela de temporadas, utilizadas pelas consultas de página com total
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private static final Map<String, String> COLUNAS_TEMPORADAS = new LinkedHashMap<>();
+
+    /**
+     * Ordenação padrão da tabela de jogos, única ordenação que permite a paginação por chave
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    static final String ORDENACAO_JOGOS_PADRAO = "data";
+
+    /**
+     * Ordenação padrão da tabela de temporadas
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    static final String ORDENACAO_TEMPORADAS_PADRAO = "nome";
+
+    /**
+     * Início das consultas de jogos paginados
+     * <p>
+     * Seleciona apenas as colunas exibidas na tabela de jogos (LinhaJogo), 
+     * sem carregar as entidades Jogo, Temporada e Jogador.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private static final String SELECAO_LINHA_JOGO = "select new model.LinhaJogo(j.id, j.data, j.descricao, j.placar, t.nome, t.minimo, t.maximo) "
+            + "from Jogo j join j.temporada t where ";
+
+    /**
+     * Nome da consulta da identificação e do nome de todas as temporadas de um jogador, utilizada pelo índice de nomes (IndiceTemporadas)
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    static final String NOMES_TEMPORADAS = "Temporada.nomes";
+
+    /**
+     * Nome da consulta das sugestões do campo de seleção de temporada, utilizada caso o índice de nomes esteja desabilitado
+     * <p>
+     * Compara o nome em letras minúsculas (lower), sem diferenciar maiúsculas e minúsculas assim como a árvore de prefixos (ArvoreTemporadas), 
+     * mesmo com a collation latin1_general_cs do banco. O prefixo deverá estar em letras minúsculas e com os curingas escapados 
+     * pelo caractere ESCAPE_LIKE (TemporadaDAO.prefixoLike).
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    static final String SUGESTOES_TEMPORADAS = "Temporada.sugestoes";
+
+    /**
+     * Caractere de escape dos curingas (% e _) nas condições like
+     * <p>
+     * Não é utilizada a barra invertida, pois o MariaDB também a interpreta como escape dentro de textos.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    static final char ESCAPE_LIKE = '!';
+
+    /**
+     * Nome da consulta de jogador pelo login (JogadorDAO.buscarPorLogin)
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    static final String JOGADOR_POR_LOGIN = "Jogador.porLogin";
+
+    /**
+     * Nome da consulta de temporada do jogador pelo nome (TemporadaDAO.buscarPorNome)
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    static final String TEMPORADA_POR_NOME = "Temporada.porNome";
+
+    /**
+     * Nome da consulta de todas as temporadas do jogador (TemporadaDAO.listar)
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    static final String TEMPORADAS_JOGADOR = "Temporada.porJogador";
+
+    /**
+     * Nome da consulta das temporadas de um lote de jogos com os seus jogadores (JogoDAO.adicionarLote)
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    static final String TEMPORADAS_POR_IDS = "Temporada.porIds";
+
+    /**
+     * Nome da consulta dos pares (jogador, data) salvos de um lote de jogos (JogoDAO.adicionarLote)
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    static final String DATAS_JOGOS = "Jogo.datasJogadores";
+
+    /**
+     * Nome da consulta de contagem de jogos do jogador com a mesma data e hora (JogoDAO.adicionar)
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    static final String CONTAGEM_DATA_JOGO = "Jogo.contagemData";
+
+    /**
+     * Nome da consulta das datas de todos os jogos do jogador (IndiceOcupacao.carregar)
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    static final String DATAS_JOGADOR = "Jogo.datasJogador";
+
+    /**
+     * Consultas registradas, identificadas pelo nome
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private static final Map<String, String> CONSULTAS = new LinkedHashMap<>();
+
+    /**
+     * Consultas SQL registradas, identificadas pelo nome
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private static final Map<String, String> CONSULTAS_SQL = new LinkedHashMap<>();
+
+    /**
+     * Indica se as consultas já foram registradas
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private static volatile boolean registradas;
+
+    static {
+        ORDENACOES_JOGOS.put(ORDENACAO_JOGOS_PADRAO, "j.data");
+        ORDENACOES_JOGOS.put("placar", "j.placar");
+        ORDENACOES_JOGOS.put("nomeTemporada", "t.nome");
+        ORDENACOES_JOGOS.put("minimoTemporada", "t.minimo");
+        ORDENACOES_JOGOS.put("maximoTemporada", "t.maximo");
+        ORDENACOES_TEMPORADAS.put(ORDENACAO_TEMPORADAS_PADRAO, "t.nome");
+        ORDENACOES_TEMPORADAS.put("minimo", "t.minimo");
+        ORDENACOES_TEMPORADAS.put("maximo", "t.maximo");
+        COLUNAS_JOGOS.put(ORDENACAO_JOGOS_PADRAO, "j.data_jogo");
+        COLUNAS_JOGOS.put("placar", "j.placar_jogo");
+        COLUNAS_JOGOS.put("nomeTemporada", "t.nome_temporada");
+        COLUNAS_JOGOS.put("minimoTemporada", "t.min_temporada");
+        COLUNAS_JOGOS.put("maximoTemporada", "t.max_temporada");
+        COLUNAS_TEMPORADAS.put(ORDENACAO_TEMPORADAS_PADRAO, "t.nome_temporada");
+        COLUNAS_TEMPORADAS.put("minimo", "t.min_temporada");
+        COLUNAS_TEMPORADAS.put("maximo", "t.max_temporada");
+        for (boolean porTemporada : new boolean[]{true, false}) {
+            String condicao = porTemporada ? "j.temporada = :temporada" : "j.idJogador = :jogador";
+            CONSULTAS.put(nomeContagemJogos(porTemporada), "select count(j) from Jogo j where " + condicao);
+            for (boolean crescente : new boolean[]{true, false}) {
+                String direcao = crescente ? " asc" : " desc";
+                for (Map.Entry<String, String> ordenacao : ORDENACOES_JOGOS.entrySet()) {
+                    String ordem = " order by " + ordenacao.getValue() + direcao + ", j.id" + direcao;
+                    CONSULTAS.put(nomeJogos(porTemporada, ordenacao.getKey(), false, crescente), SELECAO_LINHA_JOGO + condicao + ordem);
+                }
+                String maior = crescente ? ">" : "<";
+                String referencia = " and j.data " + maior + "= :data and (j.data " + maior + " :data or j.id " + maior + " :id)";
+                CONSULTAS.put(nomeJogos(porTemporada, ORDENACAO_JOGOS_PADRAO, true, crescente), SELECAO_LINHA_JOGO + condicao + referencia
+                        + " order by j.data" + direcao + ", j.id" + direcao);
+                for (Map.Entry<String, String> coluna : COLUNAS_JOGOS.entrySet()) {
+                    CONSULTAS_SQL.put(nomePaginaJogos(porTemporada, coluna.getKey(), crescente), "select j.id_jogo, j.data_jogo, j.descricao_jogo, "
+                            + "j.placar_jogo, t.nome_temporada, t.min_temporada, t.max_temporada, count(*) over() "
+                            + "from jogo j join temporada t on t.id_temporada = j.temporada_jogo where "
+                            + (porTemporada ? "j.temporada_jogo = :temporada" : "j.jogador_jogo = :jogador")
+                            + " order by " + coluna.getValue() + direcao + ", j.id_jogo" + direcao);
+                }
+            }
+        }
+        CONSULTAS.put(JOGADOR_POR_LOGIN, "select j from Jogador j where j.login = :pLogin");
+        CONSULTAS.put(TEMPORADA_POR_NOME, "select t from Temporada t where t.jogador = :pJogador and t.nome = :pNome order by t.id");
+        CONSULTAS.put(TEMPORADAS_JOGADOR, "select t from Temporada t where t.jogador = :pJogador");
+        CONSULTAS.put(TEMPORADAS_POR_IDS, "select t from Temporada t join fetch t.jogador where t.id in :pIds");
+        CONSULTAS.put(DATAS_JOGOS, "select j.idJogador, j.data from Jogo j where j.idJogador in :pJogadores and j.data in :pDatas");
+        CONSULTAS.put(CONTAGEM_DATA_JOGO, "select count(j) from Jogo j where j.idJogador = :pJogador and j.data = :pData");
+        CONSULTAS.put(DATAS_JOGADOR, "select j.data from Jogo j where j.idJogador = :pJogador");
+        CONSULTAS.put(NOMES_TEMPORADAS, "select t.id, t.nome from Temporada t where t.jogador.id = :jogador");
+        CONSULTAS.put(SUGESTOES_TEMPORADAS, "select new model.OpcaoTemporada(t.id, t.nome) from Temporada t "
+                + "where t.jogador.id = :jogador and lower(t.nome) like :prefixo escape '" + ESCAPE_LIKE + "' order by t.nome, t.id");
+        for (boolean porNome : new boolean[]{true, false}) {
+            String condicao = "t.jogador = :jogador" + (porNome ? " and t.nome like :nome" : "");
+            CONSULTAS.put(nomeContagemTemporadas(porNome), "select count(t) from Temporada t where " + condicao);
+            for (boolean crescente : new boolean[]{true, false}) {
+                String direcao = crescente ? " asc" : " desc";
+                for (Map.Entry<String, String> ordenacao : ORDENACOES_TEMPORADAS.entrySet()) {
+                    CONSULTAS.put(nomeTemporadas(porNome, ordenacao.getKey(), crescente), "select t from Temporada t where " + condicao
+                            + " order by " + ordenacao.getValue() + direcao + ", t.id" + direcao);
+                }
+                if (porNome) {
+                    for (Map.Entry<String, String> ordenacao : ORDENACOES_TEMPORADAS.entrySet()) {
+                        CONSULTAS.put(nomeTemporadasPorIds(ordenacao.getKey(), crescente), "select t from Temporada t "
+                                + "where t.jogador = :jogador and t.id in :ids order by " + ordenacao.getValue() + direcao + ", t.id" + direcao);
+                    }
+                }
+                for (Map.Entry<String, String> coluna : COLUNAS_TEMPORADAS.entrySet()) {
+                    CONSULTAS_SQL.put(nomePaginaTemporadas(porNome, coluna.getKey(), crescente), "select t.id_temporada, t.nome_temporada, "
+                            + "t.min_temporada, t.max_temporada, count(*) over() from temporada t where t.jogador_temporada = :jogador"
+                            + (porNome ? " and t.nome_temporada like :nome" : "")
+                            + " order by " + coluna.getValue() + direcao + ", t.id_temporada" + direcao);
+                }
+            }
+        }
+    }
+
+    /**
+     * Construtor privado, pois a classe possui apenas métodos estáticos
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private RegistroConsultas() {}
+
+    /**
+     * Método para obter a ordenação permitida de jogos
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param propriedade String: propriedade de ordenação informada pela tabela (sortBy)
+     * @return String: a propriedade, caso permitida, ou a ordenação padrão (data)
+     */
+    static String ordenacaoJogos(String propriedade) {
+        return propriedade != null && ORDENACOES_JOGOS.containsKey(propriedade) ? propriedade : ORDENACAO_JOGOS_PADRAO;
+    }
+
+    /**
+     * Método para obter a ordenação permitida de temporadas
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param propriedade String: propriedade de ordenação informada pela tabela (sortBy)
+     * @return String: a propriedade, caso permitida, ou a ordenação padrão (nome)
+     */
+    static String ordenacaoTemporadas(String propriedade) {
+        return propriedade != null && ORDENACOES_TEMPORADAS.containsKey(propriedade) ? propriedade : ORDENACAO_TEMPORADAS_PADRAO;
+    }
+
+    /**
+     * Método para obter o nome da consulta de jogos paginados
+     * <p>
+     * O jogo de referência (paginação por chave) só é utilizado na ordenação padrão (data).
+     * A condição (data, id) posterior ou anterior à referência inicia a leitura diretamente no índice 
+     * (temporada_jogo, data_jogo, id_jogo), na pesquisa por temporada, ou (jogador_jogo, data_jogo, id_jogo), na pesquisa por jogador.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param porTemporada boolean: true para jogos de uma temporada, false para jogos do jogador
+     * @param propriedade String: propriedade de ordenação, validada por ordenacaoJogos
+     * @param referencia boolean: true caso a consulta utilize o jogo de referência (paginação por chave)
+     * @param crescente boolean: direção da ordenação
+     * @return String: nome da consulta
+     */
+    static String nomeJogos(boolean porTemporada, String propriedade, boolean referencia, boolean crescente) {
+        String ordenacao = ordenacaoJogos(propriedade);
+        return "Jogo.pesquisa." + (porTemporada ? "temporada" : "jogador") + "." + ordenacao 
+                + (referencia && ORDENACAO_JOGOS_PADRAO.equals(ordenacao) ? ".referencia" : "") + (crescente ? ".asc" : ".desc");
+    }
+
+    /**
+     * Método para obter o nome da consulta de contagem de jogos
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param porTemporada boolean: true para jogos de uma temporada, false para jogos do jogador
+     * @return String: nome da consulta
+     */
+    static String nomeContagemJogos(boolean porTemporada) {
+        return "Jogo.contagem." + (porTemporada ? "temporada" : "jogador");
+    }
+
+    /**
+     * Método para obter o nome da consulta de temporadas paginadas
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param porNome boolean: true caso a consulta utilize o filtro de nome
+     * @param propriedade String: propriedade de ordenação, validada por ordenacaoTemporadas
+     * @param crescente boolean: direção da ordenação
+     * @return String: nome da consulta
+     */
+    static String nomeTemporadas(boolean porNome, String propriedade, boolean crescente) {
+        return "Temporada.pesquisa" + (porNome ? ".nome." : ".") + ordenacaoTemporadas(propriedade) + (crescente ? ".asc" : ".desc");
+    }
+
+    /**
+     * Método para obter o nome da consulta de temporadas paginadas a partir da identificação das temporadas encontradas pelo índice de nomes
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param propriedade String: propriedade de ordenação, validada por ordenacaoTemporadas
+     * @param crescente boolean: direção da ordenação
+     * @return String: nome da consulta
+     */
+    static String nomeTemporadasPorIds(String propriedade, boolean crescente) {
+        return "Temporada.pesquisa.ids." + ordenacaoTemporadas(propriedade) + (crescente ? ".asc" : ".desc");
+    }
+
+    /**
+     * Método para obter o nome da consulta de contagem de temporadas
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param porNome boolean: true caso a consulta utilize o filtro de nome
+     * @return String: nome da consulta
+     */
+    static String nomeContagemTemporadas(boolean porNome) {
+        return "Temporada.contagem" + (porNome ? ".nome" : "");
+    }
+
+    /**
+     * Método para obter o nome da consulta SQL de página de jogos com total
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param porTemporada boolean: true para jogos de uma temporada, false para jogos do jogador
+     * @param propriedade String: propriedade de ordenação, validada por ordenacaoJogos
+     * @param crescente boolean: direção da ordenação
+     * @return String: nome da consulta
+     */
+    static String nomePaginaJogos(boolean porTemporada, String propriedade, boolean crescente) {
+        return "Jogo.pagina." + (porTemporada ? "temporada." : "jogador.") + ordenacaoJogos(propriedade) + (crescente ? ".asc" : ".desc");
+    }
+
+    /**
+     * Método para obter o nome da consulta SQL de página de temporadas com total
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param porNome boolean: true caso a consulta utilize o filtro de nome
+     * @param propriedade String: propriedade de ordenação, validada por ordenacaoTemporadas
+     * @param crescente boolean: direção da ordenação
+     * @return String: nome da consulta
+     */
+    static String nomePaginaTemporadas(boolean porNome, String propriedade, boolean crescente) {
+        return "Temporada.pagina" + (porNome ? ".nome." : ".") + ordenacaoTemporadas(propriedade) + (crescente ? ".asc" : ".desc");
+    }
+
+    /**
+     * Método para obter o texto SQL de uma consulta de página com total
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param nome String: nome da consulta
+     * @return String: consulta SQL ou nulo caso não exista
+     */
+    static String sql(String nome) {
+        return CONSULTAS_SQL.get(nome);
+    }
+
+    /**
+     * Método para obter o texto JPQL de uma consulta
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param nome String: nome da consulta
+     * @return String: consulta JPQL ou nulo caso não exista
+     */
+    static String jpql(String nome) {
+        return CONSULTAS.get(nome);
+    }
+
+    /**
+     * Método para registrar todas as consultas no EntityManagerFactory
+     * <p>
+     * Cada consulta é interpretada pelo Hibernate (em.createQuery ou em.createNativeQuery) e registrada com o seu nome (addNamedQuery).
+     * Consultas com erro são informadas na inicialização, e não na primeira utilização pela tela.<br>
+     * Chamadas seguintes não possuem efeito.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param emf EntityManagerFactory: fábrica de conexões da aplicação
+     */
+    static synchronized void registrar(EntityManagerFactory emf) {
+        if (registradas) {
+            return;
+        }
+        EntityManager em = emf.createEntityManager();
+        try {
+            for (Map.Entry<String, String> consulta : CONSULTAS.entrySet()) {
+                emf.addNamedQuery(consulta.getKey(), em.createQuery(consulta.getValue()));
+            }
+            for (Map.Entry<String, String> consulta : CONSULTAS_SQL.entrySet()) {
+                emf.addNamedQuery(consulta.getKey(), em.createNativeQuery(consulta.getValue()));
+            }
+        } finally{
+            em.close();
+        }
+        registradas = true;
+    }
+
+    /**
+     * Método para criar uma consulta registrada
+     * <p>
+     * Caso as consultas ainda não tenham sido registradas, o registro é realizado antes da consulta.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param <T> tipo do resultado
+     * @param em EntityManager: objeto de conexão com o banco
+     * @param nome String: nome da consulta
+     * @param tipo Class: tipo do resultado
+     * @return TypedQuery: consulta pronta para receber os parâmetros
+     */
+    static <T> TypedQuery<T> consulta(EntityManager em, String nome, Class<T> tipo) {
+        if (!registradas) {
+            registrar(em.getEntityManagerFactory());
+        }
+        return em.createNamedQuery(nome, tipo);
+    }
+
+    /**
+     * Método para criar uma consulta SQL registrada de página com total
+     * <p>
+     * Cada linha do resultado possui as colunas da consulta e, por último, a quantidade total do filtro (COUNT(*) OVER()).
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param em EntityManager: objeto de conexão com o banco
+     * @param nome String: nome da consulta
+     * @return Query: consulta pronta para receber os parâmetros
+     */
+    static Query consultaSql(EntityManager em, String nome) {
+        if (!registradas) {
+            registrar(em.getEntityManagerFactory());
+        }
+        return em.createNamedQuery(nome);
+    }
+}
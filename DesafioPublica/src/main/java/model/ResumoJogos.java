@@ -0,0 +1,124 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Classe que acumula os jogos de um jogador ou de uma temporada para a atualização dos dados agregados em um único comando
+ * <p>
+ * Os jogos devem ser adicionados na ordem em que foram inseridos (id_jogo crescente), a mesma utilizada na quebra de recordes 
+ * por todo o sistema (ver RecalculoAgregados), mesmo que as datas dos jogos estejam fora de ordem.<br>
+ * Além da quantidade, soma, mínimo, máximo e data do último jogo, são mantidas as pontuações que quebraram 
+ * o mínimo ou o máximo dentro do próprio resumo (recordesMinimo e recordesMaximo). 
+ * Com elas, a quantidade de quebras de recorde pode ser calculada pelo banco a partir do mínimo e do máximo salvos, 
+ * sem consulta prévia: uma pontuação de recordesMinimo quebra o recorde somente se for menor que o mínimo salvo.
+ * </p>
+ * @author Thiago Alexandre Buerger
+ * @version 1.0
+ */
+class ResumoJogos {
+    
+    private int quantidade;
+    private long soma;
+    private int minimo;
+    private int maximo;
+    private Date ultimaData;
+    private final List<Integer> recordesMinimo = new ArrayList<>();
+    private final List<Integer> recordesMaximo = new ArrayList<>();
+    
+    /**
+     * Método para acumular um novo jogo no resumo
+     * <p>
+     * O primeiro jogo é considerado recorde mínimo e máximo do resumo.
+     * Os demais seguem a mesma regra do método atualizarRecordes do Jogador.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param jogo Jogo: jogo inserido
+     */
+    void adicionar(Jogo jogo){
+        adicionar(jogo.getPlacar(), jogo.getData());
+    }
+    
+    /**
+     * Método para acumular um novo jogo no resumo a partir da pontuação e da data
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param placar int: pontuação do jogo
+     * @param data Date: data e hora do jogo
+     */
+    void adicionar(int placar, Date data){
+        if (quantidade == 0) {
+            minimo = placar;
+            maximo = placar;
+            recordesMinimo.add(placar);
+            recordesMaximo.add(placar);
+        } else if (placar < minimo) {
+            minimo = placar;
+            recordesMinimo.add(placar);
+        } else if (placar > maximo) {
+            maximo = placar;
+            recordesMaximo.add(placar);
+        }
+        quantidade++;
+        soma += placar;
+        if (ultimaData == null || data.after(ultimaData)) {
+            ultimaData = data;
+        }
+    }
+    
+    /**
+     * Método para obter a quantidade de quebras do recorde mínimo, considerando o resumo como todos os jogos realizados
+     * <p>
+     * O primeiro jogo não é considerado quebra de recorde.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @return int: quantidade de quebras do recorde mínimo
+     */
+    int getQuebrasMinimo(){
+        return Math.max(recordesMinimo.size() - 1, 0);
+    }
+    
+    /**
+     * Método para obter a quantidade de quebras do recorde máximo, considerando o resumo como todos os jogos realizados
+     * <p>
+     * O primeiro jogo não é considerado quebra de recorde.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @return int: quantidade de quebras do recorde máximo
+     */
+    int getQuebrasMaximo(){
+        return Math.max(recordesMaximo.size() - 1, 0);
+    }
+
+    public int getQuantidade() {
+        return quantidade;
+    }
+
+    public long getSoma() {
+        return soma;
+    }
+
+    public int getMinimo() {
+        return minimo;
+    }
+
+    public int getMaximo() {
+        return maximo;
+    }
+
+    public Date getUltimaData() {
+        return ultimaData;
+    }
+
+    public List<Integer> getRecordesMinimo() {
+        return recordesMinimo;
+    }
+
+    public List<Integer> getRecordesMaximo() {
+        return recordesMaximo;
+    }
+}
@@ -1,18 +1,27 @@
 package model;
 
 import java.io.Serializable;
+import java.util.Date;
 import java.util.List;
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.Entity;
+import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.NamedAttributeNode;
+import javax.persistence.NamedEntityGraph;
 import javax.persistence.OneToMany;
 import javax.persistence.Table;
+import javax.persistence.Temporal;
 import javax.validation.constraints.NotNull;
 import javax.validation.constraints.Size;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.validator.constraints.NotEmpty;
 import org.hibernate.validator.constraints.Range;
 
@@ -20,15 +29,37 @@ import org.hibernate.validator.constraints.Range;
  * Classe para objetos do tipo Temporada
  * <p>
  * Anotação @Entity: classe referenciada como entidade no banco de dados.<br>
- * Anotação @Table: fornece a ligação da classe "Temporada" com a entidade "temporada".
+ * Anotação @Table: fornece a ligação da classe "Temporada" com a entidade "temporada".<br>
+ * Anotação @NamedEntityGraph: plano de busca GRAFO_JOGADOR, que obtém a temporada e o seu jogador na mesma consulta (join).
+ * Utilizado pelas consultas do TemporadaDAO, já que o jogador não é mais carregado automaticamente (FetchType.LAZY).<br>
+ * Anotação @Cacheable e @Cache: as temporadas obtidas pelo id (em.find) são mantidas no cache de segundo nível 
+ * (região REGIAO_CACHE, configurada no ehcache.xml), com atualização pelo Hibernate nas alterações das entidades (READ_WRITE).
+ * A lista de jogos da temporada não é mantida no cache.
  * </p>
  * @author Thiago Alexandre Buerger
  * @version 1.0
  */
 @Entity
 @Table(name="temporada")
+@NamedEntityGraph(name=Temporada.GRAFO_JOGADOR, attributeNodes=@NamedAttributeNode("jogador"))
+@Cacheable
+@Cache(usage=CacheConcurrencyStrategy.READ_WRITE, region=Temporada.REGIAO_CACHE)
 public class Temporada implements Serializable {
     
+    /**
+     * Nome do plano de busca da temporada com o seu jogador
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    public static final String GRAFO_JOGADOR = "Temporada.jogador";
+    
+    /**
+     * Nome da região do cache de segundo nível das temporadas
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    public static final String REGIAO_CACHE = "model.Temporada";
+    
     /**
      * Identificação da temporada
      * <p>
@@ -93,18 +124,66 @@ public class Temporada implements Serializable {
     @Range(min=0)
     private Integer maximo;
     
+    /**
+     * Quantidade de jogos realizados na temporada
+     * <p>
+     * Mantida a cada novo jogo, evitando a contagem dos jogos da temporada no banco.<br>
+     * Anotação @Column: fornece a ligação entre o atributo "qtdJogos" e o campo "qtd_jogos_temporada" da entidade definida no banco.<br>
+     * Anotação @NotNull: impede que um valor nulo seja definido ao campo.<br>
+     * Anotação @Range: impede que seja definido um valor negativo.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    @Column(name="qtd_jogos_temporada")
+    @NotNull()
+    @Range(min=0)
+    private Integer qtdJogos = 0;
+    
+    /**
+     * Soma das pontuações obtidas na temporada
+     * <p>
+     * Mantida a cada novo jogo, permitindo obter a média de pontos sem consultar os jogos da temporada.<br>
+     * Anotação @Column: fornece a ligação entre o atributo "somaPontuacao" e o campo "soma_pontuacao_temporada" da entidade definida no banco.<br>
+     * Anotação @NotNull: impede que um valor nulo seja definido ao campo.<br>
+     * Anotação @Range: impede que seja definido um valor negativo.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    @Column(name="soma_pontuacao_temporada")
+    @NotNull()
+    @Range(min=0)
+    private Long somaPontuacao = 0L;
+    
+    /**
+     * Data e hora do jogo mais recente da temporada
+     * <p>
+     * Anotação @Column: fornece a ligação entre o atributo "dataUltimoJogo" e o campo "ultimo_jogo_temporada" da entidade definida no banco.<br>
+     * Anotação @Temporal: define que o campo apresenta data e hora.<br>
+     * Permanece nulo enquanto a temporada não possuir jogos.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    @Column(name="ultimo_jogo_temporada")
+    @Temporal(javax.persistence.TemporalType.TIMESTAMP)
+    private Date dataUltimoJogo;
+    
     /**
      * Jogador proprietário dos dados da temporada
      * <p>
      * Anotação @ManyToOne: referencia a ligação entre as entidades "Temporada" e "Jogador".
      * Neste caso, o jogador poderá registrar muitas temporadas e cada temporada será exclusiva de um jogador.<br>
+     * FetchType.LAZY: o jogador só é obtido quando solicitado pela consulta (plano de busca GRAFO_JOGADOR), 
+     * evitando uma consulta adicional para cada jogador distinto das temporadas obtidas.<br>
      * Anotação @JoinColumn: fornece a ligação entre o atributo "jogador" e o campo "jogador_temporada" da entidade.
      * Neste caso, referencia uma chave estrangeira que irá retornar um objeto da classe "Jogador".
      * </p>
      * @author Thiago Alexandre Buerger
      * @version 1.0
      */
-    @ManyToOne
+    @ManyToOne(fetch=FetchType.LAZY)
     @JoinColumn(name="jogador_temporada")
     private Jogador jogador;
     
@@ -148,6 +227,29 @@ public class Temporada implements Serializable {
         this.jogador = jogador;
     }
 
+    /**
+     * Método para obter uma cópia da temporada
+     * <p>
+     * Copia a identificação, o nome, as pontuações, os dados agregados e o jogador (Jogador.copia). 
+     * A lista de jogos não é copiada.<br>
+     * Caso o jogador ainda não tenha sido carregado (FetchType.LAZY), a referência é mantida, 
+     * pois a cópia exigiria uma consulta ao banco.<br>
+     * Utilizado pelo cache de consultas (TemporadaDAO), evitando que a alteração de uma temporada pela tela 
+     * altere a temporada mantida em cache.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @return Temporada: nova temporada com os mesmos valores
+     */
+    public Temporada copia() {
+        Temporada copia = new Temporada(id, nome, minimo, maximo, 
+                jogador != null && Hibernate.isInitialized(jogador) ? jogador.copia() : jogador);
+        copia.qtdJogos = qtdJogos;
+        copia.somaPontuacao = somaPontuacao;
+        copia.dataUltimoJogo = dataUltimoJogo == null ? null : new Date(dataUltimoJogo.getTime());
+        return copia;
+    }
+
     public Integer getId() {
         return id;
     }
@@ -180,6 +282,30 @@ public class Temporada implements Serializable {
         this.maximo = maximo;
     }
 
+    public Integer getQtdJogos() {
+        return qtdJogos;
+    }
+
+    public void setQtdJogos(Integer qtdJogos) {
+        this.qtdJogos = qtdJogos;
+    }
+
+    public Long getSomaPontuacao() {
+        return somaPontuacao;
+    }
+
+    public void setSomaPontuacao(Long somaPontuacao) {
+        this.somaPontuacao = somaPontuacao;
+    }
+
+    public Date getDataUltimoJogo() {
+        return dataUltimoJogo;
+    }
+
+    public void setDataUltimoJogo(Date dataUltimoJogo) {
+        this.dataUltimoJogo = dataUltimoJogo;
+    }
+
     public Jogador getJogador() {
         return jogador;
     }
@@ -237,4 +363,30 @@ public class Temporada implements Serializable {
         }
         return false;
     }
+
+    /**
+     * Método para registrar um novo jogo nos dados agregados da temporada
+     * <p>
+     * Deve ser chamado toda vez que um novo jogo for adicionado.<br>
+     * Se for o primeiro jogo da temporada (qtdJogos igual a 0), será chamado o método primeiroJogo. 
+     * Senão, será chamado o método atualizarPontuacao.<br>
+     * Em seguida, a quantidade de jogos, a soma das pontuações e a data do último jogo serão atualizadas.<br>
+     * Dessa forma, a atualização é feita em tempo constante, sem consultar os jogos já realizados na temporada.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param jogo Jogo: novo jogo realizado na temporada
+     */
+    public void registrarJogo(Jogo jogo){
+        if (qtdJogos == 0) {
+            primeiroJogo(jogo);
+        } else{
+            atualizarPontuacao(jogo);
+        }
+        qtdJogos++;
+        somaPontuacao += jogo.getPlacar();
+        if (dataUltimoJogo == null || (jogo.getData() != null && jogo.getData().after(dataUltimoJogo))) {
+            dataUltimoJogo = jogo.getData();
+        }
+    }
 }
\ No newline at end of file
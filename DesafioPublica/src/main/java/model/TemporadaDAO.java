@@ -1,14 +1,13 @@
 package model;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 import javax.persistence.EntityManager;
+import javax.persistence.Query;
 import javax.persistence.TypedQuery;
-import javax.persistence.criteria.CriteriaQuery;
-import javax.persistence.criteria.Path;
-import javax.persistence.criteria.Predicate;
-import javax.persistence.criteria.Root;
-import org.hibernate.query.criteria.internal.OrderImpl;
+import org.hibernate.Hibernate;
 import util.JPAConnectionFactory;
 
 /**
@@ -33,7 +32,10 @@ public class TemporadaDAO implements Serializable{
      * a temporada poderá ser salva. Senão, será impedido de realizar a inserção.<br>
      * EntityManager em = JPAConnectionFactory.getEntityManager(): objeto de conexão com o banco.<br>
      * A inserção (em.persist()) deverá ser realizada após o início de uma transação (em.getTransaction().begin()).<br>
-     * Esse método só será efetuado no banco após o comando de commit (em.getTransaction().commit()).<br>
+     * Esse método só será efetuado no banco após o comando de commit (em.getTransaction().commit()), 
+     * e então as consultas em cache do jogador são invalidadas.<br>
+     * Após o commit, uma cópia da temporada alterada substitui a temporada no cache da aplicação (CacheEntidades.TEMPORADAS), 
+     * com o jogador já carregado pela busca (antiga), caso os dados agregados não tenham sido invalidados durante a alteração.<br>
      * A conexão criada deverá ser fechada (em.close()).
      * </p>
      * @author Thiago Alexandre Buerger
@@ -51,6 +53,7 @@ public class TemporadaDAO implements Serializable{
                     em.getTransaction().begin();
                     em.persist(temporada);
                     em.getTransaction().commit();
+                    invalidarConsultas(temporada);
                     mensagem = "Nova Temporada cadastrada com sucesso!";
                 } catch(Exception e){
                     mensagem = "Erro ao adicionar a nova temporada!";
@@ -74,12 +77,15 @@ public class TemporadaDAO implements Serializable{
      * Deverá ser realizada a validação dos dados da Temporada e, 
      * caso não for encontrado erros (validacao.getErros().isEmpty()), 
      * a temporada poderá ser alterada. Senão, será impedido de realizar a alteração.<br>
-     * Deverá ser realizada a consulta se a temporada já está inserida no banco, pois o processo de merge 
-     * pode tanto alterar quanto inserir.
+     * Deverá ser realizada a consulta se a temporada já está inserida no banco.
      * Caso nenhuma temporada seja encontrada, o processo será finalizado.<br>
      * EntityManager em = JPAConnectionFactory.getEntityManager(): objeto de conexão com o banco.<br>
-     * A alteração (em.merge()) deverá ser realizada após o início de uma transação (em.getTransaction().begin()).<br>
-     * Esse método só será efetuado no banco após o comando de commit (em.getTransaction().commit()).<br>
+     * A alteração deverá ser realizada após o início de uma transação (em.getTransaction().begin()).<br>
+     * Temporada gerenciada = em.find(Temporada.class, temporada.getId()): obtém a temporada gerenciada pela transação, 
+     * onde é copiado apenas o nome.
+     * A pontuação e os dados agregados não são copiados, pois são atualizados diretamente no banco a cada novo jogo.<br>
+     * Esse método só será efetuado no banco após o comando de commit (em.getTransaction().commit()), 
+     * e então as consultas em cache do jogador são invalidadas.<br>
      * A conexão criada deverá ser fechada (em.close()).
      * </p>
      * @author Thiago Alexandre Buerger
@@ -96,9 +102,15 @@ public class TemporadaDAO implements Serializable{
                 try{
                     EntityManager em = JPAConnectionFactory.getEntityManager();
                     try{
+                        long geracao = CacheEntidades.TEMPORADAS.geracao(temporada.getId());
                         em.getTransaction().begin();
-                        em.merge(temporada);
+                        Temporada gerenciada = em.find(Temporada.class, temporada.getId());
+                        gerenciada.setNome(temporada.getNome());
                         em.getTransaction().commit();
+                        Temporada alterada = gerenciada.copia();
+                        alterada.setJogador(antiga.getJogador());
+                        CacheEntidades.TEMPORADAS.colocar(alterada.getId(), alterada, geracao);
+                        invalidarConsultas(gerenciada);
                         mensagem = "Temporada alterada com sucesso!";
                     } catch(Exception e){
                         mensagem = "Erro ao alterar a temporada!";
@@ -122,12 +134,15 @@ public class TemporadaDAO implements Serializable{
     /**
      * Método para realizar a pesquisa de dados de uma temporada específica no banco com base no id
      * <p>
+     * CacheEntidades.TEMPORADAS.obter(id): caso a temporada esteja no cache da aplicação, retorna uma cópia sem acessar o banco.<br>
      * EntityManager em = JPAConnectionFactory.getEntityManager(): objeto de conexão com o banco.<br>
-     * TypedQuery Temporada query = em.createQuery(jpql, Temporada.class): cria uma consulta JPQL<br>
-     * query.setParameter("pId", id): adiciona parâmetro (id) na consulta, evitando assim SQL Injection.<br>
-     * temporada = typed.getSingleResult(): pega um possível resultado da consulta.
-     * Caso nenhum resultado for encontrado, será lançada uma exceção, finalizando o processo e retornando um objeto nulo.
-     * Caso for encontrado algum resultado, finaliza o processo e retorna a temporada encontrada.
+     * temporada = em.find(Temporada.class, id): busca a temporada pela chave primária, 
+     * obtendo-a do cache de segundo nível (região Temporada.REGIAO_CACHE) quando disponível, sem consultar o banco.<br>
+     * Hibernate.initialize(temporada.getJogador()): carrega o jogador da temporada (FetchType.LAZY) antes de fechar a conexão, 
+     * também obtido do cache de segundo nível (região Jogador.REGIAO_CACHE) quando disponível.<br>
+     * Caso nenhuma temporada for encontrada, finaliza o processo e retorna um objeto nulo.
+     * Caso for encontrada, uma cópia é inserida no cache da aplicação, finaliza o processo e retorna a temporada encontrada.
+     * A cópia só é inserida se a temporada não foi invalidada durante a busca (geracao).
      * A conexão criada deverá ser fechada (em.close()).
      * </p>
      * @author Thiago Alexandre Buerger
@@ -137,14 +152,62 @@ public class TemporadaDAO implements Serializable{
      * ou um objeto nulo caso não for encontrado nenhuma temporada com o Id informado.
      */
     public Temporada buscarPorId(Integer id) {
+        Temporada temporada = CacheEntidades.TEMPORADAS.obter(id);
+        if (temporada != null) {
+            return temporada.copia();
+        }
+        long geracao = CacheEntidades.TEMPORADAS.geracao(id);
+        try{
+            EntityManager em = JPAConnectionFactory.getEntityManager();
+            try {
+                temporada = em.find(Temporada.class, id);
+                if (temporada != null) {
+                    Hibernate.initialize(temporada.getJogador());
+                    CacheEntidades.TEMPORADAS.colocar(id, temporada.copia(), geracao);
+                }
+            } catch (Exception e) {
+                System.out.println("Erro! " + e);
+            } finally{
+                em.close();
+            }
+        } catch(Exception e){
+            System.out.println("Erro! " + e);
+        }
+        return temporada;
+    }
+    
+    /**
+     * Método para realizar a pesquisa de uma temporada do jogador no banco com base no nome
+     * <p>
+     * Utilizado pela importação de jogos, onde as temporadas são identificadas pelo nome.<br>
+     * EntityManager em = JPAConnectionFactory.getEntityManager(): objeto de conexão com o banco.<br>
+     * TypedQuery Temporada query = comJogador(em, RegistroConsultas.consulta(em, TEMPORADA_POR_NOME, Temporada.class)): consulta registrada 
+     * que também obtém o jogador da temporada (plano de busca GRAFO_JOGADOR).<br>
+     * query.setParameter("pJogador", jogador) e query.setParameter("pNome", nome): adicionam os parâmetros na consulta, 
+     * evitando assim SQL Injection.<br>
+     * .setMaxResults(1): caso existam temporadas com o mesmo nome, será retornada a primeira cadastrada.<br>
+     * Caso nenhum resultado for encontrado, finaliza o processo e retorna um objeto nulo.<br>
+     * A conexão criada deverá ser fechada (em.close()).
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param jogador Jogador: jogador proprietário da temporada.
+     * @param nome String: nome da temporada que será pesquisada no banco.
+     * @return Temporada: retorna o objeto do tipo Temporada com os dados caso for encontrado
+     * ou um objeto nulo caso não for encontrado nenhuma temporada com o nome informado.
+     */
+    public Temporada buscarPorNome(Jogador jogador, String nome) {
         Temporada temporada = null;
         try{
             EntityManager em = JPAConnectionFactory.getEntityManager();
-            String jpql = "select t from Temporada t where t.id = :pId";
-            TypedQuery<Temporada> query = em.createQuery(jpql, Temporada.class);
-            query.setParameter("pId", id);
+            TypedQuery<Temporada> query = comJogador(em, RegistroConsultas.consulta(em, RegistroConsultas.TEMPORADA_POR_NOME, Temporada.class));
+            query.setParameter("pJogador", jogador);
+            query.setParameter("pNome", nome);
             try {
-                temporada =  query.getSingleResult();
+                List<Temporada> lista = query.setMaxResults(1).getResultList();
+                if (!lista.isEmpty()) {
+                    temporada = lista.get(0);
+                }
             } catch (Exception e) {
                 System.out.println("Erro! " + e);
             } finally{
@@ -160,7 +223,8 @@ public class TemporadaDAO implements Serializable{
      * Método para realizar a pesquisa de temporadas referentes a um jogador específico no banco
      * <p>
      * EntityManager em = JPAConnectionFactory.getEntityManager(): objeto de conexão com o banco.<br>
-     * TypedQuery Temporada query = em.createQuery(jpql, Temporada.class): cria uma consulta JPQL<br>
+     * TypedQuery Temporada query = comJogador(em, RegistroConsultas.consulta(em, TEMPORADAS_JOGADOR, Temporada.class)): consulta registrada 
+     * que também obtém o jogador da temporada (plano de busca GRAFO_JOGADOR).<br>
      * query.setParameter("pJogador", jogador): adiciona parâmetro (jogador) na consulta, evitando assim SQL Injection.<br>
      * lista =  query.getResultList(): retorna uma lista de temporadas do jogador.
      * Caso nenhum resultado for encontrado, será lançada uma exceção, finalizando o processo e retornando um objeto nulo.
@@ -177,8 +241,7 @@ public class TemporadaDAO implements Serializable{
         List<Temporada> lista = null;
         try{
             EntityManager em = JPAConnectionFactory.getEntityManager();
-            String jpql = "select t from Temporada t where t.jogador = :pJogador";
-            TypedQuery<Temporada> query = em.createQuery(jpql, Temporada.class);
+            TypedQuery<Temporada> query = comJogador(em, RegistroConsultas.consulta(em, RegistroConsultas.TEMPORADAS_JOGADOR, Temporada.class));
             query.setParameter("pJogador", jogador);
             try {
                 lista =  query.getResultList();
@@ -193,13 +256,110 @@ public class TemporadaDAO implements Serializable{
         return lista;
     }
     
+    /**
+     * Método para obter as sugestões do campo de seleção de temporada, com o nome iniciado pelo texto digitado
+     * <p>
+     * As sugestões são obtidas da árvore de prefixos do índice de nomes do jogador (IndiceTemporadas.sugerir), sem consultar o banco,
+     * não diferenciando maiúsculas e minúsculas.<br>
+     * Caso o índice não possa ser utilizado, é realizada a consulta registrada (Temporada.sugestoes, lower(nome) like 'prefixo%'), 
+     * limitada à quantidade de sugestões (.setMaxResults(limite)). A consulta também não diferencia maiúsculas e minúsculas, 
+     * e os caracteres % e _ digitados são pesquisados no nome, e não utilizados como curingas (prefixoLike), 
+     * mantendo as mesmas sugestões com o índice habilitado ou não.
+     * A conexão criada deverá ser fechada (em.close()).
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param jogador Jogador: jogador proprietário das temporadas.
+     * @param prefixo String: texto digitado pelo jogador.
+     * @param limite int: quantidade máxima de sugestões.
+     * @return Lista OpcaoTemporada: temporadas encontradas, em ordem alfabética, 
+     * ou uma lista vazia caso nenhuma temporada seja encontrada ou ocorra algum erro.
+     */
+    public List<OpcaoTemporada> sugestoes(Jogador jogador, String prefixo, int limite) {
+        List<OpcaoTemporada> lista = new ArrayList<>();
+        if (jogador == null) {
+            return lista;
+        }
+        String texto = prefixo == null ? "" : prefixo;
+        List<OpcaoTemporada> sugeridas = IndiceTemporadas.sugerir(jogador.getId(), texto, limite);
+        if (sugeridas != null) {
+            return sugeridas;
+        }
+        try{
+            EntityManager em = JPAConnectionFactory.getEntityManager();
+            try {
+                TypedQuery<OpcaoTemporada> query = RegistroConsultas.consulta(em, RegistroConsultas.SUGESTOES_TEMPORADAS, OpcaoTemporada.class);
+                query.setParameter("jogador", jogador.getId());
+                query.setParameter("prefixo", prefixoLike(texto));
+                lista = query.setMaxResults(limite).getResultList();
+            } catch (Exception e){
+                System.out.println("Erro! " + e);
+            } finally{
+                em.close();
+            }
+        } catch (Exception e){
+            System.out.println("Erro! " + e);
+        }
+        return lista;
+    }
+    
+    /**
+     * Método para obter o parâmetro da condição like das sugestões a partir do texto digitado
+     * <p>
+     * O texto é convertido para letras minúsculas (Locale.ROOT, a mesma conversão da árvore de prefixos), 
+     * os caracteres RegistroConsultas.ESCAPE_LIKE, % e _ são precedidos pelo caractere de escape, e é acrescentado o curinga final (%).
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param texto String: texto digitado pelo jogador
+     * @return String: prefixo utilizado na condição like
+     */
+    static String prefixoLike(String texto) {
+        String minusculo = texto.toLowerCase(Locale.ROOT);
+        StringBuilder prefixo = new StringBuilder(minusculo.length() + 1);
+        for (int i = 0; i < minusculo.length(); i++) {
+            char c = minusculo.charAt(i);
+            if (c == RegistroConsultas.ESCAPE_LIKE || c == '%' || c == '_') {
+                prefixo.append(RegistroConsultas.ESCAPE_LIKE);
+            }
+            prefixo.append(c);
+        }
+        return prefixo.append('%').toString();
+    }
+    
     /**
      * Método para realizar a pesquisa das temporadas do jogador de forma filtrada e paginada
      * <p>
      * Necessário para a paginação.<br>
+     * CacheConsultas.consultar(): as temporadas de cada filtro (página, ordenação e nome) são mantidas em cache para o jogador, 
+     * sendo invalidadas após a inserção ou alteração de temporadas ou a atualização dos dados agregados do jogador. 
+     * Inserções de outros jogadores não invalidam as temporadas do jogador. 
+     * Caso as temporadas não estejam no cache, será realizada a consulta (pesquisar).<br>
+     * Retorna cópias das temporadas em cache (copias), pois as temporadas da tabela são alteradas pela tela.<br>
+     * Caso alguma exceção seja lançada, será finalizado o processo e retorna um objeto nulo.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param filtro TemporadaFilter: objeto contendo os filtros utilizados na consulta
+     * @return Lista Temporada: lista de temporadas encontradas na consulta
+     */
+    public List<Temporada> filtrados(TemporadaFilter filtro) {
+        List<Temporada> lista = null;
+        try {
+            lista = CacheConsultas.consultar(jogadorFiltro(filtro), "temporada:pesquisa:" + chave(filtro), () -> pesquisar(filtro));
+        } catch (Exception e){
+            System.out.println("Erro! " + e);
+        }
+        return lista == null ? null : copias(lista);
+    }
+    
+    /**
+     * Método para realizar a consulta das temporadas do jogador de forma filtrada e paginada
+     * <p>
+     * Caso houver um filtro de nome, as temporadas são pesquisadas no índice de nomes do jogador (encontradasPorNome) 
+     * e a consulta obtém apenas as temporadas encontradas (pesquisaPorIds), sem percorrer todas as temporadas do jogador no banco.<br>
      * EntityManager em = JPAConnectionFactory.getEntityManager(): objeto de conexão com o banco.<br>
-     * CriteriaQuery Temporada consulta = pesquisa(filtro): objeto de consulta com base nos filtros.<br>
-     * TypedQuery Temporada typed = em.createQuery(consulta): realiza uma consulta e retorna uma lista do tipo Temporada<br>
+     * TypedQuery Temporada typed = pesquisa(em, filtro): consulta registrada para o formato do filtro, com os parâmetros informados.<br>
      * .setFirstResult(filtro.getPrimeiroRegistro()): define o primeiro resultado da consulta para paginação.<br>
      * .setMaxResults(filtro.getQuantidadeRegistros()): define o total de registros por página.<br>
      * lista = typed.getResultList(): pega um possível resultado da consulta.
@@ -212,13 +372,16 @@ public class TemporadaDAO implements Serializable{
      * @param filtro TemporadaFilter: objeto contendo os filtros utilizados na consulta
      * @return Lista Temporada: lista de temporadas encontradas na consulta
      */
-    public List<Temporada> filtrados(TemporadaFilter filtro) {
+    private List<Temporada> pesquisar(TemporadaFilter filtro) {
         List<Temporada> lista = null;
+        List<Integer> encontradas = encontradasPorNome(filtro);
+        if (encontradas != null && encontradas.isEmpty()) {
+            return new ArrayList<>();
+        }
         try{
             EntityManager em = JPAConnectionFactory.getEntityManager();
             try {
-                CriteriaQuery<Temporada> consulta = pesquisa(filtro);
-                TypedQuery<Temporada> typed = em.createQuery(consulta).setFirstResult(filtro.getPrimeiroRegistro()).setMaxResults(filtro.getQuantidadeRegistros());
+                TypedQuery<Temporada> typed = (encontradas == null ? pesquisa(em, filtro) : pesquisaPorIds(em, filtro, encontradas)).setFirstResult(filtro.getPrimeiroRegistro()).setMaxResults(filtro.getQuantidadeRegistros());
                 lista = typed.getResultList();
             } catch (Exception e){
                 System.out.println("Erro! " + e);
@@ -231,52 +394,80 @@ public class TemporadaDAO implements Serializable{
         return lista;
     }
     
+    /**
+     * Método para realizar a pesquisa de uma página de temporadas do jogador e da quantidade total do filtro em um único comando
+     * <p>
+     * Necessário para a paginação com consulta única (paginacao.consulta.unica no configuracao.properties).<br>
+     * CacheConsultas.consultar(): a página de cada filtro é mantida em cache para o jogador, 
+     * sendo invalidada após a inserção ou alteração de temporadas ou a atualização dos dados agregados do jogador. 
+     * Caso a página não esteja no cache, será realizada a consulta (consultarPagina).<br>
+     * Retorna cópias das temporadas em cache (copias), pois as temporadas da tabela são alteradas pela tela.<br>
+     * Caso alguma exceção seja lançada, será finalizado o processo e retorna um objeto nulo.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param filtro TemporadaFilter: objeto contendo os filtros utilizados na consulta
+     * @return Pagina Temporada: temporadas da página e quantidade total do filtro
+     */
+    public Pagina<Temporada> pagina(TemporadaFilter filtro) {
+        Pagina<Temporada> pagina = null;
+        try {
+            pagina = CacheConsultas.consultar(jogadorFiltro(filtro), "temporada:pagina:" + chave(filtro), () -> consultarPagina(filtro));
+        } catch (Exception e){
+            System.out.println("Erro! " + e);
+        }
+        return pagina == null ? null : new Pagina<>(copias(pagina.getRegistros()), pagina.getTotal());
+    }
     
     /**
-     * Método para realizar a pesquisa de dados de temporadas no banco com base no nome e no jogador
+     * Método para realizar a consulta de uma página de temporadas do jogador e da quantidade total do filtro em um único comando
      * <p>
-     * Necessário para a paginação.<br>
      * EntityManager em = JPAConnectionFactory.getEntityManager(): objeto de conexão com o banco.<br>
-     * CriteriaQuery Temporada query = em.getCriteriaBuilder().createQuery(Temporada.class): cria uma consulta para a entidade Temporada.<br>
-     * Root Temporada root = query.from(Temporada.class): define a raiz da consulta sendo a entidade Temporada.<br>
-     * Path String  nomePath = root. String get("nome"): indica sobre qual atributo da entidade será realizada uma condicional (nome).<br>
-     * Path String  jogadorPath = root. String get("jogador"): indica sobre qual atributo da entidade será realizada uma condicional (jogador).<br>
-     * Predicate verificaNome = em.getCriteriaBuilder().equal(nomePath, temporada.getNome()): cria uma condicional para a consulta 
-     * onde será verificada as temporadas que apresentarem um nome igual ou semelhante ao informado.<br>
-     * Predicate verificaJogador = em.getCriteriaBuilder().equal(jogadorPath, temporada.getJogador()): cria uma condicional para a consulta 
-     * onde será verificado as temporadas do jogador.<br>
-     * query.where(verificaLogin, verificaJogador): adiciona as condicionais na consulta, 
-     * onde será verificado as temporadas que apresentarem ambas as condicionais.<br>
-     * OrderImpl ordem = new OrderImpl(nomePath, filtro.isAscendente()): indica sobre qual atributo será ordenado e o tipo de ordenação.<br>
-     * query.orderBy(ordem): aplica a ordenação na consulta.<br>
+     * Query query = RegistroConsultas.consultaSql(em, nome): consulta SQL registrada para o formato do filtro, 
+     * que obtém as colunas da tabela de temporadas e a quantidade total do filtro (COUNT(*) OVER(), MariaDB 10.2+), 
+     * com as mesmas condições e ordenações da pesquisa (filtrados).<br>
+     * Todas as temporadas pertencem ao jogador do filtro, que é atribuído a cada temporada sem consultar a tabela de jogadores.<br>
+     * Caso a página não possua temporadas (página após a última temporada), a quantidade é obtida pela contagem (quantidadeFiltrados).<br>
+     * Caso as temporadas do filtro de nome sejam encontradas pelo índice de nomes (encontradasPorNome), 
+     * a página é obtida pela consulta (pesquisar) e a quantidade total é a quantidade de temporadas encontradas.<br>
      * Caso alguma exceção seja lançada, será finalizado o processo e retorna um objeto nulo.
-     * Senão, finaliza o processo e retorna a consulta.<br>
      * A conexão criada deverá ser fechada (em.close()).
      * </p>
      * @author Thiago Alexandre Buerger
      * @version 1.0
-     * @param filtro TemporadaFilter: filtro utilizado pela consulta
-     * @return CriteriaQuery Temporada: retorna uma consulta totalmente configurada com base nos filtros
+     * @param filtro TemporadaFilter: objeto contendo os filtros utilizados na consulta
+     * @return Pagina Temporada: temporadas da página e quantidade total do filtro
      */
-    private CriteriaQuery<Temporada> pesquisa(TemporadaFilter filtro){
-        CriteriaQuery<Temporada> query = null;
-        try {
+    private Pagina<Temporada> consultarPagina(TemporadaFilter filtro) {
+        Pagina<Temporada> pagina = null;
+        List<Integer> encontradas = encontradasPorNome(filtro);
+        if (encontradas != null) {
+            List<Temporada> lista = pesquisar(filtro);
+            return lista == null ? null : new Pagina<>(lista, encontradas.size());
+        }
+        try{
             EntityManager em = JPAConnectionFactory.getEntityManager();
             try {
-                query = em.getCriteriaBuilder().createQuery(Temporada.class);
-                Root<Temporada> root = query.from(Temporada.class);
-                Path<String> nomePath = root.<String>get("nome");
-                Path<Jogador> jogadorPath = root.<Jogador>get("jogador");
-                Predicate verificaJogador = em.getCriteriaBuilder().equal(jogadorPath, filtro.getJogador());
+                String nome = RegistroConsultas.nomePaginaTemporadas(filtro.getNome() != null, filtro.getPropriedadeOrdenacao(), filtro.isAscendente());
+                Query query = RegistroConsultas.consultaSql(em, nome);
+                query.setParameter("jogador", filtro.getJogador().getId());
                 if (filtro.getNome() != null) {
-                    Predicate verificaNome = em.getCriteriaBuilder().like(nomePath, "%" + filtro.getNome() + "%");
-                    query.where(verificaNome,verificaJogador);
-                } else{
-                    query.where(verificaJogador);
+                    query.setParameter("nome", "%" + filtro.getNome() + "%");
                 }
-                OrderImpl ordem = new OrderImpl(nomePath, filtro.isAscendente());
-                query.orderBy(ordem);
-            } catch(Exception e){
+                query.setFirstResult(filtro.getPrimeiroRegistro()).setMaxResults(filtro.getQuantidadeRegistros());
+                List<Temporada> lista = new ArrayList<>();
+                int total = 0;
+                for (Object resultado : query.getResultList()) {
+                    Object[] linha = (Object[]) resultado;
+                    lista.add(new Temporada(JogoDAO.numero(linha[0]), (String) linha[1], JogoDAO.numero(linha[2]), 
+                            JogoDAO.numero(linha[3]), filtro.getJogador()));
+                    total = JogoDAO.numero(linha[4]);
+                }
+                if (lista.isEmpty() && filtro.getPrimeiroRegistro() > 0) {
+                    total = quantidadeFiltrados(filtro);
+                }
+                pagina = new Pagina<>(lista, total);
+            } catch (Exception e){
                 System.out.println("Erro! " + e);
             } finally{
                 em.close();
@@ -284,19 +475,184 @@ public class TemporadaDAO implements Serializable{
         } catch (Exception e){
             System.out.println("Erro! " + e);
         }
+        return pagina;
+    }
+    
+    /**
+     * Método para obter a consulta registrada de temporadas com base no nome e no jogador
+     * <p>
+     * Necessário para a paginação.<br>
+     * Será utilizada a consulta das temporadas do jogador (parâmetro jogador) e, caso houver um filtro de nome, 
+     * das temporadas que apresentarem um nome igual ou semelhante ao informado (parâmetro nome: "%" + filtro.getNome() + "%").<br>
+     * As consultas são ordenadas pela propriedade de ordenação do filtro (filtro.getPropriedadeOrdenacao()), 
+     * caso seja uma das ordenações permitidas (nome, minimo ou maximo), ou pelo nome. 
+     * Temporadas com o mesmo valor são ordenadas pela identificação. 
+     * A direção da ordenação é definida por filtro.isAscendente().<br>
+     * As consultas são registradas uma única vez (RegistroConsultas), e apenas os parâmetros são informados a cada chamada.<br>
+     * O jogador de cada temporada é obtido na mesma consulta (comJogador), necessário para a alteração da temporada.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param em EntityManager: objeto de conexão com o banco
+     * @param filtro TemporadaFilter: filtro utilizado pela consulta
+     * @return TypedQuery Temporada: consulta com os parâmetros do filtro
+     */
+    private TypedQuery<Temporada> pesquisa(EntityManager em, TemporadaFilter filtro){
+        String nome = RegistroConsultas.nomeTemporadas(filtro.getNome() != null, filtro.getPropriedadeOrdenacao(), filtro.isAscendente());
+        TypedQuery<Temporada> query = comJogador(em, RegistroConsultas.consulta(em, nome, Temporada.class));
+        parametros(query, filtro);
+        return query;
+    }
+    
+    /**
+     * Método para obter a consulta registrada das temporadas encontradas pelo índice de nomes
+     * <p>
+     * Utiliza as mesmas ordenações da pesquisa (pesquisa), obtendo somente as temporadas do jogador 
+     * com a identificação encontrada (parâmetro ids), pela chave primária.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param em EntityManager: objeto de conexão com o banco
+     * @param filtro TemporadaFilter: filtro utilizado pela consulta
+     * @param encontradas Lista Integer: identificação das temporadas encontradas pelo índice
+     * @return TypedQuery Temporada: consulta com os parâmetros do filtro
+     */
+    private TypedQuery<Temporada> pesquisaPorIds(EntityManager em, TemporadaFilter filtro, List<Integer> encontradas){
+        String nome = RegistroConsultas.nomeTemporadasPorIds(filtro.getPropriedadeOrdenacao(), filtro.isAscendente());
+        TypedQuery<Temporada> query = comJogador(em, RegistroConsultas.consulta(em, nome, Temporada.class));
+        query.setParameter("jogador", filtro.getJogador());
+        query.setParameter("ids", encontradas);
+        return query;
+    }
+    
+    /**
+     * Método para pesquisar no índice de nomes do jogador (IndiceTemporadas) as temporadas do filtro de nome
+     * <p>
+     * Retorna nulo caso não houver filtro de nome ou caso o índice não possa ser utilizado 
+     * (desabilitado, falha na criação ou temporadas encontradas acima do limite). 
+     * Nesses casos, a pesquisa é realizada pelo banco (like).
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param filtro TemporadaFilter: filtro utilizado pela consulta
+     * @return Lista Integer: identificação das temporadas encontradas ou nulo
+     */
+    private List<Integer> encontradasPorNome(TemporadaFilter filtro){
+        if (filtro.getNome() == null || filtro.getJogador() == null) {
+            return null;
+        }
+        return IndiceTemporadas.pesquisar(filtro.getJogador().getId(), filtro.getNome());
+    }
+    
+    /**
+     * Método para informar os parâmetros de jogador e de nome do filtro em uma consulta registrada
+     * <p>
+     * Utilizado pela pesquisa e pela contagem, garantindo as mesmas condições nas duas consultas.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param query TypedQuery: consulta registrada de temporadas
+     * @param filtro TemporadaFilter: filtro utilizado pela consulta
+     */
+    private void parametros(TypedQuery<?> query, TemporadaFilter filtro){
+        query.setParameter("jogador", filtro.getJogador());
+        if (filtro.getNome() != null) {
+            query.setParameter("nome", "%" + filtro.getNome() + "%");
+        }
+    }
+    
+    /**
+     * Método para aplicar o plano de busca da temporada com o seu jogador em uma consulta
+     * <p>
+     * Como o jogador da temporada é carregado somente quando solicitado (FetchType.LAZY), 
+     * as consultas que retornam temporadas utilizadas fora da conexão (telas, filtros e importação) 
+     * deverão obter o jogador na mesma consulta (join), ao invés de uma consulta adicional para cada jogador.<br>
+     * query.setHint("javax.persistence.fetchgraph", ...): utiliza o plano de busca Temporada.GRAFO_JOGADOR.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param em EntityManager: objeto de conexão com o banco
+     * @param query TypedQuery Temporada: consulta de temporadas
+     * @return TypedQuery Temporada: a mesma consulta, com o plano de busca aplicado
+     */
+    private TypedQuery<Temporada> comJogador(EntityManager em, TypedQuery<Temporada> query){
+        query.setHint("javax.persistence.fetchgraph", em.getEntityGraph(Temporada.GRAFO_JOGADOR));
         return query;
     }
     
+    /**
+     * Método para obter a identificação de um filtro de temporadas no cache de consultas (CacheConsultas)
+     * <p>
+     * Composta pelo primeiro registro, quantidade de registros, ordenação, direção e nome. 
+     * O nome é o último componente, pois pode conter o separador.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param filtro TemporadaFilter: filtro da consulta
+     * @return String: identificação do filtro
+     */
+    private String chave(TemporadaFilter filtro){
+        return filtro.getPrimeiroRegistro() + ":" + filtro.getQuantidadeRegistros() + ":" + filtro.getPropriedadeOrdenacao() 
+                + ":" + filtro.isAscendente() + ":" + (filtro.getNome() == null ? "" : "nome:" + filtro.getNome());
+    }
+    
+    /**
+     * Método para obter a identificação do jogador dono das temporadas de um filtro
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param filtro TemporadaFilter: filtro da consulta
+     * @return Integer: identificação do jogador ou nulo caso o filtro não possua jogador
+     */
+    private Integer jogadorFiltro(TemporadaFilter filtro){
+        return filtro.getJogador() == null ? null : filtro.getJogador().getId();
+    }
+    
+    /**
+     * Método para copiar as temporadas obtidas do cache de consultas
+     * <p>
+     * As temporadas em cache são compartilhadas entre as requisições do jogador e não devem ser alteradas pela tela 
+     * (alteração do nome antes de salvar).
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param temporadas Lista Temporada: temporadas em cache
+     * @return Lista Temporada: cópias das temporadas
+     */
+    private List<Temporada> copias(List<Temporada> temporadas){
+        List<Temporada> lista = new ArrayList<>(temporadas.size());
+        for (Temporada temporada : temporadas) {
+            lista.add(temporada.copia());
+        }
+        return lista;
+    }
+    
+    /**
+     * Método para invalidar os resultados de consultas em cache do jogador da temporada (CacheConsultas)
+     * <p>
+     * Deve ser chamado após o commit da inserção ou alteração da temporada.
+     * Após a invalidação, o nome da temporada é registrado no índice de nomes do jogador (IndiceTemporadas.registrar).
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param temporada Temporada: temporada inserida ou alterada
+     */
+    private void invalidarConsultas(Temporada temporada){
+        if (temporada.getJogador() != null) {
+            CacheConsultas.invalidar(temporada.getJogador().getId());
+            IndiceTemporadas.registrar(temporada.getJogador().getId(), temporada.getId(), temporada.getNome());
+        }
+    }
+    
     /**
      * Método para realizar a contagem de possíveis resultados de uma consulta filtrada de temporadas
      * <p>
-     * Necessário para a paginação.<br>
-     * EntityManager em = JPAConnectionFactory.getEntityManager(): objeto de conexão com o banco.<br>
-     * TypedQuery Temporada typed = em.createQuery(pesquisa(filtro)): realiza uma consulta e retorna uma lista do tipo Temporada<br>
-     * qtd = typed.getResultList().size(): retorna o tamanho da lista.
-     * Caso nenhum resultado for encontrado, será lançada uma exceção, finalizando o processo e retornando valor 0.
-     * Caso for encontrado algum resultado, finaliza o processo e retorna o tamanho da lista de temporadas encontrada.
-     * A conexão criada deverá ser fechada (em.close()).
+     * Necessário para a paginação, chamado a cada mudança de página.<br>
+     * Caso as temporadas do filtro de nome sejam encontradas pelo índice de nomes (encontradasPorNome), 
+     * retorna a quantidade de temporadas encontradas, sem consultar o banco.<br>
+     * CacheConsultas.consultar(): a contagem de cada filtro é mantida em cache para o jogador, 
+     * sendo invalidada após a inserção ou alteração de temporadas do jogador. 
+     * Caso a contagem não esteja no cache, será realizada a consulta (contar).<br>
+     * Caso alguma exceção seja lançada, será finalizado o processo e retornando valor 0.
      * </p>
      * @author Thiago Alexandre Buerger
      * @version 1.0
@@ -305,19 +661,40 @@ public class TemporadaDAO implements Serializable{
      */
     public int quantidadeFiltrados(TemporadaFilter filtro) {
         int qtd = 0;
+        List<Integer> encontradas = encontradasPorNome(filtro);
+        if (encontradas != null) {
+            return encontradas.size();
+        }
         try {
-            EntityManager em = JPAConnectionFactory.getEntityManager();
-            try {
-                TypedQuery<Temporada> typed = em.createQuery(pesquisa(filtro));
-                qtd = typed.getResultList().size();
-            } catch(Exception e){
-                System.out.println("Erro! " + e);
-            } finally{
-                em.close();
-            }
+            String chave = "temporada:contagem:" + (filtro.getNome() == null ? "" : "nome:" + filtro.getNome());
+            qtd = CacheConsultas.consultar(jogadorFiltro(filtro), chave, () -> contar(filtro));
         } catch (Exception e){
             System.out.println("Erro! " + e);
         }
         return qtd;
     }
-}
\ No newline at end of file
+    
+    /**
+     * Método para realizar a consulta de contagem de temporadas de um filtro
+     * <p>
+     * EntityManager em = JPAConnectionFactory.getEntityManager(): objeto de conexão com o banco.<br>
+     * RegistroConsultas.consulta(): consulta registrada de contagem (select count), sem carregar as temporadas e jogadores.<br>
+     * parametros(query, filtro): utiliza os mesmos parâmetros da pesquisa.<br>
+     * A conexão criada deverá ser fechada (em.close()).
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param filtro TemporadaFilter: filtro utilizado para realizar a consulta
+     * @return Integer: quantidade de temporadas encontradas
+     */
+    private Integer contar(TemporadaFilter filtro){
+        EntityManager em = JPAConnectionFactory.getEntityManager();
+        try {
+            TypedQuery<Long> query = RegistroConsultas.consulta(em, RegistroConsultas.nomeContagemTemporadas(filtro.getNome() != null), Long.class);
+            parametros(query, filtro);
+            return query.getSingleResult().intValue();
+        } finally{
+            em.close();
+        }
+    }
+}
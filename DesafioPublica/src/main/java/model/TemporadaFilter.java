@@ -116,4 +116,25 @@ public class TemporadaFilter implements Serializable{
     public void setJogador(Jogador jogador) {
         this.jogador = jogador;
     }
+    
+    /**
+     * Método para criar uma cópia do filtro
+     * <p>
+     * Utilizado pelo pré-carregamento de páginas, realizado em outra thread, 
+     * evitando que a consulta em segundo plano utilize o filtro alterado pela tela.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @return TemporadaFilter: novo filtro com os mesmos valores
+     */
+    public TemporadaFilter copia() {
+        TemporadaFilter copia = new TemporadaFilter();
+        copia.primeiroRegistro = primeiroRegistro;
+        copia.quantidadeRegistros = quantidadeRegistros;
+        copia.propriedadeOrdenacao = propriedadeOrdenacao;
+        copia.ascendente = ascendente;
+        copia.nome = nome;
+        copia.jogador = jogador;
+        return copia;
+    }
 }
\ No newline at end of file
@@ -3,19 +3,44 @@ package model;
 import java.io.Serializable;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
 import org.primefaces.model.LazyDataModel;
 import org.primefaces.model.SortOrder;
+import util.Configuracao;
+import util.Memorizador;
 
 /**
  * Classe responsável por disponibilizar dados de Temporada paginados
  * <p>
- * extends LazyDataModel: objeto utilizado pelo componente dataTable do PrimeFaces.
+ * extends LazyDataModel: objeto utilizado pelo componente dataTable do PrimeFaces.<br>
+ * Com a consulta única habilitada (paginacao.consulta.unica no configuracao.properties), 
+ * as temporadas e a quantidade total são obtidas em um único comando (TemporadaDAO.pagina).<br>
+ * Após carregar uma página, a próxima página é pré-carregada em segundo plano (PreCarregamento) 
+ * e, caso seja a próxima página solicitada, é obtida da memória.
  * </p>
  * @author Thiago Alexandre Buerger
  * @version 1.0
  */
 public class TemporadaPaginator extends LazyDataModel implements Serializable{
     
+    /**
+     * Indica se as temporadas e a quantidade total são obtidas em um único comando
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private static final boolean CONSULTA_UNICA = Configuracao.getBooleano("paginacao.consulta.unica", true);
+    
+    /**
+     * Identificação do paginador, utilizada nas chaves do Memorizador
+     * <p>
+     * Diferencia as páginas de paginadores com filtros diferentes na mesma requisição (nova pesquisa). 
+     * Valor aleatório, mantido na serialização da tela sem repetir a identificação de paginadores criados após reiniciar a aplicação.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private final long numero = ThreadLocalRandom.current().nextLong();
+    
     /**
      * Filtro utilizado para a paginação
      * @author Thiago Alexandre Buerger
@@ -29,6 +54,16 @@ public class TemporadaPaginator extends LazyDataModel implements Serializable{
      * @version 1.0
      */
     private final TemporadaDAO dao;
+    
+    /**
+     * Próxima página pré-carregada, descartada ao alterar o filtro ou ao inserir e alterar temporadas do jogador
+     * <p>
+     * transient: a consulta em andamento não é mantida na serialização da tela.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private transient PreCarregamento<Temporada> proxima;
 
     /**
      * Construtor da classe TemporadaPaginator
@@ -44,7 +79,13 @@ public class TemporadaPaginator extends LazyDataModel implements Serializable{
     /**
      * Método sobrescrito load
      * <p>
-     * Método utilizado pelo componente dataTable do PrimeFaces para realizar paginação real.
+     * Método utilizado pelo componente dataTable do PrimeFaces para realizar paginação real.<br>
+     * Caso a consulta única esteja habilitada, as temporadas e a quantidade total são obtidas em um único comando. 
+     * Caso a consulta única falhe, são utilizadas as consultas separadas (quantidadeFiltrados e filtrados).<br>
+     * Caso a página solicitada seja a página pré-carregada (proxima), as temporadas são obtidas da memória, sem consultas.
+     * Ao final, a próxima página é agendada para o pré-carregamento (agendarProxima).<br>
+     * O dataTable pode solicitar a mesma página mais de uma vez na mesma requisição (processamento e renderização da tabela). 
+     * A página é memorizada durante a requisição (Memorizador), e as solicitações seguintes não realizam consultas.
      * </p>
      * @param first int: primeiro registro da página
      * @param pageSize int: tamanho de registros por página
@@ -59,7 +100,92 @@ public class TemporadaPaginator extends LazyDataModel implements Serializable{
         filtro.setQuantidadeRegistros(pageSize);
         filtro.setAscendente(SortOrder.ASCENDING.equals(sortOrder));
         filtro.setPropriedadeOrdenacao(sortField);
+        return Memorizador.obter("temporadas:pagina:" + numero + ":" + chave(first, pageSize), () -> paginar(first, pageSize));
+    }
+    
+    /**
+     * Método para obter uma página, da página pré-carregada ou do banco, e agendar o pré-carregamento da próxima página
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param first int: primeiro registro da página
+     * @param pageSize int: tamanho de registros por página
+     * @return List Temporada: temporadas da página
+     */
+    private List<Temporada> paginar(int first, int pageSize) {
+        List<Temporada> temporadas = proxima == null ? null : proxima.obter(chave(first, pageSize));
+        proxima = null;
+        if (temporadas == null) {
+            temporadas = carregar();
+        }
+        agendarProxima(first, pageSize);
+        return temporadas;
+    }
+    
+    /**
+     * Método para consultar as temporadas de uma página no banco
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @return List Temporada: temporadas da página
+     */
+    private List<Temporada> carregar() {
+        if (CONSULTA_UNICA) {
+            Pagina<Temporada> pagina = dao.pagina(filtro);
+            if (pagina != null) {
+                setRowCount(pagina.getTotal());
+                return pagina.getRegistros();
+            }
+        }
         setRowCount(dao.quantidadeFiltrados(filtro));
         return dao.filtrados(filtro);
     }
+    
+    /**
+     * Método para agendar o pré-carregamento da página seguinte à página carregada
+     * <p>
+     * A consulta é realizada em segundo plano com uma cópia do filtro (filtro.copia()).
+     * Caso a página carregada seja a última, nenhuma página é agendada.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param first int: primeiro registro da página carregada
+     * @param pageSize int: tamanho de registros por página
+     */
+    private void agendarProxima(int first, int pageSize) {
+        int seguinte = first + pageSize;
+        if (!PreCarregamento.HABILITADO || seguinte >= getRowCount() || filtro.getJogador() == null) {
+            return;
+        }
+        TemporadaFilter copia = filtro.copia();
+        copia.setPrimeiroRegistro(seguinte);
+        copia.setQuantidadeRegistros(pageSize);
+        proxima = PreCarregamento.agendar(chave(seguinte, pageSize), filtro.getJogador().getId(), () -> dao.filtrados(copia));
+    }
+    
+    /**
+     * Método para descartar a página pré-carregada
+     * <p>
+     * Deve ser chamado ao substituir o paginador (nova pesquisa) ou ao inserir e alterar temporadas, 
+     * cancelando a consulta em andamento.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    public void descartarPreCarregamento() {
+        if (proxima != null) {
+            proxima.cancelar();
+            proxima = null;
+        }
+    }
+    
+    /**
+     * Método para obter a identificação de uma página, utilizada pelo pré-carregamento
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param first int: primeiro registro da página
+     * @param pageSize int: tamanho de registros por página
+     * @return String: primeiro registro, tamanho, ordenação e direção da página
+     */
+    private String chave(int first, int pageSize) {
+        return first + ":" + pageSize + ":" + RegistroConsultas.ordenacaoTemporadas(filtro.getPropriedadeOrdenacao()) + ":" + filtro.isAscendente();
+    }
 }
\ No newline at end of file
@@ -1,6 +1,8 @@
 package model;
 
 import java.io.Serializable;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.Set;
 import javax.validation.ConstraintViolation;
 import javax.validation.Validation;
@@ -48,6 +50,32 @@ public class Validacao<T> implements Serializable{
         }
     }
 
+    /**
+     * Construtor da classe Validacao para um conjunto de objetos
+     * <p>
+     * Valida todos os objetos informados utilizando um único validador 
+     * e armazena os erros encontrados em todos eles.<br>
+     * Utilizado na inserção de jogos em lote, evitando a criação de um validador para cada objeto.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param classe Class T: Define sobre qual classe a validação será efetuada
+     * @param objetos Collection T: objetos que serão validados, definidos pela classe informada
+     */
+    public Validacao(Class<T> classe, Collection<T> objetos) {
+        this.classe = classe;
+        try {
+            factory = Validation.buildDefaultValidatorFactory();
+            validator = factory.getValidator();
+            erros = new HashSet<>();
+            for (T objeto : objetos) {
+                erros.addAll(validator.validate(objeto));
+            }
+        } catch (Exception e) {
+            System.out.println("Erro! " + e);
+        }
+    }
+
     /**
      * Método de retorno dos erros encontrados
      * @author Thiago Alexandre Buerger
@@ -0,0 +1,222 @@
+package util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Classe de cache em memória com capacidade limitada e expiração após a inserção, baseada no Caffeine
+ * <p>
+ * O Caffeine utiliza a política de admissão e descarte W-TinyLFU: os valores acessados com frequência são mantidos
+ * mesmo durante a leitura de todos os registros (resistência a varreduras).<br>
+ * Cada valor expira após o tempo informado desde a inserção (expireAfterWrite). Dessa forma, as alterações realizadas
+ * fora do processo da aplicação (ex: RecalculoAgregados e ReconstrutorAgregados executados pela linha de comando),
+ * que não descartam os valores deste cache, são obtidas do banco após a expiração.<br>
+ * Cada invalidação incrementa a geração da chave (gerações separadas em GERACOES grupos de chaves).
+ * Um valor carregado do banco só é inserido se a geração da chave não foi alterada desde o início da carga,
+ * evitando que um valor anterior a uma alteração seja mantido após a invalidação.
+ * A carga é realizada fora do cache, sem bloquear as outras chaves durante o acesso ao banco.<br>
+ * Os valores em cache são compartilhados entre as threads e não devem ser alterados por quem os obtém.
+ * </p>
+ * @author Thiago Alexandre Buerger
+ * @version 1.0
+ * @param <K> tipo da chave
+ * @param <V> tipo do valor
+ */
+public final class CacheAplicacao<K, V> {
+
+    /**
+     * Quantidade de grupos de chaves com geração própria
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private static final int GERACOES = 64;
+
+    private final String nome;
+    private final int capacidade;
+    private final long expiracaoMs;
+    private final Cache<K, V> valores;
+    private final AtomicLongArray geracoes = new AtomicLongArray(GERACOES);
+
+    /**
+     * Construtor da classe CacheAplicacao
+     * <p>
+     * Com capacidade ou expiração 0, o cache fica desabilitado: nenhum valor é inserido e todas as buscas são falhas.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param nome String: nome do cache, utilizado nas estatísticas
+     * @param capacidade int: quantidade máxima de valores
+     * @param expiracaoMs long: tempo em milissegundos após a inserção em que o valor é descartado
+     */
+    public CacheAplicacao(String nome, int capacidade, long expiracaoMs) {
+        this(nome, capacidade, expiracaoMs, Ticker.systemTicker(), ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Construtor da classe CacheAplicacao com relógio e executor informados (utilizado nos testes)
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param nome String: nome do cache, utilizado nas estatísticas
+     * @param capacidade int: quantidade máxima de valores
+     * @param expiracaoMs long: tempo em milissegundos após a inserção em que o valor é descartado
+     * @param relogio Ticker: relógio utilizado na expiração
+     * @param executor Executor: executor das tarefas de manutenção (descartes)
+     */
+    CacheAplicacao(String nome, int capacidade, long expiracaoMs, Ticker relogio, Executor executor) {
+        this.nome = nome;
+        this.capacidade = expiracaoMs > 0 ? Math.max(capacidade, 0) : 0;
+        this.expiracaoMs = Math.max(expiracaoMs, 0);
+        this.valores = Caffeine.newBuilder()
+                .maximumSize(this.capacidade)
+                .expireAfterWrite(this.expiracaoMs, TimeUnit.MILLISECONDS)
+                .ticker(relogio)
+                .executor(executor)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Método para obter um valor do cache
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param chave K: chave do valor
+     * @return V: valor em cache ou nulo caso não esteja no cache ou tenha expirado
+     */
+    public V obter(K chave) {
+        return chave == null ? null : valores.getIfPresent(chave);
+    }
+
+    /**
+     * Método para obter a geração de uma chave, que deverá ser informada na inserção de um valor carregado do banco
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param chave K: chave do valor
+     * @return long: geração atual da chave
+     */
+    public long geracao(K chave) {
+        return chave == null ? 0 : geracoes.get(grupo(chave));
+    }
+
+    /**
+     * Método para obter o grupo de gerações de uma chave
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param chave K: chave do valor
+     * @return int: posição da geração da chave
+     */
+    private static int grupo(Object chave) {
+        int hash = chave.hashCode();
+        return (hash ^ (hash >>> 16)) & (GERACOES - 1);
+    }
+
+    /**
+     * Método para inserir ou substituir um valor no cache
+     * <p>
+     * O valor só é inserido se nenhuma invalidação da chave ocorreu desde a geração informada (obtida antes da carga do valor).
+     * A verificação e a inserção são realizadas no compute da chave, que também é utilizado pela invalidação.<br>
+     * Caso a capacidade seja excedida, um valor é descartado conforme a política W-TinyLFU.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param chave K: chave do valor
+     * @param valor V: valor que será inserido
+     * @param geracaoCarga long: geração da chave obtida antes da carga do valor
+     * @return boolean: true caso o valor seja inserido ou false caso contrário
+     */
+    public boolean colocar(K chave, V valor, long geracaoCarga) {
+        if (chave == null || valor == null || capacidade == 0) {
+            return false;
+        }
+        int grupo = grupo(chave);
+        return valores.asMap().compute(chave, (k, atual) -> geracoes.get(grupo) == geracaoCarga ? valor : atual) == valor;
+    }
+
+    /**
+     * Método para remover um valor do cache
+     * <p>
+     * Deve ser chamado após o commit de qualquer alteração do valor. Incrementa a geração da chave.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param chave K: chave do valor
+     */
+    public void invalidar(K chave) {
+        if (chave == null) {
+            return;
+        }
+        valores.asMap().compute(chave, (k, atual) -> {
+            geracoes.incrementAndGet(grupo(k));
+            return null;
+        });
+    }
+
+    /**
+     * Método para remover todos os valores do cache
+     * <p>
+     * Incrementa a geração de todas as chaves antes da remoção, impedindo a inserção das cargas em andamento.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    public void limpar() {
+        for (int i = 0; i < GERACOES; i++) {
+            geracoes.incrementAndGet(i);
+        }
+        valores.invalidateAll();
+    }
+
+    public String getNome() {
+        return nome;
+    }
+
+    public int getCapacidade() {
+        return capacidade;
+    }
+
+    public long getExpiracaoMs() {
+        return expiracaoMs;
+    }
+
+    /**
+     * Método para obter a quantidade de valores em cache
+     * <p>
+     * Realiza os descartes pendentes (capacidade e expiração) antes da contagem.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @return long: quantidade de valores
+     */
+    public long tamanho() {
+        valores.cleanUp();
+        return valores.estimatedSize();
+    }
+
+    /**
+     * Método para obter as estatísticas do cache
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @return String: quantidade de valores, taxa de acertos, acertos, falhas e descartes (capacidade e expiração)
+     */
+    public String estatisticas() {
+        CacheStats estatisticas = valores.stats();
+        return String.format("%s: %d/%d valores, %.1f%% acertos (%d acertos, %d falhas), %d descartes, expiração de %d s.",
+                nome, tamanho(), capacidade, estatisticas.hitRate() * 100, estatisticas.hitCount(), estatisticas.missCount(),
+                estatisticas.evictionCount(), expiracaoMs / 1000);
+    }
+
+    /**
+     * Método para obter as estatísticas do Caffeine (acertos, falhas e descartes)
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @return CacheStats: estatísticas acumuladas desde a criação do cache
+     */
+    public CacheStats getEstatisticas() {
+        return valores.stats();
+    }
+}
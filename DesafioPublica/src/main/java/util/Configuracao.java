@@ -0,0 +1,95 @@
+package util;
+
+import java.io.InputStream;
+import java.util.Properties;
+
+/**
+ * Classe fornecedora das configurações da aplicação
+ * <p>
+ * As configurações são lidas uma única vez do arquivo configuracao.properties, presente no classpath.<br>
+ * Cada configuração também pode ser informada como propriedade do sistema (-Dchave=valor), 
+ * que terá prioridade sobre o arquivo.<br>
+ * Caso a configuração não for encontrada ou possuir valor inválido, será utilizado o valor padrão informado.
+ * </p>
+ * @author Thiago Alexandre Buerger
+ * @version 1.0
+ */
+public final class Configuracao {
+    
+    /**
+     * Configurações lidas do arquivo configuracao.properties
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private static final Properties PROPRIEDADES = carregar();
+    
+    /**
+     * Construtor privado, pois a classe possui apenas métodos estáticos
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private Configuracao() {}
+    
+    /**
+     * Método para ler o arquivo configuracao.properties
+     * <p>
+     * Caso o arquivo não exista ou não possa ser lido, serão utilizados os valores padrão.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @return Properties: configurações lidas do arquivo
+     */
+    private static Properties carregar() {
+        Properties propriedades = new Properties();
+        try (InputStream entrada = Configuracao.class.getClassLoader().getResourceAsStream("configuracao.properties")) {
+            if (entrada != null) {
+                propriedades.load(entrada);
+            }
+        } catch (Exception e) {
+            System.out.println("Erro! " + e);
+        }
+        return propriedades;
+    }
+    
+    /**
+     * Método para obter o valor textual de uma configuração
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param chave String: nome da configuração
+     * @param padrao String: valor utilizado caso a configuração não seja encontrada
+     * @return String: valor da configuração
+     */
+    public static String getTexto(String chave, String padrao) {
+        String valor = System.getProperty(chave, PROPRIEDADES.getProperty(chave));
+        return valor == null || valor.trim().isEmpty() ? padrao : valor.trim();
+    }
+    
+    /**
+     * Método para obter o valor inteiro de uma configuração
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param chave String: nome da configuração
+     * @param padrao int: valor utilizado caso a configuração não seja encontrada ou seja inválida
+     * @return int: valor da configuração
+     */
+    public static int getInteiro(String chave, int padrao) {
+        try {
+            return Integer.parseInt(getTexto(chave, String.valueOf(padrao)));
+        } catch (NumberFormatException e) {
+            System.out.println("Erro! " + e);
+            return padrao;
+        }
+    }
+    
+    /**
+     * Método para obter o valor booleano de uma configuração
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param chave String: nome da configuração
+     * @param padrao boolean: valor utilizado caso a configuração não seja encontrada
+     * @return boolean: valor da configuração
+     */
+    public static boolean getBooleano(String chave, boolean padrao) {
+        return Boolean.parseBoolean(getTexto(chave, String.valueOf(padrao)));
+    }
+}
@@ -0,0 +1,97 @@
+package util;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * Classe de conjunto ordenado de valores primitivos do tipo long
+ * <p>
+ * Os valores são mantidos em um vetor ordenado, sem objetos intermediários (Long),
+ * ocupando 8 bytes por valor.<br>
+ * A consulta é realizada por busca binária (O(log n)) e a inserção desloca os valores maiores (O(n)),
+ * adequada para conjuntos com muitas consultas e inserções geralmente no final, como datas de jogos.<br>
+ * Não é sincronizada: o acesso concorrente deverá ser controlado por quem a utiliza.
+ * </p>
+ * @author Thiago Alexandre Buerger
+ * @version 1.0
+ */
+public class ConjuntoLongOrdenado implements Serializable {
+
+    private long[] valores;
+    private int tamanho;
+
+    /**
+     * Construtor da classe ConjuntoLongOrdenado
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param capacidade int: capacidade inicial do conjunto
+     */
+    public ConjuntoLongOrdenado(int capacidade) {
+        valores = new long[Math.max(capacidade, 8)];
+    }
+
+    /**
+     * Método para adicionar um valor ao conjunto
+     * <p>
+     * Valores maiores que o último são adicionados no final sem deslocamento.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param valor long: valor que será adicionado
+     * @return boolean: true caso o valor for adicionado ou false caso já exista no conjunto
+     */
+    public boolean adicionar(long valor) {
+        int posicao;
+        if (tamanho == 0 || valor > valores[tamanho - 1]) {
+            posicao = tamanho;
+        } else{
+            posicao = Arrays.binarySearch(valores, 0, tamanho, valor);
+            if (posicao >= 0) {
+                return false;
+            }
+            posicao = -(posicao + 1);
+        }
+        if (tamanho == valores.length) {
+            valores = Arrays.copyOf(valores, valores.length * 2);
+        }
+        System.arraycopy(valores, posicao, valores, posicao + 1, tamanho - posicao);
+        valores[posicao] = valor;
+        tamanho++;
+        return true;
+    }
+
+    /**
+     * Método para verificar se um valor existe no conjunto
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param valor long: valor pesquisado
+     * @return boolean: true caso o valor exista no conjunto ou false caso contrário
+     */
+    public boolean contem(long valor) {
+        return Arrays.binarySearch(valores, 0, tamanho, valor) >= 0;
+    }
+
+    /**
+     * Método para obter a quantidade de valores do conjunto
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @return int: quantidade de valores
+     */
+    public int tamanho() {
+        return tamanho;
+    }
+
+    /**
+     * Método para obter o valor em uma posição do conjunto
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param posicao int: posição do valor, de 0 a tamanho() - 1, em ordem crescente
+     * @return long: valor na posição informada
+     */
+    public long valor(int posicao) {
+        if (posicao < 0 || posicao >= tamanho) {
+            throw new IndexOutOfBoundsException("Posição: " + posicao);
+        }
+        return valores[posicao];
+    }
+}
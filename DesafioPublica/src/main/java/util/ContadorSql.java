@@ -0,0 +1,99 @@
+package util;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Classe responsável pela contagem dos comandos SQL gerados pelo Hibernate em cada requisição
+ * <p>
+ * implements StatementInspector: o Hibernate chama o método inspect para cada comando SQL antes de executá-lo 
+ * (configurado no persistence.xml: hibernate.session_factory.statement_inspector).<br>
+ * A contagem é realizada apenas na thread que chamou o método iniciar (requisição da tela, MonitorSql), 
+ * e ignora comandos JDBC executados diretamente (doWork).<br>
+ * Caso seja informado um limite, o comando que exceder o limite lança uma exceção, fazendo a requisição falhar. 
+ * Utilizado em testes para detectar consultas adicionais por registro (N+1).
+ * </p>
+ * @author Thiago Alexandre Buerger
+ * @version 1.0
+ */
+public class ContadorSql implements StatementInspector{
+
+    /**
+     * Contagem da thread em andamento ou nulo caso a contagem não tenha sido iniciada
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private static final ThreadLocal<Contagem> CONTAGEM = new ThreadLocal<>();
+
+    /**
+     * Método para iniciar a contagem de comandos na thread em andamento
+     * <p>
+     * Caso já exista uma contagem na thread, ela é descartada.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param limite int: quantidade máxima de comandos ou 0 para não limitar
+     */
+    public static void iniciar(int limite) {
+        CONTAGEM.set(new Contagem(limite));
+    }
+
+    /**
+     * Método para obter a quantidade de comandos contados na thread em andamento
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @return int: quantidade de comandos ou 0 caso a contagem não tenha sido iniciada
+     */
+    public static int quantidade() {
+        Contagem contagem = CONTAGEM.get();
+        return contagem == null ? 0 : contagem.quantidade;
+    }
+
+    /**
+     * Método para finalizar a contagem de comandos na thread em andamento
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @return int: quantidade de comandos contados
+     */
+    public static int finalizar() {
+        int quantidade = quantidade();
+        CONTAGEM.remove();
+        return quantidade;
+    }
+
+    /**
+     * Método sobrescrito inspect
+     * <p>
+     * Conta o comando caso a contagem tenha sido iniciada na thread. O comando não é alterado.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param sql String: comando SQL gerado pelo Hibernate
+     * @return String: o mesmo comando
+     * @throws IllegalStateException caso a quantidade de comandos exceda o limite
+     */
+    @Override
+    public String inspect(String sql) {
+        Contagem contagem = CONTAGEM.get();
+        if (contagem != null) {
+            contagem.quantidade++;
+            if (contagem.limite > 0 && contagem.quantidade > contagem.limite) {
+                throw new IllegalStateException("Limite de " + contagem.limite + " comandos SQL por requisição excedido: " + sql);
+            }
+        }
+        return sql;
+    }
+
+    /**
+     * Classe da contagem de comandos de uma thread
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private static final class Contagem {
+        private final int limite;
+        private int quantidade;
+
+        Contagem(int limite) {
+            this.limite = limite;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package util;
+
+import java.io.Serializable;
+
+/**
+ * Classe de filtro de Bloom para valores do tipo long
+ * <p>
+ * Estrutura probabilística que responde se um valor "talvez exista" ou "certamente não existe",
+ * utilizando poucos bits por valor e sem nunca retornar falso negativo.<br>
+ * A quantidade de bits e de funções de espalhamento é calculada a partir da capacidade esperada
+ * e da taxa de falso positivo desejada. Ao exceder a capacidade, a taxa de falso positivo aumenta,
+ * e o filtro deverá ser recriado com capacidade maior.<br>
+ * Não é sincronizada: o acesso concorrente deverá ser controlado por quem a utiliza.
+ * </p>
+ * @author Thiago Alexandre Buerger
+ * @version 1.0
+ */
+public class FiltroBloom implements Serializable {
+
+    private final long[] bits;
+    private final int quantidadeBits;
+    private final int funcoes;
+    private final int capacidade;
+    private int tamanho;
+
+    /**
+     * Construtor da classe FiltroBloom
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param capacidade int: quantidade de valores esperada
+     * @param taxaFalsoPositivo double: probabilidade desejada de falso positivo (entre 0 e 1)
+     */
+    public FiltroBloom(int capacidade, double taxaFalsoPositivo) {
+        this.capacidade = Math.max(capacidade, 1);
+        double ln2 = Math.log(2);
+        long calculado = (long) Math.ceil(-this.capacidade * Math.log(taxaFalsoPositivo) / (ln2 * ln2));
+        quantidadeBits = (int) Math.max(64, Math.min(calculado, Integer.MAX_VALUE - 63));
+        funcoes = Math.max(1, (int) Math.round((double) quantidadeBits / this.capacidade * ln2));
+        bits = new long[(quantidadeBits + 63) / 64];
+    }
+
+    /**
+     * Método para adicionar um valor ao filtro
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param valor long: valor que será adicionado
+     */
+    public void adicionar(long valor) {
+        long hash = espalhar(valor);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < funcoes; i++) {
+            int posicao = ((h1 + i * h2) & Integer.MAX_VALUE) % quantidadeBits;
+            bits[posicao >>> 6] |= 1L << posicao;
+        }
+        tamanho++;
+    }
+
+    /**
+     * Método para verificar se um valor talvez exista no filtro
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param valor long: valor pesquisado
+     * @return boolean: false caso o valor certamente não exista ou true caso talvez exista
+     */
+    public boolean talvezContem(long valor) {
+        long hash = espalhar(valor);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < funcoes; i++) {
+            int posicao = ((h1 + i * h2) & Integer.MAX_VALUE) % quantidadeBits;
+            if ((bits[posicao >>> 6] & (1L << posicao)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Método para verificar se a quantidade de valores adicionados excedeu a capacidade do filtro
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @return boolean: true caso a capacidade for excedida ou false caso contrário
+     */
+    public boolean excedido() {
+        return tamanho > capacidade;
+    }
+
+    /**
+     * Método para espalhar os bits de um valor (função de finalização do SplitMix64)
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param valor long: valor original
+     * @return long: valor espalhado
+     */
+    private static long espalhar(long valor) {
+        long z = valor + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
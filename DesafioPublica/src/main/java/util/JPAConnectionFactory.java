@@ -1,5 +1,6 @@
 package util;
 
+import java.util.concurrent.TimeUnit;
 import javax.persistence.EntityManager;
 import javax.persistence.EntityManagerFactory;
 import javax.persistence.Persistence;
@@ -11,19 +12,57 @@ import javax.persistence.Persistence;
  */
 public class JPAConnectionFactory {
     
+    /**
+     * Intervalo mínimo em milissegundos entre duas tentativas de criação do objeto de referência ao banco de dados
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    public static final long INTERVALO_TENTATIVAS = Configuracao.getInteiro("banco.tentativas.intervalo.ms", 10000);
+
     /**
      * Objeto de referencia ao banco de dados.
      * <p>
-     * Criado a partir das configurações do persistence.xml.
-     * Caso seja alterado o banco, pode-se apenas alterar a referência ao persistence.xml.
+     * Criado a partir das configurações do persistence.xml na primeira chamada de getEntityManagerFactory.
+     * Caso seja alterado o banco, pode-se apenas alterar a referência ao persistence.xml.<br>
+     * As conexões são fornecidas pelo pool HikariCP (hibernate.hikari.* no persistence.xml), 
+     * com quantidade mínima e máxima de conexões, tempo limite de espera, detecção de conexões não devolvidas 
+     * e cache de comandos preparados do driver. As métricas do pool são obtidas por MetricasPool.<br>
+     * Não é criado na inicialização da classe: uma falha na criação (ex: banco indisponível durante a implantação)
+     * impediria o uso da classe até o reinício do servidor (NoClassDefFoundError). 
+     * Permanece nulo até a criação com sucesso, que é tentada novamente após INTERVALO_TENTATIVAS.
      * </p>
      * @author Thiago Alexandre Buerger
      * @version 1.0
      */
-    private static final EntityManagerFactory EMF = Persistence.createEntityManagerFactory("desafio_publica");
+    private static volatile EntityManagerFactory emf;
+
+    /**
+     * Erro da última tentativa de criação do objeto de referência ao banco de dados
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private static RuntimeException falha;
+
+    /**
+     * Momento (System.nanoTime) da última tentativa de criação com falha
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private static long ultimaFalha;
+
+    /**
+     * Indica se o objeto de referência foi fechado no encerramento da aplicação (fechar), impedindo uma nova criação
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private static boolean fechada;
     
     /**
      * Método que fornece conexão ao banco de dados
+     * <p>
+     * A conexão JDBC é obtida do pool na primeira operação do EntityManager e devolvida ao pool no em.close().<br>
+     * Caso o objeto de referência ao banco não possa ser criado (getEntityManagerFactory), retorna nulo.
+     * </p>
      * @author Thiago Alexandre Buerger
      * @version 1.0
      * @return EntityManager: objeto de conexão ao banco de dados.
@@ -31,10 +70,73 @@ public class JPAConnectionFactory {
     public static EntityManager getEntityManager() {
         EntityManager em = null;
         try {
-            em = EMF.createEntityManager();
+            em = getEntityManagerFactory().createEntityManager();
         } catch(Exception e){
             System.out.println("Erro! " + e);
         }
         return em;
     }
+    
+    /**
+     * Método que fornece o objeto de referência ao banco de dados
+     * <p>
+     * Utilizado para acessar o cache de segundo nível (getCache()) e as estatísticas do Hibernate.<br>
+     * Cria o objeto na primeira chamada, com o bloqueio da classe (apenas uma criação por vez).
+     * Caso a criação falhe, o erro é lançado e uma nova tentativa só é realizada após INTERVALO_TENTATIVAS,
+     * evitando que cada requisição aguarde o tempo limite de conexão com o banco indisponível.
+     * Neste intervalo, o erro da última tentativa é lançado novamente.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @return EntityManagerFactory: objeto de referência ao banco de dados.
+     * @throws IllegalStateException caso o objeto tenha sido fechado (fechar)
+     * @throws RuntimeException caso a criação do objeto falhe (ex: PersistenceException com o banco indisponível)
+     */
+    public static EntityManagerFactory getEntityManagerFactory() {
+        EntityManagerFactory atual = emf;
+        if (atual != null) {
+            return atual;
+        }
+        synchronized (JPAConnectionFactory.class) {
+            if (emf != null) {
+                return emf;
+            }
+            if (fechada) {
+                throw new IllegalStateException("Conexão com o banco encerrada.");
+            }
+            if (falha != null && System.nanoTime() - ultimaFalha < TimeUnit.MILLISECONDS.toNanos(INTERVALO_TENTATIVAS)) {
+                throw falha;
+            }
+            try {
+                emf = Persistence.createEntityManagerFactory("desafio_publica");
+                falha = null;
+                return emf;
+            } catch (RuntimeException e) {
+                falha = e;
+                ultimaFalha = System.nanoTime();
+                throw e;
+            }
+        }
+    }
+    
+    /**
+     * Método para fechar o objeto de referência ao banco de dados
+     * <p>
+     * Fecha o pool de conexões. Utilizado no encerramento da aplicação (CicloAplicacao.encerrar), 
+     * após o qual nenhuma conexão poderá ser fornecida (o objeto não é criado novamente).
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    public static synchronized void fechar() {
+        fechada = true;
+        try {
+            if (emf != null && emf.isOpen()) {
+                emf.close();
+            }
+        } catch(Exception e){
+            System.out.println("Erro! " + e);
+        }
+        emf = null;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,139 @@
+package util;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.Supplier;
+import javax.faces.context.FacesContext;
+
+/**
+ * Classe responsável por memorizar os resultados de consultas somente leitura durante uma requisição das telas
+ * <p>
+ * Métodos chamados pelas páginas por expressões EL (#{bean.metodo()}) podem ser avaliados várias vezes
+ * na mesma requisição (em cada fase do ciclo de vida do JSF e a cada componente que os utiliza),
+ * realizando a mesma consulta no banco a cada avaliação.<br>
+ * O resultado de cada consulta é guardado nos atributos do FacesContext (context.getAttributes()),
+ * que existem somente durante a requisição atual. Assim, a consulta é realizada uma única vez por requisição
+ * para cada chave, e os resultados são descartados ao término da requisição, sem a necessidade de invalidação entre requisições.<br>
+ * Ações que inserem ou alteram dados na mesma requisição (como o salvar dos beans) deverão chamar o método invalidar
+ * antes da renderização da resposta.<br>
+ * Fora de uma requisição JSF (FacesContext nulo), a consulta é sempre realizada.
+ * </p>
+ * @author Thiago Alexandre Buerger
+ * @version 1.0
+ */
+public final class Memorizador {
+
+    /**
+     * Nome do atributo do FacesContext que guarda os resultados da requisição
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private static final String ATRIBUTO = Memorizador.class.getName();
+
+    /**
+     * Valor guardado para as consultas que retornaram nulo, evitando repetir a consulta
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private static final Object NULO = new Object();
+
+    /**
+     * Construtor privado, pois a classe possui apenas métodos estáticos
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private Memorizador() {}
+
+    /**
+     * Método para obter o resultado de uma consulta da requisição atual ou realizar a consulta
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param <T> tipo do resultado
+     * @param chave String: identificação da consulta e de seus parâmetros
+     * @param consulta Supplier: consulta realizada caso o resultado não esteja memorizado
+     * @return T: resultado da consulta
+     */
+    public static <T> T obter(String chave, Supplier<T> consulta) {
+        Map<String, Object> resultados = resultados(true);
+        return resultados == null ? consulta.get() : obter(resultados, chave, consulta);
+    }
+
+    /**
+     * Método para descartar os resultados memorizados na requisição atual iniciados pelo prefixo
+     * <p>
+     * Deve ser chamado após inserir ou alterar dados na requisição atual, 
+     * para que a renderização da resposta consulte novamente o banco.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param prefixo String: início das chaves descartadas (vazio descarta todos os resultados)
+     */
+    public static void invalidar(String prefixo) {
+        Map<String, Object> resultados = resultados(false);
+        if (resultados != null) {
+            invalidar(resultados, prefixo);
+        }
+    }
+
+    /**
+     * Método para obter o resultado de uma consulta de um mapa de resultados ou realizar a consulta
+     * <p>
+     * Exceções lançadas pela consulta são repassadas e nenhum resultado é guardado.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param <T> tipo do resultado
+     * @param resultados Map: resultados memorizados
+     * @param chave String: identificação da consulta e de seus parâmetros
+     * @param consulta Supplier: consulta realizada caso o resultado não esteja memorizado
+     * @return T: resultado da consulta
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T obter(Map<String, Object> resultados, String chave, Supplier<T> consulta) {
+        Object valor = resultados.get(chave);
+        if (valor == null) {
+            T resultado = consulta.get();
+            resultados.put(chave, resultado == null ? NULO : resultado);
+            return resultado;
+        }
+        return valor == NULO ? null : (T) valor;
+    }
+
+    /**
+     * Método para descartar os resultados de um mapa de resultados iniciados pelo prefixo
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param resultados Map: resultados memorizados
+     * @param prefixo String: início das chaves descartadas
+     */
+    static void invalidar(Map<String, Object> resultados, String prefixo) {
+        Iterator<String> chaves = resultados.keySet().iterator();
+        while (chaves.hasNext()) {
+            if (chaves.next().startsWith(prefixo == null ? "" : prefixo)) {
+                chaves.remove();
+            }
+        }
+    }
+
+    /**
+     * Método para obter o mapa de resultados da requisição atual
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param criar boolean: true para criar o mapa caso ainda não exista
+     * @return Map: resultados da requisição ou nulo fora de uma requisição JSF
+     */
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> resultados(boolean criar) {
+        FacesContext context = FacesContext.getCurrentInstance();
+        if (context == null) {
+            return null;
+        }
+        Map<String, Object> resultados = (Map<String, Object>) context.getAttributes().get(ATRIBUTO);
+        if (resultados == null && criar) {
+            resultados = new HashMap<>();
+            context.getAttributes().put(ATRIBUTO, resultados);
+        }
+        return resultados;
+    }
+}
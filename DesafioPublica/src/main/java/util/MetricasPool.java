@@ -0,0 +1,179 @@
+package util;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Classe de métricas do pool de conexões do banco (HikariCP)
+ * <p>
+ * Registrada no persistence.xml (hibernate.hikari.metricsTrackerFactory) e instanciada pelo pool na sua criação.<br>
+ * Acumula o tempo de espera por uma conexão (aquisição), o tempo de uso das conexões pelos EntityManagers,
+ * as esperas que excederam o tempo limite (hibernate.hikari.connectionTimeout) e as conexões criadas.
+ * As quantidades de conexões ativas, ociosas e de threads aguardando são obtidas do pool (PoolStats).<br>
+ * Os valores também são exportados por JMX pelo próprio pool (hibernate.hikari.registerMbeans),
+ * no MBean com.zaxxer.hikari:type=Pool (desafio_publica).<br>
+ * Como a aplicação possui um único pool, as métricas são estáticas.
+ * </p>
+ * @author Thiago Alexandre Buerger
+ * @version 1.0
+ */
+public class MetricasPool implements MetricsTrackerFactory {
+
+    /**
+     * Quantidades de conexões do pool, atualizadas pelo próprio pool; nulo até a criação do pool
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private static volatile PoolStats conexoes;
+
+    private static final LongAdder AQUISICOES = new LongAdder();
+    private static final LongAdder ESPERA_NANOS = new LongAdder();
+    private static final LongAccumulator ESPERA_MAXIMA_NANOS = new LongAccumulator(Math::max, 0);
+    private static final LongAdder USOS = new LongAdder();
+    private static final LongAdder USO_MILLIS = new LongAdder();
+    private static final LongAdder TEMPOS_ESGOTADOS = new LongAdder();
+    private static final LongAdder CONEXOES_CRIADAS = new LongAdder();
+
+    /**
+     * Construtor vazio, necessário para a criação pelo pool a partir do nome da classe
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    public MetricasPool() {}
+
+    /**
+     * Método chamado pelo pool na sua criação, que informa as quantidades de conexões e recebe os registros das métricas
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param nomePool String: nome do pool (hibernate.hikari.poolName)
+     * @param estatisticasPool PoolStats: quantidades de conexões do pool
+     * @return IMetricsTracker: objeto que acumula as métricas
+     */
+    @Override
+    public IMetricsTracker create(String nomePool, PoolStats estatisticasPool) {
+        conexoes = estatisticasPool;
+        return new IMetricsTracker() {
+            @Override
+            public void recordConnectionCreatedMillis(long milissegundos) {
+                CONEXOES_CRIADAS.increment();
+            }
+
+            @Override
+            public void recordConnectionAcquiredNanos(long nanossegundos) {
+                AQUISICOES.increment();
+                ESPERA_NANOS.add(nanossegundos);
+                ESPERA_MAXIMA_NANOS.accumulate(nanossegundos);
+            }
+
+            @Override
+            public void recordConnectionUsageMillis(long milissegundos) {
+                USOS.increment();
+                USO_MILLIS.add(milissegundos);
+            }
+
+            @Override
+            public void recordConnectionTimeout() {
+                TEMPOS_ESGOTADOS.increment();
+            }
+
+            @Override
+            public void close() {
+                conexoes = null;
+            }
+        };
+    }
+
+    /**
+     * Método para obter a quantidade de conexões em uso
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @return int: conexões em uso ou 0 caso o pool não tenha sido criado
+     */
+    public static int getAtivas() {
+        PoolStats estatisticas = conexoes;
+        return estatisticas == null ? 0 : estatisticas.getActiveConnections();
+    }
+
+    /**
+     * Método para obter a quantidade de conexões abertas e disponíveis
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @return int: conexões ociosas ou 0 caso o pool não tenha sido criado
+     */
+    public static int getOciosas() {
+        PoolStats estatisticas = conexoes;
+        return estatisticas == null ? 0 : estatisticas.getIdleConnections();
+    }
+
+    /**
+     * Método para obter a quantidade de threads aguardando uma conexão
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @return int: threads aguardando ou 0 caso o pool não tenha sido criado
+     */
+    public static int getAguardando() {
+        PoolStats estatisticas = conexoes;
+        return estatisticas == null ? 0 : estatisticas.getPendingThreads();
+    }
+
+    public static long getAquisicoes() {
+        return AQUISICOES.sum();
+    }
+
+    public static long getTemposEsgotados() {
+        return TEMPOS_ESGOTADOS.sum();
+    }
+
+    public static long getConexoesCriadas() {
+        return CONEXOES_CRIADAS.sum();
+    }
+
+    /**
+     * Método para obter o tempo médio de espera por uma conexão
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @return double: tempo médio de espera em milissegundos ou 0 caso nenhuma conexão tenha sido obtida
+     */
+    public static double getEsperaMediaMillis() {
+        long aquisicoes = AQUISICOES.sum();
+        return aquisicoes == 0 ? 0 : ESPERA_NANOS.sum() / (double) aquisicoes / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * Método para obter o maior tempo de espera por uma conexão
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @return double: maior tempo de espera em milissegundos
+     */
+    public static double getEsperaMaximaMillis() {
+        return ESPERA_MAXIMA_NANOS.get() / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * Método para obter o tempo médio de uso de uma conexão, entre a sua obtenção e a sua devolução ao pool
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @return double: tempo médio de uso em milissegundos ou 0 caso nenhuma conexão tenha sido devolvida
+     */
+    public static double getUsoMedioMillis() {
+        long usos = USOS.sum();
+        return usos == 0 ? 0 : USO_MILLIS.sum() / (double) usos;
+    }
+
+    /**
+     * Método para obter as métricas do pool de conexões
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @return String: conexões ativas, ociosas e threads aguardando, tempos de espera e de uso, tempos esgotados e conexões criadas
+     */
+    public static String estatisticas() {
+        return String.format("pool: %d ativas, %d ociosas, %d aguardando, %d aquisições (espera média %.2f ms, máxima %.2f ms), "
+                + "uso médio %.2f ms, %d tempos esgotados, %d conexões criadas.",
+                getAtivas(), getOciosas(), getAguardando(), getAquisicoes(), getEsperaMediaMillis(), getEsperaMaximaMillis(),
+                getUsoMedioMillis(), getTemposEsgotados(), getConexoesCriadas());
+    }
+}
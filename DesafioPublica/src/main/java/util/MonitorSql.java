@@ -0,0 +1,90 @@
+package util;
+
+import javax.faces.context.FacesContext;
+import javax.faces.event.PhaseEvent;
+import javax.faces.event.PhaseId;
+import javax.faces.event.PhaseListener;
+
+/**
+ * Classe responsável por monitorar a quantidade de comandos SQL de cada requisição das telas
+ * <p>
+ * implements PhaseListener: tipo de objeto notificado no início e término de cada etapa do ciclo de vida do JSF.<br>
+ * A contagem (ContadorSql) é iniciada no início da requisição (RESTORE_VIEW) e finalizada ao término da resposta.<br>
+ * Configurado no configuracao.properties:
+ * </p>
+ * <ul>
+ *      <li>sql.limite.requisicao: quantidade máxima de comandos por requisição (0 desabilita o monitoramento);</li>
+ *      <li>sql.limite.falhar: true para a requisição falhar ao exceder o limite (modo de teste), 
+ *      false para apenas informar no log.</li>
+ * </ul>
+ * @author Thiago Alexandre Buerger
+ * @version 1.0
+ */
+public class MonitorSql implements PhaseListener{
+
+    /**
+     * Quantidade máxima de comandos SQL por requisição
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private static final int LIMITE = Configuracao.getInteiro("sql.limite.requisicao", 0);
+
+    /**
+     * Indica se a requisição deverá falhar ao exceder o limite
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    private static final boolean FALHAR = Configuracao.getBooleano("sql.limite.falhar", false);
+
+    /**
+     * Método sobrescrito para realizar processos quando a fase específica está prestes a começar
+     * <p>
+     * No início da requisição (RESTORE_VIEW), a contagem de comandos é iniciada.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param evento PhaseEvent
+     */
+    @Override
+    public void beforePhase(PhaseEvent evento) {
+        if (LIMITE > 0 && PhaseId.RESTORE_VIEW.equals(evento.getPhaseId())) {
+            ContadorSql.iniciar(FALHAR ? LIMITE : 0);
+        }
+    }
+
+    /**
+     * Método sobrescrito para realizar processos quando a fase específica acaba de ser concluída
+     * <p>
+     * Ao término da resposta (RENDER_RESPONSE ou resposta finalizada), a contagem é finalizada 
+     * e, caso exceda o limite, a página e a quantidade de comandos são informadas no log.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param evento PhaseEvent
+     */
+    @Override
+    public void afterPhase(PhaseEvent evento) {
+        if (LIMITE <= 0) {
+            return;
+        }
+        FacesContext context = evento.getFacesContext();
+        if (PhaseId.RENDER_RESPONSE.equals(evento.getPhaseId()) || context.getResponseComplete()) {
+            int quantidade = ContadorSql.finalizar();
+            if (quantidade > LIMITE) {
+                String pagina = context.getViewRoot() == null ? "" : context.getViewRoot().getViewId();
+                System.out.println("Erro! " + pagina + ": " + quantidade + " comandos SQL, limite de " + LIMITE + ".");
+            }
+        }
+    }
+
+    /**
+     * Método sobrescrito para retornar o identificador da fase de processamento da solicitação
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @return PhaseId: todas as fases, pois a contagem abrange a requisição completa
+     */
+    @Override
+    public PhaseId getPhaseId() {
+        return PhaseId.ANY_PHASE;
+    }
+}
@@ -0,0 +1,86 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Classe de testes da árvore de prefixos dos nomes das temporadas
+ * @author Thiago Alexandre Buerger
+ * @version 1.0
+ */
+public class ArvoreTemporadasTest {
+    
+    public ArvoreTemporadasTest() {
+    }
+    
+    @BeforeClass
+    public static void setUpClass() {
+    }
+    
+    @AfterClass
+    public static void tearDownClass() {
+    }
+    
+    @Before
+    public void setUp() {
+    }
+    
+    @After
+    public void tearDown() {
+    }
+
+    /**
+     * Teste do método sugerir
+     * <p>
+     * Primeiro teste: sugestões em ordem alfabética, sem diferenciar maiúsculas e minúsculas.<br>
+     * Segundo teste: limite de sugestões e prefixo vazio.<br>
+     * Terceiro teste: remoção de uma temporada (alteração do nome).
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    @Test
+    public void testeSugerir() {
+        ArvoreTemporadas arvore = new ArvoreTemporadas();
+        arvore.adicionar(1, "Verão 2021");
+        arvore.adicionar(2, "Temporada B");
+        arvore.adicionar(3, "temporada A");
+        arvore.adicionar(4, "Inverno");
+        arvore.adicionar(5, "Temporada B");
+        System.out.println("Iniciando primeiro teste da árvore de temporadas...");
+        assertEquals(Arrays.asList(3, 2, 5), ids(arvore.sugerir("TEMP", 10)));
+        assertEquals("temporada A", arvore.sugerir("tempo", 1).get(0).getNome());
+        assertTrue(arvore.sugerir("Outono", 10).isEmpty());
+        System.out.println("Iniciando segundo teste da árvore de temporadas...");
+        assertEquals(Arrays.asList(4, 3), ids(arvore.sugerir("", 2)));
+        System.out.println("Iniciando terceiro teste da árvore de temporadas...");
+        arvore.remover(2, "Temporada B");
+        arvore.adicionar(2, "Outono");
+        assertEquals(Arrays.asList(3, 5), ids(arvore.sugerir("temporada", 10)));
+        assertEquals(Arrays.asList(2), ids(arvore.sugerir("o", 10)));
+        arvore.remover(4, "Inverno");
+        assertTrue(arvore.sugerir("i", 10).isEmpty());
+    }
+    
+    /**
+     * Método para obter a identificação das temporadas sugeridas
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param opcoes Lista OpcaoTemporada: temporadas sugeridas
+     * @return Lista Integer: identificação das temporadas, na ordem das sugestões
+     */
+    private List<Integer> ids(List<OpcaoTemporada> opcoes) {
+        List<Integer> ids = new ArrayList<>();
+        for (OpcaoTemporada opcao : opcoes) {
+            ids.add(opcao.getId());
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,73 @@
+package model;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Classe de testes do cache de consultas por jogador
+ * @author Thiago Alexandre Buerger
+ * @version 1.0
+ */
+public class CacheConsultasTest {
+    
+    public CacheConsultasTest() {
+    }
+    
+    @BeforeClass
+    public static void setUpClass() {
+    }
+    
+    @AfterClass
+    public static void tearDownClass() {
+    }
+    
+    @Before
+    public void setUp() {
+    }
+    
+    @After
+    public void tearDown() {
+    }
+
+    /**
+     * Teste dos métodos consultar e invalidar
+     * <p>
+     * Primeiro teste: verifica se a consulta é realizada apenas uma vez para a mesma chave.<br>
+     * Segundo teste: verifica se a invalidação força uma nova consulta apenas do jogador invalidado.<br>
+     * Terceiro teste: verifica se um resultado obtido durante uma invalidação não é guardado.<br>
+     * Quarto teste: verifica se um resultado expira após EXPIRACAO_NANOS, sem invalidação.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    @Test
+    public void testeConsultarInvalidar() {
+        System.out.println("Iniciando primeiro teste do cache de consultas...");
+        AtomicInteger consultas = new AtomicInteger();
+        assertEquals(Integer.valueOf(10), CacheConsultas.consultar(-1, "contagem", () -> { consultas.incrementAndGet(); return 10; }));
+        assertEquals(Integer.valueOf(10), CacheConsultas.consultar(-1, "contagem", () -> { consultas.incrementAndGet(); return 20; }));
+        assertEquals(1, consultas.get());
+        System.out.println("Iniciando segundo teste do cache de consultas...");
+        CacheConsultas.consultar(-2, "contagem", () -> 5);
+        CacheConsultas.invalidar(-1);
+        assertEquals(Integer.valueOf(11), CacheConsultas.consultar(-1, "contagem", () -> 11));
+        assertEquals(Integer.valueOf(5), CacheConsultas.consultar(-2, "contagem", () -> 6));
+        System.out.println("Iniciando terceiro teste do cache de consultas...");
+        assertEquals(Integer.valueOf(12), CacheConsultas.consultar(-1, "outra", () -> {
+            CacheConsultas.invalidar(-1);
+            return 12;
+        }));
+        assertEquals(Integer.valueOf(13), CacheConsultas.consultar(-1, "outra", () -> 13));
+        System.out.println("Iniciando quarto teste do cache de consultas...");
+        long agora = System.nanoTime();
+        assertEquals(Integer.valueOf(14), CacheConsultas.consultar(-3, "contagem", () -> 14, agora));
+        assertEquals(Integer.valueOf(14), CacheConsultas.consultar(-3, "contagem", () -> 15, agora + CacheConsultas.EXPIRACAO_NANOS - 1));
+        assertEquals(Integer.valueOf(16), CacheConsultas.consultar(-3, "contagem", () -> 16, agora + CacheConsultas.EXPIRACAO_NANOS));
+        System.out.println("Resultado: " + consultas.get() + " consulta realizada");
+    }
+}
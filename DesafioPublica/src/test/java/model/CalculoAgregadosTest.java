@@ -0,0 +1,92 @@
+package model;
+
+import java.util.Calendar;
+import java.util.Map;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Classe de testes do cálculo dos dados agregados a partir do diário de jogos
+ * @author Thiago Alexandre Buerger
+ * @version 1.0
+ */
+public class CalculoAgregadosTest {
+    
+    public CalculoAgregadosTest() {
+    }
+    
+    @BeforeClass
+    public static void setUpClass() {
+    }
+    
+    @AfterClass
+    public static void tearDownClass() {
+    }
+    
+    @Before
+    public void setUp() {
+    }
+    
+    @After
+    public void tearDown() {
+    }
+
+    /**
+     * Teste do método aplicar e do cálculo dos resumos
+     * <p>
+     * Primeiro teste: verifica se a aplicação de inclusões gera os mesmos dados do método registrarJogo do Jogador.<br>
+     * Segundo teste: verifica a alteração e a exclusão de jogos.<br>
+     * Terceiro teste: verifica os resumos por temporada.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    @Test
+    public void testeCalculoAgregados() {
+        System.out.println("Iniciando primeiro teste do cálculo de agregados...");
+        Jogador jogador = new Jogador(1,"Jogador",0,0,0,0,"jogador","123456");
+        Temporada primeira = new Temporada(1,"Primeira",0,0,jogador);
+        Temporada segunda = new Temporada(2,"Segunda",0,0,jogador);
+        Jogador esperado = new Jogador(1,"Jogador",0,0,0,0,"jogador","123456");
+        CalculoAgregados calculo = new CalculoAgregados();
+        Calendar calendario = Calendar.getInstance();
+        calendario.add(Calendar.YEAR, -1);
+        int[] placares = {10, 12, 8, 9, 15, 3};
+        Jogo[] jogos = new Jogo[placares.length];
+        for (int i = 0; i < placares.length; i++) {
+            calendario.add(Calendar.HOUR, 1);
+            jogos[i] = new Jogo(i + 1, calendario.getTime(), "Jogo", placares[i], i < 3 ? primeira : segunda);
+            calculo.aplicar(new JogoEvento(JogoEvento.Tipo.INCLUSAO, jogos[i]));
+            esperado.registrarJogo(jogos[i]);
+        }
+        ResumoJogos resumo = calculo.jogador();
+        assertEquals(esperado.getMinimo().intValue(), resumo.getMinimo());
+        assertEquals(esperado.getMaximo().intValue(), resumo.getMaximo());
+        assertEquals(esperado.getQtdQuebraRecordeMin().intValue(), resumo.getQuebrasMinimo());
+        assertEquals(esperado.getQtdQuebraRecordeMax().intValue(), resumo.getQuebrasMaximo());
+        assertEquals(esperado.getQtdJogos().intValue(), resumo.getQuantidade());
+        assertEquals(esperado.getSomaPontuacao().longValue(), resumo.getSoma());
+        System.out.println("Iniciando segundo teste do cálculo de agregados...");
+        jogos[5].setPlacar(11);
+        calculo.aplicar(new JogoEvento(JogoEvento.Tipo.ALTERACAO, jogos[5]));
+        calculo.aplicar(new JogoEvento(JogoEvento.Tipo.EXCLUSAO, jogos[4]));
+        resumo = calculo.jogador();
+        assertEquals(5, resumo.getQuantidade());
+        assertEquals(8, resumo.getMinimo());
+        assertEquals(12, resumo.getMaximo());
+        assertEquals(1, resumo.getQuebrasMinimo());
+        assertEquals(1, resumo.getQuebrasMaximo());
+        assertEquals(jogos[5].getData(), resumo.getUltimaData());
+        System.out.println("Iniciando terceiro teste do cálculo de agregados...");
+        Map<Integer, ResumoJogos> temporadas = calculo.temporadas();
+        assertEquals(2, temporadas.size());
+        assertEquals(30, temporadas.get(1).getSoma());
+        assertEquals(9, temporadas.get(2).getMinimo());
+        assertEquals(11, temporadas.get(2).getMaximo());
+        System.out.println("Resultado: " + resumo.getQuantidade() + " jogos");
+    }
+}
@@ -0,0 +1,112 @@
+package model;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Classe de testes do importador de jogos
+ * <p>
+ * Os testes de gravação não foram adicionados, por haver necessidade de integração com o banco!
+ * </p>
+ * @author Thiago Alexandre Buerger
+ * @version 1.0
+ */
+public class ImportadorJogosTest {
+    
+    public ImportadorJogosTest() {
+    }
+    
+    @BeforeClass
+    public static void setUpClass() {
+    }
+    
+    @AfterClass
+    public static void tearDownClass() {
+    }
+    
+    @Before
+    public void setUp() {
+    }
+    
+    @After
+    public void tearDown() {
+    }
+
+    /**
+     * Teste da leitura de linhas CSV
+     * <p>
+     * Primeiro teste: verifica a separação de campos simples.<br>
+     * Segundo teste: verifica a separação de campos entre aspas contendo vírgulas e aspas.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    @Test
+    public void testeLerCsv() {
+        System.out.println("Iniciando primeiro teste de leitura CSV...");
+        List<String> campos = ImportadorJogos.lerCsv("login,temporada,2020-01-01 10:00:00,10,descrição");
+        assertEquals(5, campos.size());
+        assertEquals("descrição", campos.get(4));
+        System.out.println("Resultado: " + campos);
+        System.out.println("Iniciando segundo teste de leitura CSV...");
+        campos = ImportadorJogos.lerCsv("login,\"temporada, 2020\",2020-01-01 10:00:00,10,\"jogo \"\"final\"\"\"");
+        assertEquals(5, campos.size());
+        assertEquals("temporada, 2020", campos.get(1));
+        assertEquals("jogo \"final\"", campos.get(4));
+        System.out.println("Resultado: " + campos);
+    }
+
+    /**
+     * Teste da leitura de linhas JSON
+     * <p>
+     * Primeiro teste: verifica a leitura de textos, números e caracteres de escape.<br>
+     * Segundo teste: verifica se uma linha inválida é rejeitada.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    @Test
+    public void testeLerJson() {
+        System.out.println("Iniciando primeiro teste de leitura JSON...");
+        Map<String, String> campos = ImportadorJogos.lerJson("{\"login\": \"joao\", \"placar\": 25, \"descricao\": \"jogo \\\"final\\\"\\u0021\", \"extra\": null}");
+        assertEquals("joao", campos.get("login"));
+        assertEquals("25", campos.get("placar"));
+        assertEquals("jogo \"final\"!", campos.get("descricao"));
+        assertNull(campos.get("extra"));
+        System.out.println("Resultado: " + campos);
+        System.out.println("Iniciando segundo teste de leitura JSON...");
+        boolean rejeitada = false;
+        try {
+            ImportadorJogos.lerJson("{\"login\": \"joao\"");
+        } catch (IllegalArgumentException e) {
+            rejeitada = true;
+        }
+        assertTrue(rejeitada);
+        System.out.println("Resultado: " + rejeitada);
+    }
+
+    /**
+     * Teste da conversão de uma linha em um objeto Jogo
+     * <p>
+     * Verifica se os campos da linha são atribuídos ao jogo, à temporada e ao jogador provisórios.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    @Test
+    public void testeInterpretar() {
+        System.out.println("Iniciando teste de conversão de linha...");
+        Jogo jogo = ImportadorJogos.interpretar("joao,Temporada 1,2020-01-01 10:00:00,10,descrição", ImportadorJogos.Formato.CSV);
+        assertEquals(Integer.valueOf(10), jogo.getPlacar());
+        assertEquals("descrição", jogo.getDescricao());
+        assertEquals("Temporada 1", jogo.getTemporada().getNome());
+        assertEquals("joao", jogo.getTemporada().getJogador().getLogin());
+        System.out.println("Resultado: " + jogo.getData());
+    }
+}
@@ -0,0 +1,81 @@
+package model;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Classe de testes do índice em memória dos nomes das temporadas
+ * @author Thiago Alexandre Buerger
+ * @version 1.0
+ */
+public class IndiceTemporadasTest {
+    
+    public IndiceTemporadasTest() {
+    }
+    
+    @BeforeClass
+    public static void setUpClass() {
+    }
+    
+    @AfterClass
+    public static void tearDownClass() {
+    }
+    
+    @Before
+    public void setUp() {
+    }
+    
+    @After
+    public void tearDown() {
+    }
+
+    /**
+     * Teste do método pesquisar
+     * <p>
+     * Primeiro teste: pesquisa por parte do nome, verificando as candidatas com os trigramas fora de ordem.<br>
+     * Segundo teste: pesquisa com menos de 3 caracteres e diferenciando maiúsculas e minúsculas.<br>
+     * Terceiro teste: alteração do nome de uma temporada.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    @Test
+    public void testePesquisar() {
+        IndiceTemporadas indice = new IndiceTemporadas();
+        indice.adicionar(1, "Temporada 2020");
+        indice.adicionar(2, "Verão 2021");
+        indice.adicionar(3, "porada Tem");
+        indice.adicionar(4, "Temporada 2021");
+        System.out.println("Iniciando primeiro teste do índice de temporadas...");
+        assertEquals(Arrays.asList(1, 4), ordenar(indice.pesquisar("Temporada")));
+        assertEquals(Arrays.asList(2, 4), ordenar(indice.pesquisar("2021")));
+        assertTrue(indice.pesquisar("Inverno").isEmpty());
+        System.out.println("Iniciando segundo teste do índice de temporadas...");
+        assertEquals(Arrays.asList(1, 2, 4), ordenar(indice.pesquisar("20")));
+        assertEquals(Arrays.asList(2), ordenar(indice.pesquisar("V")));
+        assertTrue(indice.pesquisar("temporada").isEmpty());
+        System.out.println("Iniciando terceiro teste do índice de temporadas...");
+        indice.adicionar(1, "Inverno");
+        assertEquals(Arrays.asList(4), ordenar(indice.pesquisar("Temporada")));
+        assertEquals(Arrays.asList(1), ordenar(indice.pesquisar("Inverno")));
+    }
+    
+    /**
+     * Método para ordenar a identificação das temporadas encontradas
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     * @param ids Lista Integer: temporadas encontradas
+     * @return Lista Integer: temporadas em ordem crescente
+     */
+    private List<Integer> ordenar(List<Integer> ids) {
+        Collections.sort(ids);
+        return ids;
+    }
+}
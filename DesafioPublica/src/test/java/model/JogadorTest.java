@@ -1,5 +1,7 @@
 package model;
 
+import java.util.Calendar;
+import java.util.Date;
 import org.junit.After;
 import org.junit.AfterClass;
 import org.junit.Before;
@@ -172,4 +174,52 @@ public class JogadorTest {
         assertEquals(expResult, result);
         System.out.println("Resultado: " + result);
     }
+
+    /**
+     * Teste do método registrarJogo da classe Jogador
+     * <p>
+     * Primeiro teste: verifica os dados agregados após o primeiro jogo do jogador.<br>
+     * Segundo teste: verifica os dados agregados após um jogo com quebra de recorde máximo.<br>
+     * Terceiro teste: verifica os dados agregados após um jogo anterior ao último jogo registrado.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    @Test
+    public void testeRegistrarJogo() {
+        Calendar cal = Calendar.getInstance();
+        System.out.println("Iniciando primeiro teste do método registrarJogo()...");
+        System.out.println("Instanciando objeto de teste do tipo Jogador sem jogos...");
+        Jogador jogadorTeste = new Jogador(null,"nome",0,0,0,0,"login","senha");
+        Date primeiraData = cal.getTime();
+        System.out.println("Registrando jogo com placar fictício (10)...");
+        jogadorTeste.registrarJogo(new Jogo(null, primeiraData, "descrição", 10, null));
+        System.out.println("Verificando os dados agregados...");
+        assertEquals(Integer.valueOf(1), jogadorTeste.getQtdJogos());
+        assertEquals(Long.valueOf(10), jogadorTeste.getSomaPontuacao());
+        assertEquals(Integer.valueOf(10), jogadorTeste.getMinimo());
+        assertEquals(Integer.valueOf(10), jogadorTeste.getMaximo());
+        assertEquals(Integer.valueOf(0), jogadorTeste.getQtdQuebraRecordeMax());
+        assertEquals(primeiraData, jogadorTeste.getDataUltimoJogo());
+        System.out.println("Iniciando segundo teste do método registrarJogo()...");
+        cal.add(Calendar.HOUR, 1);
+        Date segundaData = cal.getTime();
+        System.out.println("Registrando jogo com placar fictício (15)...");
+        jogadorTeste.registrarJogo(new Jogo(null, segundaData, "descrição", 15, null));
+        System.out.println("Verificando os dados agregados...");
+        assertEquals(Integer.valueOf(2), jogadorTeste.getQtdJogos());
+        assertEquals(Long.valueOf(25), jogadorTeste.getSomaPontuacao());
+        assertEquals(Integer.valueOf(15), jogadorTeste.getMaximo());
+        assertEquals(Integer.valueOf(1), jogadorTeste.getQtdQuebraRecordeMax());
+        assertEquals(segundaData, jogadorTeste.getDataUltimoJogo());
+        System.out.println("Iniciando terceiro teste do método registrarJogo()...");
+        cal.add(Calendar.DATE, -1);
+        System.out.println("Registrando jogo anterior com placar fictício (12)...");
+        jogadorTeste.registrarJogo(new Jogo(null, cal.getTime(), "descrição", 12, null));
+        System.out.println("Verificando os dados agregados...");
+        assertEquals(Integer.valueOf(3), jogadorTeste.getQtdJogos());
+        assertEquals(Long.valueOf(37), jogadorTeste.getSomaPontuacao());
+        assertEquals(segundaData, jogadorTeste.getDataUltimoJogo());
+        System.out.println("Resultado: " + jogadorTeste.getQtdJogos() + " jogos registrados");
+    }
 }
\ No newline at end of file
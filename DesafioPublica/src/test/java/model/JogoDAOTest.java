@@ -1,7 +1,11 @@
 package model;
 
+import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.List;
 import org.junit.After;
 import org.junit.AfterClass;
 import org.junit.Before;
@@ -82,4 +86,75 @@ public class JogoDAOTest {
         assertEquals(expResult, result);
         System.out.println("Resultado: " + result);
     }
-}
\ No newline at end of file
+
+    /**
+     * Teste do método adicionarLote() da classe JogoDAO
+     * <p>
+     * Este teste não inclui o teste com valores válidos, por haver necessidade de integração com métodos de outras classes!<br>
+     * Primeiro teste: verifica a resposta obtida ao adicionar um lote vazio.<br>
+     * Segundo teste: verifica a resposta obtida ao adicionar um lote com um jogo inválido.<br>
+     * Terceiro teste: verifica a resposta obtida ao adicionar um lote com temporada sem jogador.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    @Test
+    public void testeAdicionarLote() {
+        Temporada temporada = new Temporada();
+        System.out.println("Iniciando primeiro teste de adicionarLote...");
+        System.out.println("Definindo valor experado (Nenhum jogo informado!)...");
+        String expResult = "Nenhum jogo informado!";
+        System.out.println("Adicionando lote vazio...");
+        String result = dao.adicionarLote(new ArrayList<>());
+        assertEquals(expResult, result);
+        System.out.println("Resultado: " + result);
+        System.out.println("Iniciando segundo teste de adicionarLote...");
+        System.out.println("Instanciando lote com um jogo válido e um jogo inválido...");
+        List<Jogo> lote = new ArrayList<>();
+        lote.add(new Jogo(null, new Date(), "descrição de teste", 10, temporada));
+        lote.add(new Jogo(null, null, "", -1, null));
+        System.out.println("Definindo valor experado (Valores Inválidos!)...");
+        expResult = "Valores Inválidos!";
+        result = dao.adicionarLote(lote);
+        assertEquals(expResult, result);
+        System.out.println("Resultado: " + result);
+        System.out.println("Iniciando terceiro teste de adicionarLote...");
+        System.out.println("Instanciando lote com temporada sem jogador...");
+        lote = new ArrayList<>();
+        lote.add(new Jogo(null, new Date(), "descrição de teste", 10, temporada));
+        System.out.println("Definindo valor experado (Valores Inválidos!)...");
+        result = dao.adicionarLote(lote);
+        assertEquals(expResult, result);
+        System.out.println("Resultado: " + result);
+    }
+
+    /**
+     * Teste do método jogoRepetido() da classe JogoDAO
+     * <p>
+     * Primeiro teste: verifica uma violação da chave única (jogador_jogo, data_jogo) encapsulada em outra exceção.<br>
+     * Segundo teste: verifica uma violação de chave estrangeira, que não caracteriza jogo repetido.<br>
+     * Terceiro teste: verifica uma exceção sem causa no banco.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    @Test
+    public void testeJogoRepetido() {
+        System.out.println("Iniciando primeiro teste de jogoRepetido...");
+        SQLException chaveUnica = new SQLIntegrityConstraintViolationException(
+                "Duplicate entry '1-2020-01-01 10:00:00' for key 'uk_jogo_jogador_data'", "23000", 1062);
+        boolean result = JogoDAO.jogoRepetido(new RuntimeException(new RuntimeException(chaveUnica)));
+        assertTrue(result);
+        System.out.println("Resultado: " + result);
+        System.out.println("Iniciando segundo teste de jogoRepetido...");
+        SQLException chaveEstrangeira = new SQLIntegrityConstraintViolationException(
+                "Cannot add or update a child row: a foreign key constraint fails", "23000", 1452);
+        result = JogoDAO.jogoRepetido(new RuntimeException(chaveEstrangeira));
+        assertFalse(result);
+        System.out.println("Resultado: " + result);
+        System.out.println("Iniciando terceiro teste de jogoRepetido...");
+        result = JogoDAO.jogoRepetido(new IllegalStateException("teste"));
+        assertFalse(result);
+        System.out.println("Resultado: " + result);
+    }
+}
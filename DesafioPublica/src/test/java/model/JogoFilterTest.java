@@ -0,0 +1,67 @@
+package model;
+
+import java.util.Date;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Classe de testes do jogo de referência da paginação por chave do filtro de jogos
+ * @author Thiago Alexandre Buerger
+ * @version 1.0
+ */
+public class JogoFilterTest {
+    
+    public JogoFilterTest() {
+    }
+    
+    @BeforeClass
+    public static void setUpClass() {
+    }
+    
+    @AfterClass
+    public static void tearDownClass() {
+    }
+    
+    @Before
+    public void setUp() {
+    }
+    
+    @After
+    public void tearDown() {
+    }
+
+    /**
+     * Teste do método definirReferencia
+     * <p>
+     * Primeiro teste: sem referência, a consulta utiliza o primeiro registro (offset).<br>
+     * Segundo teste: com referência, a consulta utiliza a data e o id do jogo.<br>
+     * Terceiro teste: consulta invertida sem referência (última página).
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    @Test
+    public void testeDefinirReferencia() {
+        System.out.println("Iniciando primeiro teste do filtro de jogos...");
+        JogoFilter filtro = new JogoFilter();
+        assertFalse(filtro.isPaginacaoChave());
+        System.out.println("Iniciando segundo teste do filtro de jogos...");
+        Date data = new Date();
+        filtro.definirReferencia(new LinhaJogo(7, data, "", 10, "Temporada", 0, 10), false);
+        assertTrue(filtro.isPaginacaoChave());
+        assertEquals(data, filtro.getReferenciaData());
+        assertEquals(Integer.valueOf(7), filtro.getReferenciaId());
+        assertFalse(filtro.isInvertido());
+        System.out.println("Iniciando terceiro teste do filtro de jogos...");
+        filtro.definirReferencia(null, true);
+        assertTrue(filtro.isPaginacaoChave());
+        assertNull(filtro.getReferenciaData());
+        assertNull(filtro.getReferenciaId());
+        filtro.definirReferencia(null, false);
+        assertFalse(filtro.isPaginacaoChave());
+    }
+}
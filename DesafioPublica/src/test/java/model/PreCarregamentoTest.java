@@ -0,0 +1,65 @@
+package model;
+
+import java.util.Arrays;
+import java.util.List;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Classe de testes do pré-carregamento da próxima página dos paginadores
+ * @author Thiago Alexandre Buerger
+ * @version 1.0
+ */
+public class PreCarregamentoTest {
+    
+    public PreCarregamentoTest() {
+    }
+    
+    @BeforeClass
+    public static void setUpClass() {
+    }
+    
+    @AfterClass
+    public static void tearDownClass() {
+        PreCarregamento.encerrar();
+    }
+    
+    @Before
+    public void setUp() {
+    }
+    
+    @After
+    public void tearDown() {
+    }
+
+    /**
+     * Teste do método obter
+     * <p>
+     * Primeiro teste: a página agendada é obtida com a mesma chave.<br>
+     * Segundo teste: a página não é obtida com outra chave.<br>
+     * Terceiro teste: a página não é obtida após a invalidação dos dados do jogador.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    @Test
+    public void testeObter() {
+        List<Integer> registros = Arrays.asList(1, 2, 3);
+        System.out.println("Iniciando primeiro teste do pré-carregamento...");
+        PreCarregamento<Integer> pagina = PreCarregamento.agendar("10:10", -100, () -> registros);
+        assertNotNull(pagina);
+        assertEquals(registros, pagina.obter("10:10"));
+        System.out.println("Iniciando segundo teste do pré-carregamento...");
+        pagina = PreCarregamento.agendar("10:10", -100, () -> registros);
+        assertNull(pagina.obter("20:10"));
+        System.out.println("Iniciando terceiro teste do pré-carregamento...");
+        pagina = PreCarregamento.agendar("10:10", -100, () -> registros);
+        CacheConsultas.invalidar(-100);
+        assertNull(pagina.obter("10:10"));
+        assertNull(PreCarregamento.agendar("10:10", null, () -> registros));
+    }
+}
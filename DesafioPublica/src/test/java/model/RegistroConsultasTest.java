@@ -0,0 +1,88 @@
+package model;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Classe de testes das consultas registradas para a paginação de jogos e temporadas
+ * @author Thiago Alexandre Buerger
+ * @version 1.0
+ */
+public class RegistroConsultasTest {
+    
+    private static final String SELECAO = "select new model.LinhaJogo(j.id, j.data, j.descricao, j.placar, t.nome, t.minimo, t.maximo) "
+            + "from Jogo j join j.temporada t where ";
+    
+    public RegistroConsultasTest() {
+    }
+    
+    @BeforeClass
+    public static void setUpClass() {
+    }
+    
+    @AfterClass
+    public static void tearDownClass() {
+    }
+    
+    @Before
+    public void setUp() {
+    }
+    
+    @After
+    public void tearDown() {
+    }
+
+    /**
+     * Teste das consultas registradas
+     * <p>
+     * Primeiro teste: verifica a consulta de jogos da temporada, crescente e sem referência.<br>
+     * Segundo teste: verifica a condicional de referência das consultas de jogos do jogador em ordem decrescente 
+     * e da temporada em ordem crescente, que filtram pela coluna de início do índice (jogador_jogo ou temporada_jogo).<br>
+     * Terceiro teste: verifica as consultas de contagem, de temporadas com filtro de nome e as consultas dos DAOs (login e data do jogo).<br>
+     * Quarto teste: verifica as ordenações permitidas e a ordenação padrão para propriedades não permitidas.<br>
+     * Quinto teste: verifica as consultas SQL de página com total.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    @Test
+    public void testeConsultas() {
+        System.out.println("Iniciando primeiro teste das consultas registradas...");
+        assertEquals(SELECAO + "j.temporada = :temporada order by j.data asc, j.id asc",
+                RegistroConsultas.jpql(RegistroConsultas.nomeJogos(true, null, false, true)));
+        System.out.println("Iniciando segundo teste das consultas registradas...");
+        assertEquals(SELECAO + "j.idJogador = :jogador and j.data <= :data and (j.data < :data or j.id < :id) "
+                + "order by j.data desc, j.id desc", RegistroConsultas.jpql(RegistroConsultas.nomeJogos(false, "data", true, false)));
+        assertEquals(SELECAO + "j.temporada = :temporada and j.data >= :data and (j.data > :data or j.id > :id) "
+                + "order by j.data asc, j.id asc", RegistroConsultas.jpql(RegistroConsultas.nomeJogos(true, "data", true, true)));
+        System.out.println("Iniciando terceiro teste das consultas registradas...");
+        assertEquals("select count(j) from Jogo j where j.idJogador = :jogador",
+                RegistroConsultas.jpql(RegistroConsultas.nomeContagemJogos(false)));
+        assertEquals("select t from Temporada t where t.jogador = :jogador and t.nome like :nome order by t.nome desc, t.id desc",
+                RegistroConsultas.jpql(RegistroConsultas.nomeTemporadas(true, "nome", false)));
+        assertEquals("select count(t) from Temporada t where t.jogador = :jogador",
+                RegistroConsultas.jpql(RegistroConsultas.nomeContagemTemporadas(false)));
+        assertEquals("select j from Jogador j where j.login = :pLogin", RegistroConsultas.jpql(RegistroConsultas.JOGADOR_POR_LOGIN));
+        assertEquals("select count(j) from Jogo j where j.idJogador = :pJogador and j.data = :pData",
+                RegistroConsultas.jpql(RegistroConsultas.CONTAGEM_DATA_JOGO));
+        System.out.println("Iniciando quarto teste das consultas registradas...");
+        assertEquals(SELECAO + "j.idJogador = :jogador order by j.placar asc, j.id asc",
+                RegistroConsultas.jpql(RegistroConsultas.nomeJogos(false, "placar", true, true)));
+        assertEquals("data", RegistroConsultas.ordenacaoJogos("descricao"));
+        assertEquals("nomeTemporada", RegistroConsultas.ordenacaoJogos("nomeTemporada"));
+        assertEquals("nome", RegistroConsultas.ordenacaoTemporadas("id; drop table jogo"));
+        assertEquals("select t from Temporada t where t.jogador = :jogador order by t.maximo desc, t.id desc",
+                RegistroConsultas.jpql(RegistroConsultas.nomeTemporadas(false, "maximo", false)));
+        System.out.println("Iniciando quinto teste das consultas registradas...");
+        assertEquals("select j.id_jogo, j.data_jogo, j.descricao_jogo, j.placar_jogo, t.nome_temporada, t.min_temporada, t.max_temporada, "
+                + "count(*) over() from jogo j join temporada t on t.id_temporada = j.temporada_jogo where j.jogador_jogo = :jogador "
+                + "order by j.placar_jogo desc, j.id_jogo desc", RegistroConsultas.sql(RegistroConsultas.nomePaginaJogos(false, "placar", false)));
+        assertEquals("select t.id_temporada, t.nome_temporada, t.min_temporada, t.max_temporada, count(*) over() from temporada t "
+                + "where t.jogador_temporada = :jogador and t.nome_temporada like :nome order by t.nome_temporada asc, t.id_temporada asc",
+                RegistroConsultas.sql(RegistroConsultas.nomePaginaTemporadas(true, "senha", true)));
+    }
+}
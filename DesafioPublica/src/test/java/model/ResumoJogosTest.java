@@ -0,0 +1,137 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.List;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Classe de testes do resumo de jogos utilizado na atualização assíncrona dos dados agregados
+ * @author Thiago Alexandre Buerger
+ * @version 1.0
+ */
+public class ResumoJogosTest {
+    
+    public ResumoJogosTest() {
+    }
+    
+    @BeforeClass
+    public static void setUpClass() {
+    }
+    
+    @AfterClass
+    public static void tearDownClass() {
+    }
+    
+    @Before
+    public void setUp() {
+    }
+    
+    @After
+    public void tearDown() {
+    }
+
+    /**
+     * Teste do método adicionar e do comando de atualização do jogador
+     * <p>
+     * Primeiro teste: verifica a quantidade, soma, mínimo, máximo e data do último jogo acumulados.<br>
+     * Segundo teste: verifica as pontuações que quebraram o mínimo e o máximo dentro do resumo.<br>
+     * Terceiro teste: verifica a quantidade de parâmetros do comando gerado para o jogador.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    @Test
+    public void testeResumo() {
+        System.out.println("Iniciando primeiro teste do resumo de jogos...");
+        Jogador jogador = new Jogador(1,"Jogador",0,0,0,0,"jogador","123456");
+        Temporada temporada = new Temporada(1,"Temporada",0,0,jogador);
+        ResumoJogos resumo = new ResumoJogos();
+        Calendar calendario = Calendar.getInstance();
+        int[] placares = {10, 12, 8, 9, 15, 3};
+        for (int placar : placares) {
+            calendario.add(Calendar.HOUR, 1);
+            resumo.adicionar(new Jogo(null, calendario.getTime(), "", placar, temporada));
+        }
+        assertEquals(6, resumo.getQuantidade());
+        assertEquals(57, resumo.getSoma());
+        assertEquals(3, resumo.getMinimo());
+        assertEquals(15, resumo.getMaximo());
+        assertEquals(calendario.getTime(), resumo.getUltimaData());
+        System.out.println("Iniciando segundo teste do resumo de jogos...");
+        assertEquals(Arrays.asList(10, 8, 3), resumo.getRecordesMinimo());
+        assertEquals(Arrays.asList(10, 12, 15), resumo.getRecordesMaximo());
+        System.out.println("Iniciando terceiro teste do resumo de jogos...");
+        String sql = AtualizadorAgregados.comandoJogador(resumo);
+        assertEquals(1 + 3 + 1 + 3 + 8 + 1, sql.length() - sql.replace("?", "").length());
+        System.out.println("Resultado: " + sql);
+    }
+
+    /**
+     * Teste da ordem de quebra de recordes com jogos cadastrados fora da ordem das datas
+     * <p>
+     * Primeiro teste: verifica se o resumo acumulado na ordem de inserção (RecalculoAgregados) gera os mesmos dados 
+     * do método registrarJogo do Jogador (atualizarRecordes) aplicado na mesma ordem.<br>
+     * Segundo teste: verifica se o cálculo a partir do diário (ReconstrutorAgregados) gera os mesmos dados, 
+     * mesmo com os eventos incluídos em ordem de data.<br>
+     * Terceiro teste: verifica se a ordem das datas geraria quebras de recorde diferentes, confirmando a importância da ordem.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    @Test
+    public void testeOrdemInsercao() {
+        System.out.println("Iniciando primeiro teste da ordem de inserção...");
+        Jogador jogador = new Jogador(1,"Jogador",0,0,0,0,"jogador","123456");
+        Jogador esperado = new Jogador(1,"Jogador",0,0,0,0,"jogador","123456");
+        Temporada temporada = new Temporada(1,"Temporada",0,0,jogador);
+        Calendar calendario = Calendar.getInstance();
+        calendario.add(Calendar.YEAR, -1);
+        int[] placares = {10, 12, 8, 9, 15, 3, 20, 1};
+        int[] dias = {5, 1, 7, 2, 3, 8, 4, 6};
+        List<Jogo> jogos = new ArrayList<>();
+        ResumoJogos resumo = new ResumoJogos();
+        for (int i = 0; i < placares.length; i++) {
+            Calendar data = (Calendar) calendario.clone();
+            data.add(Calendar.DATE, dias[i]);
+            Jogo jogo = new Jogo(i + 1, data.getTime(), "Jogo", placares[i], temporada);
+            jogos.add(jogo);
+            resumo.adicionar(jogo.getPlacar(), jogo.getData());
+            esperado.registrarJogo(jogo);
+        }
+        assertEquals(esperado.getMinimo().intValue(), resumo.getMinimo());
+        assertEquals(esperado.getMaximo().intValue(), resumo.getMaximo());
+        assertEquals(esperado.getQtdQuebraRecordeMin().intValue(), resumo.getQuebrasMinimo());
+        assertEquals(esperado.getQtdQuebraRecordeMax().intValue(), resumo.getQuebrasMaximo());
+        assertEquals(esperado.getQtdJogos().intValue(), resumo.getQuantidade());
+        assertEquals(esperado.getSomaPontuacao().longValue(), resumo.getSoma());
+        assertEquals(esperado.getDataUltimoJogo(), resumo.getUltimaData());
+        System.out.println("Iniciando segundo teste da ordem de inserção...");
+        List<Jogo> porData = new ArrayList<>(jogos);
+        porData.sort((a, b) -> a.getData().compareTo(b.getData()));
+        CalculoAgregados calculo = new CalculoAgregados();
+        for (Jogo jogo : porData) {
+            calculo.aplicar(new JogoEvento(JogoEvento.Tipo.INCLUSAO, jogo));
+        }
+        ResumoJogos diario = calculo.jogador();
+        assertEquals(resumo.getRecordesMinimo(), diario.getRecordesMinimo());
+        assertEquals(resumo.getRecordesMaximo(), diario.getRecordesMaximo());
+        assertEquals(resumo.getQuebrasMinimo(), diario.getQuebrasMinimo());
+        assertEquals(resumo.getQuebrasMaximo(), diario.getQuebrasMaximo());
+        System.out.println("Iniciando terceiro teste da ordem de inserção...");
+        ResumoJogos cronologico = new ResumoJogos();
+        for (Jogo jogo : porData) {
+            cronologico.adicionar(jogo.getPlacar(), jogo.getData());
+        }
+        assertEquals(resumo.getMinimo(), cronologico.getMinimo());
+        assertEquals(resumo.getMaximo(), cronologico.getMaximo());
+        assertNotEquals(resumo.getRecordesMaximo(), cronologico.getRecordesMaximo());
+        System.out.println("Resultado: " + resumo.getQuebrasMinimo() + " quebras do mínimo e " + resumo.getQuebrasMaximo() + " quebras do máximo");
+    }
+}
@@ -86,4 +86,25 @@ public class TemporadaDAOTest {
         assertEquals(expResult, result);
         System.out.println("Resultado: " + result);
     }
-}
\ No newline at end of file
+
+    /**
+     * Teste do método prefixoLike() da classe TemporadaDAO
+     * <p>
+     * Primeiro teste: verifica a conversão do texto digitado para letras minúsculas.<br>
+     * Segundo teste: verifica o escape dos curingas % e _ e do próprio caractere de escape.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    @Test
+    public void testPrefixoLike() {
+        System.out.println("Iniciando primeiro teste de prefixoLike...");
+        String result = TemporadaDAO.prefixoLike("Verão");
+        assertEquals("verão%", result);
+        System.out.println("Resultado: " + result);
+        System.out.println("Iniciando segundo teste de prefixoLike...");
+        result = TemporadaDAO.prefixoLike("100%_A!");
+        assertEquals("100!%!_a!!%", result);
+        System.out.println("Resultado: " + result);
+    }
+}
@@ -1,5 +1,6 @@
 package model;
 
+import java.util.Date;
 import org.junit.After;
 import org.junit.AfterClass;
 import org.junit.Before;
@@ -86,4 +87,76 @@ public class TemporadaTest {
         assertEquals(expResult, result);
         System.out.println("Resultado: " + result);
     }
-}
\ No newline at end of file
+
+    /**
+     * Teste do método registrarJogo da classe Temporada
+     * <p>
+     * Primeiro teste: verifica os dados agregados após o primeiro jogo da temporada.<br>
+     * Segundo teste: verifica os dados agregados após um jogo com nova pontuação mínima.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    @Test
+    public void testeRegistrarJogo() {
+        Date data = new Date();
+        System.out.println("Iniciando primeiro teste do método registrarJogo()...");
+        System.out.println("Instanciando objeto de teste do tipo Temporada sem jogos...");
+        Temporada temporadaTeste = new Temporada(null,"nome",0,0,new Jogador());
+        System.out.println("Registrando jogo com placar fictício (10)...");
+        temporadaTeste.registrarJogo(new Jogo(null, data, "descrição", 10, temporadaTeste));
+        System.out.println("Verificando os dados agregados...");
+        assertEquals(Integer.valueOf(1), temporadaTeste.getQtdJogos());
+        assertEquals(Long.valueOf(10), temporadaTeste.getSomaPontuacao());
+        assertEquals(Integer.valueOf(10), temporadaTeste.getMinimo());
+        assertEquals(Integer.valueOf(10), temporadaTeste.getMaximo());
+        assertEquals(data, temporadaTeste.getDataUltimoJogo());
+        System.out.println("Iniciando segundo teste do método registrarJogo()...");
+        System.out.println("Registrando jogo com placar fictício (4)...");
+        temporadaTeste.registrarJogo(new Jogo(null, data, "descrição", 4, temporadaTeste));
+        System.out.println("Verificando os dados agregados...");
+        assertEquals(Integer.valueOf(2), temporadaTeste.getQtdJogos());
+        assertEquals(Long.valueOf(14), temporadaTeste.getSomaPontuacao());
+        assertEquals(Integer.valueOf(4), temporadaTeste.getMinimo());
+        assertEquals(Integer.valueOf(10), temporadaTeste.getMaximo());
+        System.out.println("Resultado: " + temporadaTeste.getQtdJogos() + " jogos registrados");
+    }
+
+    /**
+     * Teste do método copia da classe Temporada
+     * <p>
+     * Primeiro teste: verifica se a cópia possui os mesmos dados da temporada.<br>
+     * Segundo teste: verifica se a alteração da cópia (inclusive do jogador) não altera a temporada original.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    @Test
+    public void testeCopia() {
+        Jogador jogador = new Jogador();
+        jogador.setId(1);
+        jogador.setNome("jogador");
+        System.out.println("Iniciando primeiro teste do método copia()...");
+        Temporada temporadaTeste = new Temporada(1,"nome",0,0,jogador);
+        temporadaTeste.registrarJogo(new Jogo(null, new Date(), "descrição", 10, temporadaTeste));
+        Temporada copia = temporadaTeste.copia();
+        assertEquals(temporadaTeste.getId(), copia.getId());
+        assertEquals(temporadaTeste.getNome(), copia.getNome());
+        assertEquals(temporadaTeste.getMinimo(), copia.getMinimo());
+        assertEquals(temporadaTeste.getMaximo(), copia.getMaximo());
+        assertEquals(temporadaTeste.getQtdJogos(), copia.getQtdJogos());
+        assertEquals(temporadaTeste.getSomaPontuacao(), copia.getSomaPontuacao());
+        assertEquals(temporadaTeste.getDataUltimoJogo(), copia.getDataUltimoJogo());
+        assertNotSame(jogador, copia.getJogador());
+        assertEquals(jogador.getId(), copia.getJogador().getId());
+        assertEquals(jogador.getNome(), copia.getJogador().getNome());
+        System.out.println("Iniciando segundo teste do método copia()...");
+        copia.setNome("outro nome");
+        copia.getDataUltimoJogo().setTime(0);
+        copia.getJogador().setNome("outro jogador");
+        assertEquals("nome", temporadaTeste.getNome());
+        assertEquals("jogador", jogador.getNome());
+        assertNotEquals(0, temporadaTeste.getDataUltimoJogo().getTime());
+        System.out.println("Resultado: " + copia.getNome());
+    }
+}
@@ -0,0 +1,83 @@
+package util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Classe de testes do cache da aplicação (Caffeine)
+ * @author Thiago Alexandre Buerger
+ * @version 1.0
+ */
+public class CacheAplicacaoTest {
+
+    public CacheAplicacaoTest() {
+    }
+
+    @BeforeClass
+    public static void setUpClass() {
+    }
+
+    @AfterClass
+    public static void tearDownClass() {
+    }
+
+    @Before
+    public void setUp() {
+    }
+
+    @After
+    public void tearDown() {
+    }
+
+    /**
+     * Teste dos métodos obter, colocar, invalidar e limpar
+     * <p>
+     * Primeiro teste: verifica se a quantidade de valores não excede a capacidade.<br>
+     * Segundo teste: verifica se um valor carregado antes de uma invalidação (ou limpeza) não é inserido.<br>
+     * Terceiro teste: verifica se os valores expiram após o tempo informado desde a inserção, mesmo quando acessados.<br>
+     * Quarto teste: verifica se o cache com capacidade 0 ou expiração 0 fica desabilitado.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    @Test
+    public void testeCache() {
+        AtomicLong relogio = new AtomicLong();
+        CacheAplicacao<Integer, String> cache = new CacheAplicacao<>("teste", 100, 1000, relogio::get, Runnable::run);
+        System.out.println("Iniciando primeiro teste do cache da aplicação...");
+        for (int i = 0; i < 500; i++) {
+            assertTrue(cache.colocar(i, "valor " + i, cache.geracao(i)));
+        }
+        assertTrue(cache.tamanho() <= 100);
+        System.out.println("Iniciando segundo teste do cache da aplicação...");
+        cache.limpar();
+        assertEquals(0, cache.tamanho());
+        long geracao = cache.geracao(0);
+        cache.invalidar(0);
+        assertFalse(cache.colocar(0, "antigo", geracao));
+        assertNull(cache.obter(0));
+        assertTrue(cache.colocar(0, "novo", cache.geracao(0)));
+        assertEquals("novo", cache.obter(0));
+        geracao = cache.geracao(1);
+        cache.limpar();
+        assertFalse(cache.colocar(1, "antigo", geracao));
+        System.out.println("Iniciando terceiro teste do cache da aplicação...");
+        assertTrue(cache.colocar(2, "expira", cache.geracao(2)));
+        relogio.addAndGet(TimeUnit.MILLISECONDS.toNanos(600));
+        assertEquals("expira", cache.obter(2));
+        relogio.addAndGet(TimeUnit.MILLISECONDS.toNanos(600));
+        assertNull(cache.obter(2));
+        assertTrue(cache.getEstatisticas().hitCount() > 0);
+        assertTrue(cache.getEstatisticas().missCount() > 0);
+        System.out.println("Iniciando quarto teste do cache da aplicação...");
+        assertFalse(new CacheAplicacao<Integer, String>("sem capacidade", 0, 1000).colocar(1, "valor", 0));
+        assertFalse(new CacheAplicacao<Integer, String>("sem expiração", 100, 0).colocar(1, "valor", 0));
+        System.out.println("Resultado: " + cache.estatisticas());
+    }
+}
@@ -0,0 +1,59 @@
+package util;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Classe de testes das configurações da aplicação
+ * @author Thiago Alexandre Buerger
+ * @version 1.0
+ */
+public class ConfiguracaoTest {
+    
+    public ConfiguracaoTest() {
+    }
+    
+    @BeforeClass
+    public static void setUpClass() {
+    }
+    
+    @AfterClass
+    public static void tearDownClass() {
+    }
+    
+    @Before
+    public void setUp() {
+    }
+    
+    @After
+    public void tearDown() {
+    }
+
+    /**
+     * Teste dos métodos de leitura das configurações
+     * <p>
+     * Primeiro teste: verifica a leitura de uma configuração presente no arquivo configuracao.properties.<br>
+     * Segundo teste: verifica o uso do valor padrão para configurações inexistentes ou inválidas.<br>
+     * Terceiro teste: verifica a prioridade das propriedades do sistema sobre o arquivo.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    @Test
+    public void testeConfiguracao() {
+        System.out.println("Iniciando primeiro teste das configurações...");
+        assertTrue(Configuracao.getBooleano("agregados.atualizacao.atomica", false));
+        System.out.println("Iniciando segundo teste das configurações...");
+        assertEquals("padrao", Configuracao.getTexto("configuracao.inexistente", "padrao"));
+        System.setProperty("configuracao.teste.inteiro", "abc");
+        assertEquals(10, Configuracao.getInteiro("configuracao.teste.inteiro", 10));
+        System.out.println("Iniciando terceiro teste das configurações...");
+        System.setProperty("configuracao.teste.inteiro", "25");
+        assertEquals(25, Configuracao.getInteiro("configuracao.teste.inteiro", 10));
+        System.clearProperty("configuracao.teste.inteiro");
+    }
+}
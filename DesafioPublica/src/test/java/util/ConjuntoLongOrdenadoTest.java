@@ -0,0 +1,67 @@
+package util;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Classe de testes do conjunto ordenado de valores long
+ * @author Thiago Alexandre Buerger
+ * @version 1.0
+ */
+public class ConjuntoLongOrdenadoTest {
+    
+    public ConjuntoLongOrdenadoTest() {
+    }
+    
+    @BeforeClass
+    public static void setUpClass() {
+    }
+    
+    @AfterClass
+    public static void tearDownClass() {
+    }
+    
+    @Before
+    public void setUp() {
+    }
+    
+    @After
+    public void tearDown() {
+    }
+
+    /**
+     * Teste dos métodos adicionar e contem
+     * <p>
+     * Primeiro teste: verifica a inserção de valores fora de ordem e a ordenação resultante.<br>
+     * Segundo teste: verifica se valores repetidos são ignorados.<br>
+     * Terceiro teste: verifica a consulta de valores existentes e inexistentes.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    @Test
+    public void testeAdicionarContem() {
+        System.out.println("Iniciando primeiro teste do conjunto ordenado...");
+        ConjuntoLongOrdenado conjunto = new ConjuntoLongOrdenado(2);
+        long[] valores = {50, 10, 40, 20, 30, -5};
+        for (long valor : valores) {
+            assertTrue(conjunto.adicionar(valor));
+        }
+        assertEquals(6, conjunto.tamanho());
+        for (int i = 1; i < conjunto.tamanho(); i++) {
+            assertTrue(conjunto.valor(i - 1) < conjunto.valor(i));
+        }
+        System.out.println("Iniciando segundo teste do conjunto ordenado...");
+        assertFalse(conjunto.adicionar(40));
+        assertEquals(6, conjunto.tamanho());
+        System.out.println("Iniciando terceiro teste do conjunto ordenado...");
+        assertTrue(conjunto.contem(-5));
+        assertTrue(conjunto.contem(50));
+        assertFalse(conjunto.contem(35));
+        System.out.println("Resultado: " + conjunto.tamanho() + " valores");
+    }
+}
@@ -0,0 +1,72 @@
+package util;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Classe de testes da contagem de comandos SQL por requisição
+ * @author Thiago Alexandre Buerger
+ * @version 1.0
+ */
+public class ContadorSqlTest {
+    
+    public ContadorSqlTest() {
+    }
+    
+    @BeforeClass
+    public static void setUpClass() {
+    }
+    
+    @AfterClass
+    public static void tearDownClass() {
+    }
+    
+    @Before
+    public void setUp() {
+    }
+    
+    @After
+    public void tearDown() {
+        ContadorSql.finalizar();
+    }
+
+    /**
+     * Teste da contagem e do limite de comandos
+     * <p>
+     * Primeiro teste: sem contagem iniciada, os comandos não são contados.<br>
+     * Segundo teste: com a contagem iniciada sem limite, todos os comandos são contados.<br>
+     * Terceiro teste: com limite, o comando que excede o limite lança uma exceção.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    @Test
+    public void testeContagem() {
+        System.out.println("Iniciando primeiro teste da contagem de comandos SQL...");
+        ContadorSql contador = new ContadorSql();
+        assertEquals("select 1", contador.inspect("select 1"));
+        assertEquals(0, ContadorSql.quantidade());
+        System.out.println("Iniciando segundo teste da contagem de comandos SQL...");
+        ContadorSql.iniciar(0);
+        for (int i = 0; i < 5; i++) {
+            contador.inspect("select 1");
+        }
+        assertEquals(5, ContadorSql.finalizar());
+        assertEquals(0, ContadorSql.quantidade());
+        System.out.println("Iniciando terceiro teste da contagem de comandos SQL...");
+        ContadorSql.iniciar(2);
+        contador.inspect("select 1");
+        contador.inspect("select 2");
+        try {
+            contador.inspect("select 3");
+            fail("O limite de comandos deveria ser excedido");
+        } catch (IllegalStateException e) {
+            System.out.println("Resultado: " + e.getMessage());
+        }
+        assertEquals(3, ContadorSql.finalizar());
+    }
+}
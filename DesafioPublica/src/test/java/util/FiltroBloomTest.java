@@ -0,0 +1,66 @@
+package util;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Classe de testes do filtro de Bloom
+ * @author Thiago Alexandre Buerger
+ * @version 1.0
+ */
+public class FiltroBloomTest {
+    
+    public FiltroBloomTest() {
+    }
+    
+    @BeforeClass
+    public static void setUpClass() {
+    }
+    
+    @AfterClass
+    public static void tearDownClass() {
+    }
+    
+    @Before
+    public void setUp() {
+    }
+    
+    @After
+    public void tearDown() {
+    }
+
+    /**
+     * Teste dos métodos adicionar e talvezContem
+     * <p>
+     * Primeiro teste: verifica se nenhum valor adicionado retorna falso negativo.<br>
+     * Segundo teste: verifica se a taxa de falso positivo se mantém próxima da configurada.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    @Test
+    public void testeTalvezContem() {
+        System.out.println("Iniciando primeiro teste do filtro de Bloom...");
+        FiltroBloom filtro = new FiltroBloom(10000, 0.01);
+        for (long i = 0; i < 10000; i++) {
+            filtro.adicionar(1577836800L + i * 60);
+        }
+        for (long i = 0; i < 10000; i++) {
+            assertTrue(filtro.talvezContem(1577836800L + i * 60));
+        }
+        assertFalse(filtro.excedido());
+        System.out.println("Iniciando segundo teste do filtro de Bloom...");
+        int falsosPositivos = 0;
+        for (long i = 0; i < 10000; i++) {
+            if (filtro.talvezContem(1577836800L + i * 60 + 30)) {
+                falsosPositivos++;
+            }
+        }
+        assertTrue(falsosPositivos < 300);
+        System.out.println("Resultado: " + falsosPositivos + " falsos positivos em 10000 consultas");
+    }
+}
@@ -0,0 +1,70 @@
+package util;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Classe de testes da memorização de consultas durante a requisição
+ * @author Thiago Alexandre Buerger
+ * @version 1.0
+ */
+public class MemorizadorTest {
+    
+    public MemorizadorTest() {
+    }
+    
+    @BeforeClass
+    public static void setUpClass() {
+    }
+    
+    @AfterClass
+    public static void tearDownClass() {
+    }
+    
+    @Before
+    public void setUp() {
+    }
+    
+    @After
+    public void tearDown() {
+    }
+
+    /**
+     * Teste dos métodos obter e invalidar
+     * <p>
+     * Primeiro teste: a consulta é realizada uma única vez para cada chave, inclusive com resultado nulo.<br>
+     * Segundo teste: após a invalidação do prefixo, a consulta é realizada novamente.<br>
+     * Terceiro teste: fora de uma requisição JSF, a consulta é sempre realizada.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    @Test
+    public void testeObter() {
+        Map<String, Object> resultados = new HashMap<>();
+        AtomicInteger consultas = new AtomicInteger();
+        System.out.println("Iniciando primeiro teste do memorizador...");
+        assertEquals(Integer.valueOf(1), Memorizador.obter(resultados, "temporadas:a", consultas::incrementAndGet));
+        assertEquals(Integer.valueOf(1), Memorizador.obter(resultados, "temporadas:a", consultas::incrementAndGet));
+        assertNull(Memorizador.obter(resultados, "jogos:a", () -> {
+            consultas.incrementAndGet();
+            return null;
+        }));
+        assertNull(Memorizador.obter(resultados, "jogos:a", consultas::incrementAndGet));
+        assertEquals(2, consultas.get());
+        System.out.println("Iniciando segundo teste do memorizador...");
+        Memorizador.invalidar(resultados, "temporadas:");
+        assertEquals(Integer.valueOf(3), Memorizador.obter(resultados, "temporadas:a", consultas::incrementAndGet));
+        assertTrue(resultados.containsKey("jogos:a"));
+        System.out.println("Iniciando terceiro teste do memorizador...");
+        assertEquals(Integer.valueOf(4), Memorizador.obter("temporadas:a", consultas::incrementAndGet));
+        assertEquals(Integer.valueOf(5), Memorizador.obter("temporadas:a", consultas::incrementAndGet));
+    }
+}
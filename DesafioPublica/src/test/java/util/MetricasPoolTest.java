@@ -0,0 +1,81 @@
+package util;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.PoolStats;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Classe de testes das métricas do pool de conexões
+ * @author Thiago Alexandre Buerger
+ * @version 1.0
+ */
+public class MetricasPoolTest {
+
+    public MetricasPoolTest() {
+    }
+
+    @BeforeClass
+    public static void setUpClass() {
+    }
+
+    @AfterClass
+    public static void tearDownClass() {
+    }
+
+    @Before
+    public void setUp() {
+    }
+
+    @After
+    public void tearDown() {
+    }
+
+    /**
+     * Teste do registro das métricas
+     * <p>
+     * Primeiro teste: verifica as quantidades de conexões informadas pelo pool.<br>
+     * Segundo teste: verifica os tempos de espera e de uso acumulados.<br>
+     * Terceiro teste: verifica se as quantidades são zeradas após o encerramento do pool.
+     * </p>
+     * @author Thiago Alexandre Buerger
+     * @version 1.0
+     */
+    @Test
+    public void testeMetricas() {
+        System.out.println("Iniciando primeiro teste das métricas do pool...");
+        IMetricsTracker registro = new MetricasPool().create("teste", new PoolStats(0) {
+            @Override
+            protected void update() {
+                totalConnections = 5;
+                activeConnections = 2;
+                idleConnections = 3;
+                pendingThreads = 1;
+            }
+        });
+        assertEquals(2, MetricasPool.getAtivas());
+        assertEquals(3, MetricasPool.getOciosas());
+        assertEquals(1, MetricasPool.getAguardando());
+        System.out.println("Iniciando segundo teste das métricas do pool...");
+        long aquisicoes = MetricasPool.getAquisicoes();
+        registro.recordConnectionAcquiredNanos(TimeUnit.MILLISECONDS.toNanos(4));
+        registro.recordConnectionAcquiredNanos(TimeUnit.MILLISECONDS.toNanos(2));
+        registro.recordConnectionUsageMillis(10);
+        registro.recordConnectionTimeout();
+        assertEquals(aquisicoes + 2, MetricasPool.getAquisicoes());
+        assertTrue(MetricasPool.getEsperaMaximaMillis() >= 4);
+        assertTrue(MetricasPool.getEsperaMediaMillis() > 0);
+        assertTrue(MetricasPool.getUsoMedioMillis() > 0);
+        assertTrue(MetricasPool.getTemposEsgotados() >= 1);
+        String estatisticas = MetricasPool.estatisticas();
+        System.out.println("Iniciando terceiro teste das métricas do pool...");
+        registro.close();
+        assertEquals(0, MetricasPool.getAtivas());
+        System.out.println("Resultado: " + estatisticas);
+    }
+}
@@ -9,6 +9,9 @@ CREATE TABLE jogador(
 	max_jogador INTEGER NOT NULL,
 	quebra_recorde_min_jogador INTEGER NOT NULL,
 	quebra_recorde_max_jogador INTEGER NOT NULL,
+	qtd_jogos_jogador INTEGER NOT NULL DEFAULT 0,
+	soma_pontuacao_jogador BIGINT NOT NULL DEFAULT 0,
+	ultimo_jogo_jogador DATETIME NULL,
 	login_jogador VARCHAR(30) NOT NULL,
 	senha_jogador VARCHAR(30) NOT NULL
 );
@@ -18,7 +21,13 @@ CREATE TABLE temporada(
 	nome_temporada VARCHAR(30) NOT NULL,
 	min_temporada INTEGER NOT NULL,
 	max_temporada INTEGER NOT NULL,
+	qtd_jogos_temporada INTEGER NOT NULL DEFAULT 0,
+	soma_pontuacao_temporada BIGINT NOT NULL DEFAULT 0,
+	ultimo_jogo_temporada DATETIME NULL,
 	jogador_temporada INTEGER NOT NULL,
+	INDEX idx_temporada_jogador_nome (jogador_temporada, nome_temporada, id_temporada),
+	INDEX idx_temporada_jogador_min (jogador_temporada, min_temporada, id_temporada),
+	INDEX idx_temporada_jogador_max (jogador_temporada, max_temporada, id_temporada),
 	FOREIGN KEY (jogador_temporada) REFERENCES jogador(id_jogador) ON DELETE CASCADE
 );
 
@@ -28,5 +37,25 @@ CREATE TABLE jogo (
 	descricao_jogo VARCHAR(250) NOT NULL,
 	placar_jogo INTEGER NOT NULL,
 	temporada_jogo INTEGER NOT NULL,
-	FOREIGN KEY (temporada_jogo) REFERENCES temporada(id_temporada) ON DELETE CASCADE
-);
\ No newline at end of file
+	jogador_jogo INTEGER NOT NULL,
+	INDEX idx_jogo_temporada_data (temporada_jogo, data_jogo, id_jogo),
+	INDEX idx_jogo_temporada_placar (temporada_jogo, placar_jogo, id_jogo),
+	INDEX idx_jogo_jogador_data (jogador_jogo, data_jogo, id_jogo),
+	INDEX idx_jogo_jogador_placar (jogador_jogo, placar_jogo, id_jogo),
+	UNIQUE KEY uk_jogo_jogador_data (jogador_jogo, data_jogo),
+	FOREIGN KEY (temporada_jogo) REFERENCES temporada(id_temporada) ON DELETE CASCADE,
+	FOREIGN KEY (jogador_jogo) REFERENCES jogador(id_jogador) ON DELETE CASCADE
+);
+
+CREATE TABLE jogo_evento (
+	id_evento BIGINT PRIMARY KEY AUTO_INCREMENT,
+	tipo_evento VARCHAR(10) NOT NULL,
+	jogo_evento INTEGER NOT NULL,
+	temporada_evento INTEGER NOT NULL,
+	jogador_evento INTEGER NOT NULL,
+	data_jogo_evento DATETIME NOT NULL,
+	placar_evento INTEGER NOT NULL,
+	registro_evento DATETIME NOT NULL,
+	INDEX idx_jogo_evento_jogador (jogador_evento, id_evento),
+	FOREIGN KEY (jogador_evento) REFERENCES jogador(id_jogador) ON DELETE CASCADE
+);
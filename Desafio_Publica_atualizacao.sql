@@ -0,0 +1,73 @@
+-- Atualização de bancos criados com versões anteriores do Desafio_Publica.sql.
+-- Os comandos devem ser executados em ordem, uma única vez.
+USE desafio_publica;
+
+-- Dados agregados mantidos a cada novo jogo (quantidade de jogos, soma das pontuações e último jogo).
+ALTER TABLE jogador
+	ADD COLUMN qtd_jogos_jogador INTEGER NOT NULL DEFAULT 0,
+	ADD COLUMN soma_pontuacao_jogador BIGINT NOT NULL DEFAULT 0,
+	ADD COLUMN ultimo_jogo_jogador DATETIME NULL;
+
+ALTER TABLE temporada
+	ADD COLUMN qtd_jogos_temporada INTEGER NOT NULL DEFAULT 0,
+	ADD COLUMN soma_pontuacao_temporada BIGINT NOT NULL DEFAULT 0,
+	ADD COLUMN ultimo_jogo_temporada DATETIME NULL;
+
+UPDATE temporada t
+	JOIN (SELECT temporada_jogo, COUNT(*) AS qtd, SUM(placar_jogo) AS soma, MAX(data_jogo) AS ultimo
+		FROM jogo GROUP BY temporada_jogo) a ON a.temporada_jogo = t.id_temporada
+	SET t.qtd_jogos_temporada = a.qtd, t.soma_pontuacao_temporada = a.soma, t.ultimo_jogo_temporada = a.ultimo;
+
+UPDATE jogador p
+	JOIN (SELECT jogador_temporada, SUM(qtd_jogos_temporada) AS qtd, SUM(soma_pontuacao_temporada) AS soma, MAX(ultimo_jogo_temporada) AS ultimo
+		FROM temporada GROUP BY jogador_temporada) a ON a.jogador_temporada = p.id_jogador
+	SET p.qtd_jogos_jogador = a.qtd, p.soma_pontuacao_jogador = a.soma, p.ultimo_jogo_jogador = a.ultimo;
+
+-- Diário de jogos (somente inclusão), utilizado para reconstruir os dados agregados.
+CREATE TABLE jogo_evento (
+	id_evento BIGINT PRIMARY KEY AUTO_INCREMENT,
+	tipo_evento VARCHAR(10) NOT NULL,
+	jogo_evento INTEGER NOT NULL,
+	temporada_evento INTEGER NOT NULL,
+	jogador_evento INTEGER NOT NULL,
+	data_jogo_evento DATETIME NOT NULL,
+	placar_evento INTEGER NOT NULL,
+	registro_evento DATETIME NOT NULL,
+	INDEX idx_jogo_evento_jogador (jogador_evento, id_evento),
+	FOREIGN KEY (jogador_evento) REFERENCES jogador(id_jogador) ON DELETE CASCADE
+);
+
+INSERT INTO jogo_evento (tipo_evento, jogo_evento, temporada_evento, jogador_evento, data_jogo_evento, placar_evento, registro_evento)
+	SELECT 'INCLUSAO', j.id_jogo, j.temporada_jogo, t.jogador_temporada, j.data_jogo, j.placar_jogo, NOW()
+	FROM jogo j JOIN temporada t ON t.id_temporada = j.temporada_jogo
+	ORDER BY j.data_jogo, j.id_jogo;
+
+-- Índice da paginação por chave dos jogos (data_jogo, id_jogo) dentro de cada temporada.
+CREATE INDEX idx_jogo_temporada_data ON jogo (temporada_jogo, data_jogo, id_jogo);
+
+-- Índices das ordenações permitidas nas tabelas de jogos e temporadas.
+CREATE INDEX idx_jogo_temporada_placar ON jogo (temporada_jogo, placar_jogo, id_jogo);
+CREATE INDEX idx_temporada_jogador_nome ON temporada (jogador_temporada, nome_temporada, id_temporada);
+CREATE INDEX idx_temporada_jogador_min ON temporada (jogador_temporada, min_temporada, id_temporada);
+CREATE INDEX idx_temporada_jogador_max ON temporada (jogador_temporada, max_temporada, id_temporada);
+
+-- Jogador de cada jogo e chave única (jogador, data), que impede dois jogos do mesmo jogador na mesma data e hora,
+-- inclusive quando inseridos por outros processos (ImportadorJogos) ou servidores.
+-- Jogos repetidos já existentes devem ser removidos antes da criação da chave. Para listá-los:
+-- SELECT t.jogador_temporada, j.data_jogo, COUNT(*) FROM jogo j JOIN temporada t ON t.id_temporada = j.temporada_jogo
+-- 	GROUP BY t.jogador_temporada, j.data_jogo HAVING COUNT(*) > 1;
+ALTER TABLE jogo ADD COLUMN jogador_jogo INTEGER NULL;
+
+UPDATE jogo j
+	JOIN temporada t ON t.id_temporada = j.temporada_jogo
+	SET j.jogador_jogo = t.jogador_temporada;
+
+ALTER TABLE jogo
+	MODIFY jogador_jogo INTEGER NOT NULL,
+	ADD UNIQUE KEY uk_jogo_jogador_data (jogador_jogo, data_jogo),
+	ADD FOREIGN KEY (jogador_jogo) REFERENCES jogador(id_jogador) ON DELETE CASCADE;
+
+-- Índices das ordenações por data (inclusive a paginação por chave) e por placar na pesquisa de todos os jogos do jogador,
+-- que filtra pela coluna jogador_jogo sem consultar a temporada.
+CREATE INDEX idx_jogo_jogador_data ON jogo (jogador_jogo, data_jogo, id_jogo);
+CREATE INDEX idx_jogo_jogador_placar ON jogo (jogador_jogo, placar_jogo, id_jogo);